@@ -13,6 +13,8 @@ const restoreStateFunction = jest.fn()
 // This type of error is passed in async and event case.
 const nativeOperationCancelledError =
   '{"errorCode": 2, "attErrorCode": null, "iosErrorCode": null, "reason": null, "androidErrorCode": null}'
+const nativeReadFailedError =
+  '{"errorCode": 402, "attErrorCode": null, "iosErrorCode": null, "reason": null, "androidErrorCode": null}'
 
 beforeEach(() => {
   Native.BleModule = {
@@ -26,25 +28,50 @@ beforeEach(() => {
     state: jest.fn(),
     startDeviceScan: jest.fn(),
     stopDeviceScan: jest.fn(),
+    scanStatistics: jest.fn(),
+    scannedDevices: jest.fn(),
     readRSSIForDevice: jest.fn(),
     connectToDevice: jest.fn(),
     cancelDeviceConnection: jest.fn(),
     isDeviceConnected: jest.fn(),
+    configureConnectionPool: jest.fn(),
+    connectionPoolStatistics: jest.fn(),
     discoverAllServicesAndCharacteristicsForDevice: jest.fn(),
+    discoverServicesForDevice: jest.fn(),
+    cachedLayoutForDevice: jest.fn(),
+    clearLayoutCache: jest.fn(),
     servicesForDevice: jest.fn(),
+    gattSnapshotForDevice: jest.fn(),
     characteristicsForDevice: jest.fn(),
     descriptorsForDevice: jest.fn(),
     readCharacteristicForDevice: jest.fn(),
+    setReadCacheTtlForDevice: jest.fn(),
     writeCharacteristicForDevice: jest.fn(),
     monitorCharacteristicForDevice: jest.fn(),
+    grantMonitorCredits: jest.fn(),
+    executeOperations: jest.fn(),
+    scheduleTransaction: jest.fn(),
+    operationQueueStatisticsForDevice: jest.fn(),
+    writeCharacteristicStreamForDevice: jest.fn(),
+    prepareCharacteristic: jest.fn(),
+    releaseCharacteristicHandle: jest.fn(),
+    readCharacteristicForHandle: jest.fn(),
+    writeCharacteristicForHandle: jest.fn(),
+    monitorCharacteristicForHandle: jest.fn(),
+    monitorStatistics: jest.fn(),
     readDescriptorForDevice: jest.fn(),
     writeDescriptorForDevice: jest.fn(),
     requestMTUForDevice: jest.fn(),
     requestConnectionPriorityForDevice: jest.fn(),
     ScanEvent: 'scan_event',
+    ScanBatchEvent: 'scan_batch_event',
+    ScanRegistryEvent: 'scan_registry_event',
     ReadEvent: 'read_event',
+    ReadBatchEvent: 'read_batch_event',
+    WriteProgressEvent: 'write_progress_event',
     StateChangeEvent: 'state_change_event',
-    DisconnectionEvent: 'disconnection_event'
+    DisconnectionEvent: 'disconnection_event',
+    ReconnectionEvent: 'reconnection_event'
   }
   bleManager = new BleManager({
     restoreStateIdentifier: 'identifier',
@@ -180,6 +207,45 @@ test('When BleManager scans two devices it passes them to callback function', ()
   expect(Native.BleModule.stopDeviceScan).toBeCalled()
 })
 
+test('When BleManager receives batch of scanned devices it passes each of them to callback function', () => {
+  const listener = jest.fn()
+
+  bleManager.startDeviceScan(null, { batchIntervalMs: 100 }, listener)
+  Native.BleModule.emit(Native.BleModule.ScanBatchEvent, [null, [{ id: '1' }, { id: '2' }]])
+  bleManager.stopDeviceScan()
+  Native.BleModule.emit(Native.BleModule.ScanBatchEvent, [null, [{ id: '3' }]])
+
+  expect(listener.mock.calls.length).toBe(2)
+  expect(listener.mock.calls[0][1]).toBeInstanceOf(Device)
+  expect(listener.mock.calls[0][1].id).toBe('1')
+  expect(listener.mock.calls[1][1].id).toBe('2')
+  expect(Native.BleModule.startDeviceScan).toBeCalledWith(null, { batchIntervalMs: 100 })
+})
+
+test('BleManager returns scan statistics from BleModule', async () => {
+  const statistics = { receivedResults: 3, emittedResults: 0, batchedResults: 3, emittedBatches: 1 }
+  Native.BleModule.scanStatistics = jest.fn().mockReturnValueOnce(Promise.resolve(statistics))
+  expect(await bleManager.scanStatistics()).toEqual(statistics)
+})
+
+test('BleManager wraps scan registry entries and changes into Device objects', async () => {
+  const entry = { device: { id: '1' }, firstSeen: 10, lastSeen: 20, sightings: 3 }
+  Native.BleModule.scannedDevices = jest.fn().mockReturnValueOnce(Promise.resolve([entry]))
+  const scannedDevices = await bleManager.scannedDevices(null)
+  expect(Native.BleModule.scannedDevices).toBeCalledWith(null)
+  expect(scannedDevices[0].device).toBeInstanceOf(Device)
+  expect(scannedDevices[0].sightings).toBe(3)
+
+  const listener = jest.fn()
+  const subscription = bleManager.onScannedDevicesChange(listener)
+  Native.BleModule.emit(Native.BleModule.ScanRegistryEvent, [null, { ...entry, type: 'leave' }])
+  subscription.remove()
+  Native.BleModule.emit(Native.BleModule.ScanRegistryEvent, [null, { ...entry, type: 'enter' }])
+  expect(listener).toHaveBeenCalledTimes(1)
+  expect(listener.mock.calls[0][1].type).toBe('leave')
+  expect(listener.mock.calls[0][1].device).toBeInstanceOf(Device)
+})
+
 test('When BleManager calls connectToDevice equivalent BleModule function should be called', async () => {
   Native.BleModule.connectToDevice = jest.fn().mockReturnValue(Promise.resolve({ id: 'id' }))
   expect(await bleManager.connectToDevice('id', {})).toBeInstanceOf(Device)
@@ -219,6 +285,54 @@ test('BleManager handles errors properly while monitoring disconnections', () =>
   expect(listener.mock.calls[0][0].message).toBe(BleErrorCodeMessage[BleErrorCode.OperationCancelled])
 })
 
+test('BleManager monitors device reconnection properly', () => {
+  const listener = jest.fn()
+  const subscription = bleManager.onDeviceReconnection('id', listener)
+  Native.BleModule.emit(Native.BleModule.ReconnectionEvent, [
+    null,
+    { deviceID: 'id2', state: 'Reconnecting', attempt: 1, delayMs: 500 }
+  ])
+  Native.BleModule.emit(Native.BleModule.ReconnectionEvent, [
+    null,
+    { deviceID: 'id', state: 'Reconnected', attempt: 1, downtimeMs: 800, attemptDurationMs: 300 }
+  ])
+  Native.BleModule.emit(Native.BleModule.ReconnectionEvent, [
+    nativeOperationCancelledError,
+    { deviceID: 'id', state: 'Failed', attempt: 3 }
+  ])
+  subscription.remove()
+  Native.BleModule.emit(Native.BleModule.ReconnectionEvent, [
+    null,
+    { deviceID: 'id', state: 'Reconnecting', attempt: 1 }
+  ])
+
+  expect(listener.mock.calls.length).toBe(2)
+  expect(listener.mock.calls[0][0]).toBeFalsy()
+  expect(listener.mock.calls[0][1].state).toBe('Reconnected')
+  expect(listener.mock.calls[0][1].downtimeMs).toBe(800)
+  expect(listener.mock.calls[1][0].message).toBe(BleErrorCodeMessage[BleErrorCode.OperationCancelled])
+  expect(listener.mock.calls[1][1].state).toBe('Failed')
+})
+
+test('BleManager passes connection pool options and returns its statistics', async () => {
+  const statistics = {
+    maxConnections: 4,
+    connected: 4,
+    pinned: 1,
+    connecting: 0,
+    queued: 1,
+    connectionAttempts: 6,
+    evictions: 2,
+    queueTimeouts: 0,
+    averageWaitMs: 120,
+    maxWaitMs: 400
+  }
+  bleManager.configureConnectionPool({ maxConnections: 4, queueTimeoutMs: 10000 })
+  expect(Native.BleModule.configureConnectionPool).toBeCalledWith({ maxConnections: 4, queueTimeoutMs: 10000 })
+  Native.BleModule.connectionPoolStatistics = jest.fn().mockReturnValueOnce(Promise.resolve(statistics))
+  expect(await bleManager.connectionPoolStatistics()).toEqual(statistics)
+})
+
 test('BleManager calls BleModule isDeviceConnected function properly', async () => {
   Native.BleModule.isDeviceConnected = jest
     .fn()
@@ -334,7 +448,90 @@ test('BleManager properly monitors characteristic value', async () => {
   subscription.remove()
   expect(listener).toHaveBeenCalledTimes(2)
   expect(Native.BleModule.cancelTransaction).toBeCalledWith('x')
-  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'x')
+  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'x', undefined)
+})
+
+test('BleManager unpacks batched characteristic values', async () => {
+  const listener = jest.fn()
+  const options = { batch: { intervalMs: 50 } }
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', options)
+  Native.BleModule.emit(Native.BleModule.ReadBatchEvent, [
+    null,
+    { characteristic: { id: 'a', value: null }, values: ['a', 'b'], timestamps: [1, 2] },
+    'x'
+  ])
+  Native.BleModule.emit(Native.BleModule.ReadBatchEvent, [
+    null,
+    { characteristic: null, values: ['c'], timestamps: [3] },
+    'x'
+  ])
+  Native.BleModule.emit(Native.BleModule.ReadBatchEvent, [
+    null,
+    { characteristic: null, values: ['d'], timestamps: [4] },
+    'y'
+  ])
+  subscription.remove()
+  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'x', options)
+  expect(listener).toHaveBeenCalledTimes(3)
+  expect(listener.mock.calls[0][1]).toMatchObject({ id: 'a', value: 'a', timestamp: 1 })
+  expect(listener.mock.calls[1][1]).toMatchObject({ id: 'a', value: 'b', timestamp: 2 })
+  expect(listener.mock.calls[2][1]).toMatchObject({ id: 'a', value: 'c', timestamp: 3 })
+})
+
+test('BleManager passes aggregated characteristic values', async () => {
+  const listener = jest.fn()
+  const options = { aggregate: { windowMs: 1000, fields: [{ offset: 1, width: 2, signed: true, scale: 0.01 }] } }
+  const aggregate = {
+    windowStart: 0,
+    windowEnd: 1000,
+    count: 10,
+    skipped: 0,
+    fields: [{ min: -1, max: 2, mean: 0.5, last: 1 }]
+  }
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', options)
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: null, aggregate }, 'x'])
+  subscription.remove()
+  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 'x', options)
+  expect(listener).toHaveBeenCalledTimes(1)
+  expect(listener.mock.calls[0][1]).toMatchObject({ id: 'a', value: null, aggregate })
+})
+
+test('BleManager grants monitor credits back after handling events', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', {
+    flowControl: { credits: 4 }
+  })
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'a' }, 'x'])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'b' }, 'x'])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'c' }, 'x'])
+  subscription.remove()
+  expect(listener).toHaveBeenCalledTimes(3)
+  expect(Native.BleModule.grantMonitorCredits).toHaveBeenCalledTimes(1)
+  expect(Native.BleModule.grantMonitorCredits).toBeCalledWith('x', 2)
+})
+
+test('BleManager leaves monitor credits to application with manualCredits', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  const subscription = bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x', {
+    flowControl: { credits: 2, manualCredits: true }
+  })
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'a' }, 'x'])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'b' }, 'x'])
+  expect(Native.BleModule.grantMonitorCredits).not.toBeCalled()
+  bleManager.grantMonitorCredits('x', 5)
+  subscription.remove()
+  expect(Native.BleModule.grantMonitorCredits).toBeCalledWith('x', 5)
+})
+
+test('BleManager returns monitor statistics', async () => {
+  const statistics = { queued: 1, dropped: 2, emitted: 3, credits: 0 }
+  Native.BleModule.monitorStatistics = jest.fn().mockReturnValue(Promise.resolve(statistics))
+  await expect(bleManager.monitorStatistics('x')).resolves.toBe(statistics)
+  expect(Native.BleModule.monitorStatistics).toBeCalledWith('x')
 })
 
 test('BleManager properly handles errors while monitoring characteristic values', async () => {
@@ -347,6 +544,159 @@ test('BleManager properly handles errors while monitoring characteristic values'
   expect(listener.mock.calls[0][0].message).toBe(BleErrorCodeMessage[BleErrorCode.OperationCancelled])
 })
 
+test('BleManager wraps GATT snapshot entries', async () => {
+  Native.BleModule.gattSnapshotForDevice = jest.fn().mockReturnValue(
+    Promise.resolve({
+      services: [
+        {
+          service: { id: 1, uuid: 'aaaa' },
+          characteristics: [{ characteristic: { id: 2, uuid: 'bbbb' }, descriptors: [{ id: 3, uuid: 'cccc' }] }]
+        }
+      ]
+    })
+  )
+  const snapshot = await bleManager.gattSnapshotForDevice('id')
+  expect(Native.BleModule.gattSnapshotForDevice).toBeCalledWith('id')
+  expect(snapshot.services[0].service).toBeInstanceOf(Service)
+  expect(snapshot.services[0].service.uuid).toBe('aaaa')
+  const characteristicEntry = snapshot.services[0].characteristics[0]
+  expect(characteristicEntry.characteristic).toBeInstanceOf(Characteristic)
+  expect(characteristicEntry.characteristic.id).toBe(2)
+  expect(characteristicEntry.descriptors[0]).toBeInstanceOf(Descriptor)
+  expect(characteristicEntry.descriptors[0].uuid).toBe('cccc')
+})
+
+test('BleManager discovers requested services', async () => {
+  Native.BleModule.discoverServicesForDevice = jest.fn().mockReturnValue(Promise.resolve([{ uuid: 'aaaa' }]))
+  const services = await bleManager.discoverServicesForDevice('id', ['aaaa'], 'trId')
+  expect(Native.BleModule.discoverServicesForDevice).toBeCalledWith('id', ['aaaa'], 'trId')
+  expect(services.length).toBe(1)
+  expect(services[0]).toBeInstanceOf(Service)
+  expect(services[0].uuid).toBe('aaaa')
+})
+
+test('BleManager reads and clears stored GATT layout', async () => {
+  const layout = {
+    services: [{ uuid: 'aaaa', isPrimary: true, characteristics: [] }]
+  }
+  Native.BleModule.cachedLayoutForDevice = jest.fn().mockReturnValue(Promise.resolve(layout))
+  await expect(bleManager.cachedLayoutForDevice('id')).resolves.toBe(layout)
+  expect(Native.BleModule.cachedLayoutForDevice).toBeCalledWith('id')
+  bleManager.clearLayoutCache('id')
+  expect(Native.BleModule.clearLayoutCache).toBeCalledWith('id')
+})
+
+test('BleManager configures read cache of characteristic', () => {
+  bleManager.setReadCacheTtlForDevice('id', 'aaaa', 'bbbb', 5000)
+  expect(Native.BleModule.setReadCacheTtlForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 5000)
+})
+
+test('BleManager schedules transactions and reads operation queue statistics', async () => {
+  const lane = { queued: 0, executed: 2, expired: 0, cancelled: 0, averageWaitMs: 1.5, maxWaitMs: 2 }
+  const statistics = { Control: lane, Interactive: lane, Bulk: lane }
+  Native.BleModule.operationQueueStatisticsForDevice = jest.fn().mockReturnValue(Promise.resolve(statistics))
+  bleManager.scheduleTransaction('trId', { priority: 'Control', deadlineMs: 200 })
+  expect(Native.BleModule.scheduleTransaction).toBeCalledWith('trId', { priority: 'Control', deadlineMs: 200 })
+  await expect(bleManager.operationQueueStatisticsForDevice('id')).resolves.toBe(statistics)
+  expect(Native.BleModule.operationQueueStatisticsForDevice).toBeCalledWith('id')
+})
+
+test('BleManager executes batched operations', async () => {
+  const operations = [
+    { type: 'Write', serviceUUID: 'aaaa', characteristicUUID: 'bbbb', value: 'AQ==' },
+    { type: 'Read', serviceUUID: 'aaaa', characteristicUUID: 'cccc' },
+    { type: 'ReadDescriptor', serviceUUID: 'aaaa', characteristicUUID: 'cccc', descriptorUUID: 'dddd' }
+  ]
+  Native.BleModule.executeOperations = jest.fn().mockReturnValue(
+    Promise.resolve([
+      { error: null, characteristic: { id: 'b', value: 'AQ==' }, descriptor: null },
+      { error: nativeReadFailedError, characteristic: null, descriptor: null },
+      { error: null, characteristic: null, descriptor: { id: 'd', value: 'AA==' } }
+    ])
+  )
+  const results = await bleManager.executeOperations('id', operations, { stopOnError: false }, 'trId')
+  expect(Native.BleModule.executeOperations).toBeCalledWith('id', operations, { stopOnError: false }, 'trId')
+  expect(results.length).toBe(3)
+  expect(results[0].error).toBeNull()
+  expect(results[0].characteristic).toBeInstanceOf(Characteristic)
+  expect(results[1].error.message).toBe(BleErrorCodeMessage[BleErrorCode.CharacteristicReadFailed])
+  expect(results[1].characteristic).toBeNull()
+  expect(results[2].descriptor).toBeInstanceOf(Descriptor)
+})
+
+test('BleManager rejects cancelled batched operations', async () => {
+  Native.BleModule.executeOperations = jest.fn(async () => {
+    throw new Error(nativeOperationCancelledError)
+  })
+  await expect(bleManager.executeOperations('id', [], null, 'trId')).rejects.toThrowError(
+    BleErrorCodeMessage[BleErrorCode.OperationCancelled]
+  )
+})
+
+test('BleManager reports progress of streamed write until it finishes', async () => {
+  let resolveWrite
+  Native.BleModule.writeCharacteristicStreamForDevice = jest.fn().mockReturnValue(
+    new Promise(resolve => {
+      resolveWrite = resolve
+    })
+  )
+  const progressListener = jest.fn()
+  const options = { chunkSize: 20, window: 2 }
+  const writePromise = bleManager.writeCharacteristicStreamForDevice(
+    'id',
+    'aaaa',
+    'bbbb',
+    'AAAA',
+    options,
+    progressListener,
+    'trId'
+  )
+  expect(Native.BleModule.writeCharacteristicStreamForDevice).toBeCalledWith(
+    'id',
+    'aaaa',
+    'bbbb',
+    'AAAA',
+    options,
+    'trId'
+  )
+  const progress = { offset: 20, acknowledgedOffset: 0, total: 60 }
+  const finalProgress = { offset: 60, acknowledgedOffset: 60, total: 60 }
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, [null, progress, 'trId'])
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, [null, progress, 'otherId'])
+  resolveWrite(finalProgress)
+  await expect(writePromise).resolves.toEqual(finalProgress)
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, [null, finalProgress, 'trId'])
+  expect(progressListener.mock.calls).toEqual([[progress]])
+})
+
+test('BleManager operates on characteristics using handles', async () => {
+  Native.BleModule.prepareCharacteristic = jest.fn().mockReturnValue(Promise.resolve(7))
+  Native.BleModule.readCharacteristicForHandle = jest.fn().mockReturnValue(Promise.resolve({ id: 'a', value: 'a' }))
+  Native.BleModule.writeCharacteristicForHandle = jest.fn().mockReturnValue(Promise.resolve({ id: 'a', value: 'b' }))
+  const handle = await bleManager.prepareCharacteristic('id', 'aaaa', 'bbbb')
+  expect(handle).toBe(7)
+  expect(Native.BleModule.prepareCharacteristic).toBeCalledWith('id', 'aaaa', 'bbbb')
+  await expect(bleManager.readCharacteristicForHandle(handle, 'r')).resolves.toBeInstanceOf(Characteristic)
+  expect(Native.BleModule.readCharacteristicForHandle).toBeCalledWith(7, 'r')
+  await bleManager.writeCharacteristicWithResponseForHandle(handle, 'b', 'w1')
+  expect(Native.BleModule.writeCharacteristicForHandle).toBeCalledWith(7, 'b', true, 'w1')
+  await bleManager.writeCharacteristicWithoutResponseForHandle(handle, 'b', 'w2')
+  expect(Native.BleModule.writeCharacteristicForHandle).toBeCalledWith(7, 'b', false, 'w2')
+  bleManager.releaseCharacteristicHandle(handle)
+  expect(Native.BleModule.releaseCharacteristicHandle).toBeCalledWith(7)
+})
+
+test('BleManager monitors characteristic using handle', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForHandle = jest.fn().mockReturnValue(Promise.resolve(null))
+  const subscription = bleManager.monitorCharacteristicForHandle(7, listener, 'x')
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'b' }, 'x'])
+  subscription.remove()
+  expect(listener).toHaveBeenCalledTimes(1)
+  expect(Native.BleModule.monitorCharacteristicForHandle).toBeCalledWith(7, 'x', undefined)
+  expect(Native.BleModule.cancelTransaction).toBeCalledWith('x')
+})
+
 test('BleManager properly requests the MTU', async () => {
   bleManager.requestMTUForDevice('id', 99, 'trId')
   expect(Native.BleModule.requestMTUForDevice).toBeCalledWith('id', 99, 'trId')
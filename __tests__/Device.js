@@ -34,11 +34,32 @@ describe("Test if Device is properly calling BleManager's utility function: ", (
     expect(bleManager.onDeviceDisconnected).toBeCalledWith('id', listener)
   })
 
+  test('onReconnection', async () => {
+    const listener = jest.fn()
+    await device.onReconnection(listener)
+    expect(bleManager.onDeviceReconnection).toBeCalledWith('id', listener)
+  })
+
   test('discoverAllServicesAndCharacteristics', async () => {
     await device.discoverAllServicesAndCharacteristics('transaction')
     expect(bleManager.discoverAllServicesAndCharacteristicsForDevice).toBeCalledWith('id', 'transaction')
   })
 
+  test('gattSnapshot', async () => {
+    await device.gattSnapshot()
+    expect(bleManager.gattSnapshotForDevice).toBeCalledWith('id')
+  })
+
+  test('discoverServices', async () => {
+    await device.discoverServices(['aaaa'], 'transaction')
+    expect(bleManager.discoverServicesForDevice).toBeCalledWith('id', ['aaaa'], 'transaction')
+  })
+
+  test('cachedLayout', async () => {
+    await device.cachedLayout()
+    expect(bleManager.cachedLayoutForDevice).toBeCalledWith('id')
+  })
+
   test('services', async () => {
     await device.services()
     expect(bleManager.servicesForDevice).toBeCalledWith('id')
@@ -72,7 +93,37 @@ describe("Test if Device is properly calling BleManager's utility function: ", (
   test('monitorCharacteristicForService', async () => {
     const listener = jest.fn()
     await device.monitorCharacteristicForService('aaaa', 'bbbb', listener, 'id')
-    expect(bleManager.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', listener, 'id')
+    expect(bleManager.monitorCharacteristicForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', listener, 'id', undefined)
+  })
+
+  test('executeOperations', async () => {
+    const operations = [{ type: 'Read', serviceUUID: 'aaaa', characteristicUUID: 'bbbb' }]
+    await device.executeOperations(operations, { stopOnError: true }, 'id')
+    expect(bleManager.executeOperations).toBeCalledWith('id', operations, { stopOnError: true }, 'id')
+  })
+
+  test('setReadCacheTtlForService', () => {
+    device.setReadCacheTtlForService('aaaa', 'bbbb', 5000)
+    expect(bleManager.setReadCacheTtlForDevice).toBeCalledWith('id', 'aaaa', 'bbbb', 5000)
+  })
+
+  test('operationQueueStatistics', async () => {
+    await device.operationQueueStatistics()
+    expect(bleManager.operationQueueStatisticsForDevice).toBeCalledWith('id')
+  })
+
+  test('writeCharacteristicStreamForService', async () => {
+    const progressListener = jest.fn()
+    await device.writeCharacteristicStreamForService('aaaa', 'bbbb', 'AAAA', { window: 2 }, progressListener, 'id')
+    expect(bleManager.writeCharacteristicStreamForDevice).toBeCalledWith(
+      'id',
+      'aaaa',
+      'bbbb',
+      'AAAA',
+      { window: 2 },
+      progressListener,
+      'id'
+    )
   })
 
   test('readDescriptorForService', async () => {
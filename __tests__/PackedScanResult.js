@@ -0,0 +1,37 @@
+jest.mock('../src/BleManager')
+const { Buffer } = require('buffer')
+const { BleManager } = require('../src/BleManager')
+const { Device } = require('../src/Device')
+const { unpackDevice } = require('../src/PackedScanResult')
+
+const packed = Buffer.from([
+  // version, address
+  0x01, 0xaa, 0xbb, 0xcc, 0x01, 0x02, 0x03,
+  // rssi -60, tx power -12, flags: connectable known, connectable, tx power present
+  0xc4, 0xf4, 0x07,
+  // mtu 23, name "ab"
+  0x17, 0x00, 0x02, 0x61, 0x62,
+  // complete list of 16-bit service UUIDs: 180d
+  0x03, 0x03, 0x0d, 0x18,
+  // service data of 180f: 0x64
+  0x04, 0x16, 0x0f, 0x18, 0x64,
+  // manufacturer data: 0x4c 0x00 0x01
+  0x04, 0xff, 0x4c, 0x00, 0x01
+]).toString('base64')
+
+test('Packed scan result is unpacked into Device with lazily decoded fields', () => {
+  const device = unpackDevice(packed, new BleManager())
+  expect(device).toBeInstanceOf(Device)
+  expect(device.id).toBe('AA:BB:CC:01:02:03')
+  expect(device.name).toBe('ab')
+  expect(device.rssi).toBe(-60)
+  expect(device.mtu).toBe(23)
+  expect(device.txPowerLevel).toBe(-12)
+  expect(device.isConnectable).toBe(true)
+  expect(device.localName).toBeNull()
+  expect(device.serviceUUIDs).toEqual(['0000180d-0000-1000-8000-00805f9b34fb'])
+  expect(device.serviceData).toEqual({ '0000180f-0000-1000-8000-00805f9b34fb': 'ZA==' })
+  expect(device.manufacturerData).toBe(Buffer.from([0x4c, 0x00, 0x01]).toString('base64'))
+  expect(device.solicitedServiceUUIDs).toBeNull()
+  expect(device.overflowServiceUUIDs).toBeNull()
+})
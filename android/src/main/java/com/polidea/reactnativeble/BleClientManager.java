@@ -1,5 +1,8 @@
 package com.polidea.reactnativeble;
 
+import android.bluetooth.le.ScanFilter;
+import android.os.SystemClock;
+
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
@@ -25,13 +28,41 @@ import com.polidea.multiplatformbleadapter.RefreshGattMoment;
 import com.polidea.multiplatformbleadapter.ScanResult;
 import com.polidea.multiplatformbleadapter.Service;
 import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.connection.ConnectionPool;
+import com.polidea.reactnativeble.connection.ReconnectSupervisor;
 import com.polidea.reactnativeble.converter.*;
+import com.polidea.reactnativeble.handle.CharacteristicHandleTable;
+import com.polidea.reactnativeble.layout.GattLayoutCache;
+import com.polidea.reactnativeble.layout.GattSnapshotCache;
+import com.polidea.reactnativeble.layout.ServiceDiscoveryTracker;
+import com.polidea.reactnativeble.monitor.CharacteristicMonitor;
+import com.polidea.reactnativeble.monitor.MonitorOptions;
+import com.polidea.reactnativeble.operations.CharacteristicReadCoalescer;
+import com.polidea.reactnativeble.operations.ChunkedWriter;
+import com.polidea.reactnativeble.operations.GattOperationBatch;
+import com.polidea.reactnativeble.operations.GattOperationScheduler;
+import com.polidea.reactnativeble.scan.AdvertisementFilter;
+import com.polidea.reactnativeble.scan.HardwareScanFilters;
+import com.polidea.reactnativeble.scan.PackedScanResultEncoder;
+import com.polidea.reactnativeble.scan.PlatformScanner;
+import com.polidea.reactnativeble.scan.RssiSmoother;
+import com.polidea.reactnativeble.scan.ScanRegistry;
+import com.polidea.reactnativeble.scan.ScanResultBatcher;
+import com.polidea.reactnativeble.scan.ScanResultDeduplicator;
+import com.polidea.reactnativeble.scan.ScanStatistics;
 import com.polidea.reactnativeble.utils.ReadableArrayConverter;
 import com.polidea.reactnativeble.utils.SafePromise;
+import com.polidea.reactnativeble.utils.UUIDConverter;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -41,6 +72,9 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     // Name of module
     private static final String NAME = "BleClientManager";
 
+    private static final String DISCOVERY_TRANSACTION_PREFIX = "discovery/";
+    private static final String RECONNECT_TRANSACTION_PREFIX = "reconnect/";
+
     // Value converters
     private final GenericExceptionConverter genericExceptionConverter = new GenericExceptionConverter();
     private final BleErrorToJsObjectConverter errorConverter = new BleErrorToJsObjectConverter();
@@ -50,10 +84,77 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     private final DescriptorToJsObjectConverter descriptorConverter = new DescriptorToJsObjectConverter();
     private final ServiceToJsObjectConverter serviceConverter = new ServiceToJsObjectConverter();
 
+    // Background work which must not run on the adapter's callback threads
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new Thread(runnable, NAME);
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    // Scanning
+    private final ScanStatistics scanStatistics = new ScanStatistics();
+    private final PlatformScanner platformScanner = new PlatformScanner();
+    @Nullable
+    private volatile AdvertisementFilter advertisementFilter;
+    @Nullable
+    private volatile ScanResultDeduplicator scanResultDeduplicator;
+    @Nullable
+    private volatile ScanResultBatcher scanResultBatcher;
+    @Nullable
+    private volatile ScanRegistry scanRegistry;
+    @Nullable
+    private volatile RssiSmoother rssiSmoother;
+    @Nullable
+    private volatile PackedScanResultEncoder packedScanResultEncoder;
+    private volatile boolean emitScanResults = true;
+
+    // Characteristic operations
+    private final CharacteristicHandleTable characteristicHandles = new CharacteristicHandleTable();
+    private final Map<String, ChunkedWriter> chunkedWriters = new ConcurrentHashMap<>();
+    private final GattOperationScheduler operationScheduler = new GattOperationScheduler(scheduler);
+    private final CharacteristicReadCoalescer readCoalescer = new CharacteristicReadCoalescer();
+
+    // Monitoring
+    private final Map<String, CharacteristicMonitor> monitors = new ConcurrentHashMap<>();
+
+    // Reconnection
+    private final ReconnectSupervisor reconnectSupervisor = new ReconnectSupervisor(scheduler,
+            new ReconnectSupervisor.Listener() {
+                @Override
+                public void onReconnectionEvent(@Nullable BleError error, WritableMap event) {
+                    WritableArray jsEvent = Arguments.createArray();
+                    if (error != null) {
+                        jsEvent.pushString(errorConverter.toJs(error));
+                    } else {
+                        jsEvent.pushNull();
+                    }
+                    jsEvent.pushMap(event);
+                    sendEvent(Event.ReconnectionEvent, jsEvent);
+                }
+            });
+
+    // Connection pool
+    private final ConnectionPool connectionPool = new ConnectionPool(scheduler, new ConnectionPool.Evictor() {
+        @Override
+        public void evict(String deviceId) {
+            evictDevice(deviceId);
+        }
+    });
+
+    // Discovery and layout cache
+    private final ServiceDiscoveryTracker discoveryTracker = new ServiceDiscoveryTracker();
+    private final GattLayoutCache layoutCache;
+    private final GattSnapshotCache snapshotCache =
+            new GattSnapshotCache(serviceConverter, characteristicConverter, descriptorConverter);
+
     private BleAdapter bleAdapter;
 
     public BleClientManager(ReactApplicationContext reactContext) {
         super(reactContext);
+        layoutCache = new GattLayoutCache(reactContext);
     }
 
     @Override
@@ -91,6 +192,24 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void destroyClient() {
+      platformScanner.stop();
+      stopScanResultBatcher();
+      stopScanRegistry();
+      for (ChunkedWriter writer : chunkedWriters.values()) {
+        writer.cancel(new BleError(BleErrorCode.BluetoothManagerDestroyed, null, null));
+      }
+      chunkedWriters.clear();
+      characteristicHandles.clear();
+      operationScheduler.clear();
+      readCoalescer.clear();
+      discoveryTracker.clear();
+      snapshotCache.clear();
+      reconnectSupervisor.clear();
+      connectionPool.clear();
+      for (CharacteristicMonitor monitor : monitors.values()) {
+        monitor.stop();
+      }
+      monitors.clear();
       try {
         bleAdapter.destroyClient();
         bleAdapter = null;
@@ -103,7 +222,17 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void cancelTransaction(String transactionId) {
+      ChunkedWriter writer = chunkedWriters.get(transactionId);
+      if (writer != null) {
+        writer.cancel();
+      }
+      operationScheduler.cancel(transactionId);
+      reconnectSupervisor.cancel(transactionId);
       try {
+        for (String readTransactionId : readCoalescer.cancel(transactionId)) {
+          operationScheduler.cancel(readTransactionId);
+          bleAdapter.cancelTransaction(readTransactionId);
+        }
         bleAdapter.cancelTransaction(transactionId);
       } catch (Exception e) {
         sendEvent(Event.NullAdapterEvent, e);
@@ -185,9 +314,30 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     public void startDeviceScan(@Nullable ReadableArray filteredUUIDs, @Nullable ReadableMap options) {
         final int DEFAULT_SCAN_MODE_LOW_POWER = 0;
         final int DEFAULT_CALLBACK_TYPE_ALL_MATCHES = 1;
+        final int DEFAULT_RSSI_CHANGE_THRESHOLD = 5;
+        final int DEFAULT_REFRESH_INTERVAL_MS = 1000;
+        final int DEFAULT_REGISTRY_MAX_SIZE = 256;
+        final double DEFAULT_RSSI_SMOOTHING_FACTOR = 0.3;
+        final double DEFAULT_PATH_LOSS_EXPONENT = 2.0;
 
         int scanMode = DEFAULT_SCAN_MODE_LOW_POWER;
         int callbackType = DEFAULT_CALLBACK_TYPE_ALL_MATCHES;
+        int batchIntervalMs = 0;
+        int maxBatchSize = 0;
+        boolean deduplicate = false;
+        int rssiChangeThreshold = DEFAULT_RSSI_CHANGE_THRESHOLD;
+        int refreshIntervalMs = DEFAULT_REFRESH_INTERVAL_MS;
+        int reportDelayMs = 0;
+        int registryTtlMs = 0;
+        int registryMaxSize = DEFAULT_REGISTRY_MAX_SIZE;
+        boolean registryEvents = false;
+        boolean emitResults = true;
+        boolean packedScanResults = false;
+        String rssiSmoothing = null;
+        double rssiSmoothingFactor = DEFAULT_RSSI_SMOOTHING_FACTOR;
+        double pathLossExponent = DEFAULT_PATH_LOSS_EXPONENT;
+        AdvertisementFilter filter = null;
+        List<ScanFilter> hardwareFilters = null;
 
         if (options != null) {
             if (options.hasKey("scanMode") && options.getType("scanMode") == ReadableType.Number) {
@@ -196,23 +346,158 @@ public class BleClientManager extends ReactContextBaseJavaModule {
             if (options.hasKey("callbackType") && options.getType("callbackType") == ReadableType.Number) {
                 callbackType = options.getInt("callbackType");
             }
+            if (options.hasKey("batchIntervalMs") && options.getType("batchIntervalMs") == ReadableType.Number) {
+                batchIntervalMs = options.getInt("batchIntervalMs");
+            }
+            if (options.hasKey("maxBatchSize") && options.getType("maxBatchSize") == ReadableType.Number) {
+                maxBatchSize = options.getInt("maxBatchSize");
+            }
+            if (options.hasKey("deduplicate") && options.getType("deduplicate") == ReadableType.Boolean) {
+                deduplicate = options.getBoolean("deduplicate");
+            }
+            if (options.hasKey("rssiChangeThreshold") && options.getType("rssiChangeThreshold") == ReadableType.Number) {
+                rssiChangeThreshold = options.getInt("rssiChangeThreshold");
+            }
+            if (options.hasKey("refreshIntervalMs") && options.getType("refreshIntervalMs") == ReadableType.Number) {
+                refreshIntervalMs = options.getInt("refreshIntervalMs");
+            }
+            if (options.hasKey("reportDelayMs") && options.getType("reportDelayMs") == ReadableType.Number) {
+                reportDelayMs = options.getInt("reportDelayMs");
+            }
+            if (options.hasKey("registryTtlMs") && options.getType("registryTtlMs") == ReadableType.Number) {
+                registryTtlMs = options.getInt("registryTtlMs");
+            }
+            if (options.hasKey("registryMaxSize") && options.getType("registryMaxSize") == ReadableType.Number) {
+                registryMaxSize = options.getInt("registryMaxSize");
+            }
+            if (options.hasKey("registryEvents") && options.getType("registryEvents") == ReadableType.Boolean) {
+                registryEvents = options.getBoolean("registryEvents");
+            }
+            if (options.hasKey("emitScanResults") && options.getType("emitScanResults") == ReadableType.Boolean) {
+                emitResults = options.getBoolean("emitScanResults");
+            }
+            if (options.hasKey("packedScanResults") && options.getType("packedScanResults") == ReadableType.Boolean) {
+                packedScanResults = options.getBoolean("packedScanResults");
+            }
+            if (options.hasKey("rssiSmoothing") && options.getType("rssiSmoothing") == ReadableType.String) {
+                rssiSmoothing = options.getString("rssiSmoothing");
+            }
+            if (options.hasKey("rssiSmoothingFactor") && options.getType("rssiSmoothingFactor") == ReadableType.Number) {
+                rssiSmoothingFactor = options.getDouble("rssiSmoothingFactor");
+            }
+            if (options.hasKey("pathLossExponent") && options.getType("pathLossExponent") == ReadableType.Number) {
+                pathLossExponent = options.getDouble("pathLossExponent");
+            }
+            if (options.hasKey("advertisementFilters") && options.getType("advertisementFilters") == ReadableType.Array) {
+                try {
+                    filter = AdvertisementFilter.compile(options.getArray("advertisementFilters"));
+                } catch (IllegalArgumentException e) {
+                    failScanStart(e.getMessage());
+                    return;
+                }
+            }
+            if (options.hasKey("hardwareFilters") && options.getType("hardwareFilters") == ReadableType.Array) {
+                try {
+                    hardwareFilters = HardwareScanFilters.build(options.getArray("hardwareFilters"),
+                            filteredUUIDs != null ? ReadableArrayConverter.toUUIDStringArray(filteredUUIDs) : null);
+                } catch (IllegalArgumentException e) {
+                    failScanStart(e.getMessage());
+                    return;
+                }
+            }
+        }
+        // Adapter exposes neither platform filters nor report delay
+        if (hardwareFilters == null && reportDelayMs > 0) {
+            try {
+                hardwareFilters = HardwareScanFilters.build(Arguments.createArray(),
+                        filteredUUIDs != null ? ReadableArrayConverter.toUUIDStringArray(filteredUUIDs) : null);
+            } catch (IllegalArgumentException e) {
+                failScanStart(e.getMessage());
+                return;
+            }
+        }
+
+        stopScanResultBatcher();
+        stopScanRegistry();
+        scanStatistics.reset();
+        emitScanResults = emitResults;
+        packedScanResultEncoder = packedScanResults ? new PackedScanResultEncoder() : null;
+        RssiSmoother smoother = rssiSmoothing != null
+                ? new RssiSmoother(RssiSmoother.Mode.fromString(rssiSmoothing), rssiSmoothingFactor, pathLossExponent)
+                : null;
+        rssiSmoother = smoother;
+        scanRegistry = null;
+        if (registryTtlMs > 0) {
+            ScanRegistry registry = new ScanRegistry(registryTtlMs, Math.max(registryMaxSize, 1), scanResultConverter, smoother,
+                    registryEvents ? new OnEventCallback<WritableMap>() {
+                        @Override
+                        public void onEvent(WritableMap change) {
+                            WritableArray event = Arguments.createArray();
+                            event.pushNull();
+                            event.pushMap(change);
+                            sendEvent(Event.ScanRegistryEvent, event);
+                        }
+                    } : null);
+            registry.start(scheduler);
+            scanRegistry = registry;
+        }
+        advertisementFilter = filter;
+        scanResultDeduplicator = deduplicate
+                ? new ScanResultDeduplicator(rssiChangeThreshold, refreshIntervalMs)
+                : null;
+        if (batchIntervalMs > 0) {
+            ScanResultBatcher batcher = new ScanResultBatcher(batchIntervalMs, maxBatchSize, scanStatistics,
+                    new OnEventCallback<WritableArray>() {
+                        @Override
+                        public void onEvent(WritableArray batch) {
+                            WritableArray event = Arguments.createArray();
+                            event.pushNull();
+                            event.pushArray(batch);
+                            sendEvent(Event.ScanBatchEvent, event);
+                        }
+                    });
+            batcher.start(scheduler);
+            scanResultBatcher = batcher;
+        }
+
+        OnEventCallback<ScanResult> onScanResultCallback = new OnEventCallback<ScanResult>() {
+            @Override
+            public void onEvent(ScanResult data) {
+                onScanResult(data);
+            }
+        };
+        OnEventCallback<List<ScanResult>> onScanResultsCallback = new OnEventCallback<List<ScanResult>>() {
+            @Override
+            public void onEvent(List<ScanResult> data) {
+                onScanResults(data);
+            }
+        };
+        OnErrorCallback onScanErrorCallback = new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                stopScanResultBatcher();
+                stopScanRegistry();
+                sendEvent(Event.ScanEvent, errorConverter.toJSCallback(error));
+            }
+        };
+
+        if (hardwareFilters != null) {
+            try {
+                bleAdapter.stopDeviceScan();
+            } catch (Exception e) {
+                sendEvent(Event.NullAdapterEvent, e);
+                return;
+            }
+            scanStatistics.setReportDelay(platformScanner.start(hardwareFilters, scanMode, callbackType, reportDelayMs,
+                    onScanResultCallback, onScanResultsCallback, onScanErrorCallback));
+            return;
         }
 
+        platformScanner.stop();
         try {
           bleAdapter.startDeviceScan(
-                  filteredUUIDs != null ? ReadableArrayConverter.toStringArray(filteredUUIDs) : null,
-                  scanMode, callbackType,
-                  new OnEventCallback<ScanResult>() {
-                      @Override
-                      public void onEvent(ScanResult data) {
-                          sendEvent(Event.ScanEvent, scanResultConverter.toJSCallback(data));
-                      }
-                  }, new OnErrorCallback() {
-                      @Override
-                      public void onError(BleError error) {
-                          sendEvent(Event.ScanEvent, errorConverter.toJSCallback(error));
-                      }
-                  });
+                  filteredUUIDs != null ? ReadableArrayConverter.toUUIDStringArray(filteredUUIDs) : null,
+                  scanMode, callbackType, onScanResultCallback, onScanErrorCallback);
           } catch (Exception e) {
             sendEvent(Event.NullAdapterEvent, e);
           }
@@ -220,6 +505,9 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void stopDeviceScan() {
+        stopScanResultBatcher();
+        stopScanRegistry();
+        platformScanner.stop();
         try {
             bleAdapter.stopDeviceScan();
         } catch (Exception e) {
@@ -227,6 +515,150 @@ public class BleClientManager extends ReactContextBaseJavaModule {
         }
     }
 
+    @ReactMethod
+    public void scanStatistics(final Promise promise) {
+        promise.resolve(scanStatistics.toJSObject());
+    }
+
+    @ReactMethod
+    public void scannedDevices(@Nullable ReadableArray filters, final Promise promise) {
+        ScanRegistry registry = scanRegistry;
+        if (registry == null) {
+            promise.resolve(Arguments.createArray());
+            return;
+        }
+        AdvertisementFilter filter = null;
+        if (filters != null) {
+            try {
+                filter = AdvertisementFilter.compile(filters);
+            } catch (IllegalArgumentException e) {
+                BleError error = new BleError(BleErrorCode.InvalidIdentifiers, e.getMessage(), null);
+                promise.reject(null, errorConverter.toJs(error));
+                return;
+            }
+        }
+        promise.resolve(registry.snapshot(filter, SystemClock.elapsedRealtime()));
+    }
+
+    private void onScanResult(ScanResult data) {
+        if (!acceptScanResult(data)) {
+            return;
+        }
+        PackedScanResultEncoder encoder = packedScanResultEncoder;
+        ScanResultBatcher batcher = scanResultBatcher;
+        if (batcher != null) {
+            if (encoder != null) {
+                batcher.add(encoder.encode(data));
+            } else {
+                batcher.add(scanResultToJSObject(data));
+            }
+        } else {
+            scanStatistics.onResultEmitted();
+            WritableArray event = Arguments.createArray();
+            event.pushNull();
+            if (encoder != null) {
+                event.pushString(encoder.encode(data));
+            } else {
+                event.pushMap(scanResultToJSObject(data));
+            }
+            sendEvent(Event.ScanEvent, event);
+        }
+    }
+
+    private void onScanResults(List<ScanResult> results) {
+        PackedScanResultEncoder encoder = packedScanResultEncoder;
+        ScanResultBatcher batcher = scanResultBatcher;
+        WritableArray batch = Arguments.createArray();
+        int batchSize = 0;
+        for (ScanResult data : results) {
+            if (!acceptScanResult(data)) {
+                continue;
+            }
+            if (batcher != null) {
+                if (encoder != null) {
+                    batcher.add(encoder.encode(data));
+                } else {
+                    batcher.add(scanResultToJSObject(data));
+                }
+            } else {
+                if (encoder != null) {
+                    batch.pushString(encoder.encode(data));
+                } else {
+                    batch.pushMap(scanResultToJSObject(data));
+                }
+                scanStatistics.onResultBatched();
+                batchSize++;
+            }
+        }
+        if (batchSize > 0) {
+            scanStatistics.onBatchEmitted(batchSize);
+            WritableArray event = Arguments.createArray();
+            event.pushNull();
+            event.pushArray(batch);
+            sendEvent(Event.ScanBatchEvent, event);
+        }
+    }
+
+    private WritableMap scanResultToJSObject(ScanResult data) {
+        WritableMap result = scanResultConverter.toJSObject(data);
+        RssiSmoother smoother = rssiSmoother;
+        if (smoother != null) {
+            smoother.appendTo(result, data.getDeviceId());
+        }
+        return result;
+    }
+
+    private boolean acceptScanResult(ScanResult data) {
+        scanStatistics.onResultReceived();
+        AdvertisementFilter filter = advertisementFilter;
+        if (filter != null && !filter.matches(data)) {
+            scanStatistics.onResultFiltered();
+            return false;
+        }
+        RssiSmoother smoother = rssiSmoother;
+        if (smoother != null) {
+            smoother.update(data);
+        }
+        // Registry needs every sighting to keep last seen time fresh, so it goes before deduplication
+        ScanRegistry registry = scanRegistry;
+        if (registry != null) {
+            registry.update(data, SystemClock.elapsedRealtime());
+        }
+        if (!emitScanResults) {
+            return false;
+        }
+        ScanResultDeduplicator deduplicator = scanResultDeduplicator;
+        if (deduplicator != null && !deduplicator.shouldEmit(data, SystemClock.elapsedRealtime())) {
+            scanStatistics.onResultDuplicated();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops the previous scan, so that its pipeline doesn't outlive a rejected start, and reports the error.
+     */
+    private void failScanStart(String message) {
+        stopDeviceScan();
+        BleError error = new BleError(BleErrorCode.ScanStartFailed, message, null);
+        sendEvent(Event.ScanEvent, errorConverter.toJSCallback(error));
+    }
+
+    private void stopScanRegistry() {
+        ScanRegistry registry = scanRegistry;
+        if (registry != null) {
+            registry.stop();
+        }
+    }
+
+    private void stopScanResultBatcher() {
+        ScanResultBatcher batcher = scanResultBatcher;
+        scanResultBatcher = null;
+        if (batcher != null) {
+            batcher.stop();
+        }
+    }
+
     // Mark: Device management ---------------------------------------------------------------------
 
     @ReactMethod
@@ -256,7 +688,7 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     @ReactMethod
     public void connectedDevices(final ReadableArray serviceUUIDs, final Promise promise) {
       try {
-        bleAdapter.getConnectedDevices(ReadableArrayConverter.toStringArray(serviceUUIDs),
+        bleAdapter.getConnectedDevices(ReadableArrayConverter.toUUIDStringArray(serviceUUIDs),
                 new OnSuccessCallback<Device[]>() {
                     @Override
                     public void onSuccess(Device[] data) {
@@ -369,47 +801,95 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 connectionPriority = options.getInt("connectionPriority");
             }
         }
+        ReconnectSupervisor.Policy reconnectPolicy = null;
+        if (options != null
+                && options.hasKey("autoReconnect")
+                && options.getType("autoReconnect") == ReadableType.Map) {
+            try {
+                reconnectPolicy = ReconnectSupervisor.Policy.fromReadableMap(options.getMap("autoReconnect"));
+            } catch (IllegalArgumentException e) {
+                BleError error = new BleError(BleErrorCode.DeviceConnectionFailed, e.getMessage(), null);
+                error.deviceID = deviceId;
+                safePromise.reject(null, errorConverter.toJs(error));
+                return;
+            }
+        }
+        final ConnectionOptions connectionOptions = new ConnectionOptions(autoConnect,
+                requestMtu,
+                refreshGattMoment,
+                timeout != null ? timeout.longValue() : null,
+                connectionPriority);
+        final ReconnectSupervisor.Policy policy = reconnectPolicy;
+        connectPooled(deviceId, connectionOptions, new OnSuccessCallback<Device>() {
+            @Override
+            public void onSuccess(Device data) {
+                if (policy != null) {
+                    reconnectSupervisor.enable(deviceId, policy, new ReconnectSupervisor.Connector() {
+                        @Override
+                        public void connect() {
+                            reconnect(deviceId, connectionOptions);
+                        }
+                    });
+                }
+                safePromise.resolve(deviceConverter.toJSObject(data));
+            }
+        }, new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                safePromise.reject(null, errorConverter.toJs(error));
+            }
+        });
+    }
+
+    /**
+     * Connects to the device. Disconnections are reported to JS unless they happen while the device is being
+     * reconnected.
+     */
+    private void connect(final String deviceId,
+                         final ConnectionOptions connectionOptions,
+                         final OnSuccessCallback<Device> onSuccess,
+                         final OnErrorCallback onError) {
         try {
           bleAdapter.connectToDevice(
                   deviceId,
-                  new ConnectionOptions(autoConnect,
-                          requestMtu,
-                          refreshGattMoment,
-                          timeout != null ? timeout.longValue() : null,
-                          connectionPriority),
-                  new OnSuccessCallback<Device>() {
-                      @Override
-                      public void onSuccess(Device data) {
-                          safePromise.resolve(deviceConverter.toJSObject(data));
-                      }
-                  },
+                  connectionOptions,
+                  onSuccess,
                   new OnEventCallback<ConnectionState>() {
                       @Override
                       public void onEvent(ConnectionState connectionState) {
                           if (connectionState == ConnectionState.DISCONNECTED) {
-                              WritableArray event = Arguments.createArray();
-                              event.pushNull();
-                              WritableMap device = Arguments.createMap();
-                              device.putString("id", deviceId);
-                              event.pushMap(device);
-                              sendEvent(Event.DisconnectionEvent, event);
+                              characteristicHandles.invalidateDevice(deviceId);
+                              operationScheduler.invalidateDevice(deviceId);
+                              readCoalescer.invalidateDevice(deviceId);
+                              discoveryTracker.invalidateDevice(deviceId);
+                              snapshotCache.invalidateDevice(deviceId);
+                              connectionPool.onDisconnected(deviceId);
+                              if (!reconnectSupervisor.isReconnecting(deviceId)) {
+                                  WritableArray event = Arguments.createArray();
+                                  event.pushNull();
+                                  WritableMap device = Arguments.createMap();
+                                  device.putString("id", deviceId);
+                                  event.pushMap(device);
+                                  sendEvent(Event.DisconnectionEvent, event);
+                              }
+                              reconnectSupervisor.onDisconnected(deviceId);
                           }
                       }
                   },
-                  new OnErrorCallback() {
-                      @Override
-                      public void onError(BleError error) {
-                          safePromise.reject(null, errorConverter.toJs(error));
-                      }
-                  });
+                  onError);
         } catch (Exception e) {
           sendEvent(Event.NullAdapterEvent, e);
+          BleError error = new BleError(BleErrorCode.DeviceConnectionFailed, e.getMessage(), null);
+          error.deviceID = deviceId;
+          onError.onError(error);
         }
     }
 
     @ReactMethod
     public void cancelDeviceConnection(String deviceId, Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
+        cancelReconnection(deviceId);
+        connectionPool.cancel(deviceId);
         try {
         bleAdapter.cancelDeviceConnection(deviceId,
                 new OnSuccessCallback<Device>() {
@@ -448,17 +928,136 @@ public class BleClientManager extends ReactContextBaseJavaModule {
         }
     }
 
+    // Mark: Reconnection --------------------------------------------------------------------------
+
+    /**
+     * Single reconnection attempt with options of the original connection, so that MTU and connection priority are
+     * requested again. Parked subscriptions are restored after services are discovered.
+     */
+    private void reconnect(final String deviceId, final ConnectionOptions connectionOptions) {
+        connectPooled(deviceId, connectionOptions, new OnSuccessCallback<Device>() {
+            @Override
+            public void onSuccess(Device data) {
+                final List<ReconnectSupervisor.ParkedSubscription> parked =
+                        reconnectSupervisor.attemptSucceeded(deviceId);
+                if (parked.isEmpty()) {
+                    return;
+                }
+                ServiceDiscoveryTracker.Waiter restore = new ServiceDiscoveryTracker.Waiter() {
+                    @Override
+                    public void onDiscovered() {
+                        for (ReconnectSupervisor.ParkedSubscription subscription : parked) {
+                            subscription.restore();
+                        }
+                    }
+
+                    @Override
+                    public void onError(BleError error) {
+                        // Subscriptions fail on their own and are parked again if the device disconnected
+                        onDiscovered();
+                    }
+                };
+                ensureServicesDiscovered(deviceId, RECONNECT_TRANSACTION_PREFIX + deviceId, restore);
+            }
+        }, new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                reconnectSupervisor.attemptFailed(deviceId, error);
+            }
+        });
+    }
+
+    private void cancelReconnection(String deviceId) {
+        BleError error = new BleError(BleErrorCode.DeviceDisconnected, null, null);
+        error.deviceID = deviceId;
+        reconnectSupervisor.disable(deviceId, error);
+    }
+
+    // Mark: Connection pool -----------------------------------------------------------------------
+
+    @ReactMethod
+    public void configureConnectionPool(@Nullable ReadableMap options) {
+        connectionPool.configure(options);
+    }
+
+    @ReactMethod
+    public void connectionPoolStatistics(final Promise promise) {
+        promise.resolve(connectionPool.statisticsToJs());
+    }
+
+    /**
+     * Passes the attempt through the {@link ConnectionPool}, which starts it once a slot is free. Attempts with
+     * {@code autoConnect} wait for a slot but not for other attempts, as they may last until the device shows up.
+     */
+    private void connectPooled(final String deviceId,
+                               final ConnectionOptions connectionOptions,
+                               final OnSuccessCallback<Device> onSuccess,
+                               final OnErrorCallback onError) {
+        connectionPool.submit(new ConnectionPool.Request(deviceId,
+                !connectionOptions.getAutoConnect(),
+                connectionOptions.getTimeoutInMillis()) {
+            @Override
+            public void start() {
+                final ConnectionPool.Request request = this;
+                connect(deviceId, connectionOptions, new OnSuccessCallback<Device>() {
+                    @Override
+                    public void onSuccess(Device data) {
+                        connectionPool.attemptFinished(request, true);
+                        onSuccess.onSuccess(data);
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        connectionPool.attemptFinished(request, false);
+                        onError.onError(error);
+                    }
+                });
+            }
+
+            @Override
+            public void fail(BleError error) {
+                onError.onError(error);
+            }
+        });
+    }
+
+    private void evictDevice(final String deviceId) {
+        cancelReconnection(deviceId);
+        try {
+          bleAdapter.cancelDeviceConnection(deviceId,
+                  new OnSuccessCallback<Device>() {
+                      @Override
+                      public void onSuccess(Device data) {
+                          connectionPool.onDisconnected(deviceId);
+                      }
+                  }, new OnErrorCallback() {
+                      @Override
+                      public void onError(BleError error) {
+                          connectionPool.onDisconnected(deviceId);
+                      }
+                  });
+        } catch (Exception e) {
+          connectionPool.onDisconnected(deviceId);
+          sendEvent(Event.NullAdapterEvent, e);
+        }
+    }
+
     // Mark: Discovery -----------------------------------------------------------------------------
 
     @ReactMethod
-    public void discoverAllServicesAndCharacteristicsForDevice(String deviceId, final String transactionId, final Promise promise) {
+    public void discoverAllServicesAndCharacteristicsForDevice(final String deviceId, final String transactionId, final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
         try {
         bleAdapter.discoverAllServicesAndCharacteristicsForDevice(deviceId, transactionId,
                 new OnSuccessCallback<Device>() {
                     @Override
                     public void onSuccess(Device data) {
-                        safePromise.resolve(deviceConverter.toJSObject(data));
+                        onServicesDiscovered(deviceId, data, new OnSuccessCallback<Device>() {
+                            @Override
+                            public void onSuccess(Device data) {
+                                safePromise.resolve(deviceConverter.toJSObject(data));
+                            }
+                        });
                     }
                 }, new OnErrorCallback() {
                     @Override
@@ -471,6 +1070,154 @@ public class BleClientManager extends ReactContextBaseJavaModule {
         }
     }
 
+    @ReactMethod
+    public void discoverServicesForDevice(final String deviceId,
+                                          final ReadableArray serviceUUIDs,
+                                          final String transactionId,
+                                          final Promise promise) {
+        final SafePromise safePromise = new SafePromise(promise);
+        final UUID[] uuids = UUIDConverter.convert(serviceUUIDs);
+        if (uuids == null) {
+            BleError error = new BleError(BleErrorCode.InvalidIdentifiers, null, null);
+            error.deviceID = deviceId;
+            safePromise.reject(null, errorConverter.toJs(error));
+            return;
+        }
+        ensureServicesDiscovered(deviceId, transactionId, new ServiceDiscoveryTracker.Waiter() {
+            @Override
+            public void onDiscovered() {
+                try {
+                    List<Service> services = bleAdapter.getServicesForDevice(deviceId);
+                    WritableArray jsServices = Arguments.createArray();
+                    for (UUID uuid : uuids) {
+                        boolean found = false;
+                        for (Service service : services) {
+                            if (service.getUuid().equals(uuid)) {
+                                jsServices.pushMap(serviceConverter.toJSObject(service));
+                                found = true;
+                            }
+                        }
+                        if (!found) {
+                            BleError error = new BleError(BleErrorCode.ServiceNotFound, null, null);
+                            error.deviceID = deviceId;
+                            error.serviceUUID = UUIDConverter.fromUUID(uuid);
+                            safePromise.reject(null, errorConverter.toJs(error));
+                            return;
+                        }
+                    }
+                    safePromise.resolve(jsServices);
+                } catch (BleError error) {
+                    safePromise.reject(null, errorConverter.toJs(error));
+                }
+            }
+
+            @Override
+            public void onError(BleError error) {
+                safePromise.reject(null, errorConverter.toJs(error));
+            }
+        });
+    }
+
+    /**
+     * Starts GATT discovery unless the device was already discovered during this connection or a discovery is in
+     * progress, in which case the waiter joins it. Joined waiters share the transaction of the first one.
+     */
+    private void ensureServicesDiscovered(final String deviceId,
+                                          final String transactionId,
+                                          final ServiceDiscoveryTracker.Waiter waiter) {
+        if (!discoveryTracker.await(deviceId, waiter)) {
+            return;
+        }
+        try {
+            bleAdapter.discoverAllServicesAndCharacteristicsForDevice(deviceId, transactionId,
+                    new OnSuccessCallback<Device>() {
+                        @Override
+                        public void onSuccess(Device data) {
+                            onServicesDiscovered(deviceId, data, new OnSuccessCallback<Device>() {
+                                @Override
+                                public void onSuccess(Device data) {
+                                }
+                            });
+                        }
+                    }, new OnErrorCallback() {
+                        @Override
+                        public void onError(BleError error) {
+                            discoveryTracker.fail(deviceId, error);
+                        }
+                    });
+        } catch (Exception e) {
+          discoveryTracker.fail(deviceId, new BleError(BleErrorCode.BluetoothManagerDestroyed, null, null));
+          sendEvent(Event.NullAdapterEvent, e);
+        }
+    }
+
+    /**
+     * Discovers services on first access to a device which wasn't discovered yet and retries the access afterwards.
+     * Returns false when the error is not caused by missing discovery and has to be reported by the caller.
+     */
+    private boolean discoverLazily(String deviceId, BleError error, final Runnable retry, final Promise promise) {
+        if (error.errorCode != BleErrorCode.ServicesNotDiscovered || discoveryTracker.isDiscovered(deviceId)) {
+            return false;
+        }
+        ensureServicesDiscovered(deviceId, DISCOVERY_TRANSACTION_PREFIX + deviceId,
+                new ServiceDiscoveryTracker.Waiter() {
+                    @Override
+                    public void onDiscovered() {
+                        retry.run();
+                    }
+
+                    @Override
+                    public void onError(BleError error) {
+                        promise.reject(null, errorConverter.toJs(error));
+                    }
+                });
+        return true;
+    }
+
+    /**
+     * Drops state which refers to the previous attribute table. Stored layout is updated after {@code then} is called,
+     * off the adapter callback thread.
+     */
+    private void onServicesDiscovered(final String deviceId, Device device, OnSuccessCallback<Device> then) {
+        characteristicHandles.invalidateDevice(deviceId);
+        readCoalescer.invalidateDevice(deviceId);
+        snapshotCache.invalidateDevice(deviceId);
+        discoveryTracker.complete(deviceId);
+        then.onSuccess(device);
+        scheduler.execute(new Runnable() {
+            @Override
+            public void run() {
+                storeLayout(deviceId);
+            }
+        });
+    }
+
+    // Mark: Layout cache --------------------------------------------------------------------------
+
+    @ReactMethod
+    public void cachedLayoutForDevice(final String deviceId, final Promise promise) {
+        promise.resolve(layoutCache.toJs(deviceId));
+    }
+
+    @ReactMethod
+    public void clearLayoutCache(@Nullable final String deviceId) {
+        if (deviceId != null) {
+            layoutCache.remove(deviceId);
+        } else {
+            layoutCache.clear();
+        }
+    }
+
+    private void storeLayout(String deviceId) {
+        try {
+            layoutCache.store(bleAdapter, deviceId);
+        } catch (BleError error) {
+            // Device disconnected in the meantime, the previous layout is kept until the next discovery
+        } catch (Exception e) {
+          sendEvent(Event.NullAdapterEvent, e);
+        }
+    }
+
     // Mark: Service and characteristic getters ----------------------------------------------------
 
     @ReactMethod
@@ -483,9 +1230,33 @@ public class BleClientManager extends ReactContextBaseJavaModule {
             }
             promise.resolve(jsArray);
         } catch (BleError error) {
-            promise.reject(null, errorConverter.toJs(error));
+            boolean discovering = discoverLazily(deviceId, error, new Runnable() {
+                @Override
+                public void run() {
+                    servicesForDevice(deviceId, promise);
+                }
+            }, promise);
+            if (!discovering) {
+                promise.reject(null, errorConverter.toJs(error));
+            }
         }
+    }
 
+    @ReactMethod
+    public void gattSnapshotForDevice(final String deviceId, final Promise promise) {
+        try {
+            promise.resolve(snapshotCache.snapshotToJs(bleAdapter, deviceId));
+        } catch (BleError error) {
+            boolean discovering = discoverLazily(deviceId, error, new Runnable() {
+                @Override
+                public void run() {
+                    gattSnapshotForDevice(deviceId, promise);
+                }
+            }, promise);
+            if (!discovering) {
+                promise.reject(null, errorConverter.toJs(error));
+            }
+        }
     }
 
     @ReactMethod
@@ -501,7 +1272,15 @@ public class BleClientManager extends ReactContextBaseJavaModule {
             }
             promise.resolve(jsCharacteristics);
         } catch (BleError error) {
-            promise.reject(null, errorConverter.toJs(error));
+            boolean discovering = discoverLazily(deviceId, error, new Runnable() {
+                @Override
+                public void run() {
+                    characteristicsForDevice(deviceId, serviceUUID, promise);
+                }
+            }, promise);
+            if (!discovering) {
+                promise.reject(null, errorConverter.toJs(error));
+            }
         }
     }
 
@@ -532,8 +1311,16 @@ public class BleClientManager extends ReactContextBaseJavaModule {
             }
             promise.resolve(jsDescriptors);
         } catch (BleError error) {
-            promise.reject(null, errorConverter.toJs(error));
-        }
+            boolean discovering = discoverLazily(deviceIdentifier, error, new Runnable() {
+                @Override
+                public void run() {
+                    descriptorsForDevice(deviceIdentifier, serviceUUID, characteristicUUID, promise);
+                }
+            }, promise);
+            if (!discovering) {
+                promise.reject(null, errorConverter.toJs(error));
+            }
+        }
     }
 
     @ReactMethod
@@ -578,25 +1365,32 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                              final String transactionId,
                                              final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
-
-        try {
-        bleAdapter.writeCharacteristicForDevice(
-                deviceId, serviceUUID, characteristicUUID, valueBase64, response, transactionId,
-                new OnSuccessCallback<Characteristic>() {
-                    @Override
-                    public void onSuccess(Characteristic data) {
-                        safePromise.resolve(characteristicConverter.toJSObject(data));
-                    }
-                }, new OnErrorCallback() {
-                    @Override
-                    public void onError(BleError error) {
-                        safePromise.reject(null, errorConverter.toJs(error));
-                    }
+        submitOperation(deviceId, transactionId, new ScheduledOperation(safePromise) {
+            @Override
+            public void execute(final Runnable done) {
+                try {
+                    bleAdapter.writeCharacteristicForDevice(deviceId, serviceUUID, characteristicUUID, valueBase64,
+                            response, transactionId,
+                            new OnSuccessCallback<Characteristic>() {
+                                @Override
+                                public void onSuccess(Characteristic data) {
+                                    done.run();
+                                    readCoalescer.invalidate(data);
+                                    safePromise.resolve(characteristicConverter.toJSObject(data));
+                                }
+                            }, new OnErrorCallback() {
+                                @Override
+                                public void onError(BleError error) {
+                                    done.run();
+                                    safePromise.reject(null, errorConverter.toJs(error));
+                                }
+                            });
+                } catch (Exception e) {
+                    done.run();
+                    sendEvent(Event.NullAdapterEvent, e);
                 }
-        );
-        } catch (Exception e) {
-          sendEvent(Event.NullAdapterEvent, e);
-        }
+            }
+        });
     }
 
     @ReactMethod
@@ -613,6 +1407,7 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 new OnSuccessCallback<Characteristic>() {
                     @Override
                     public void onSuccess(Characteristic data) {
+                        readCoalescer.invalidate(data);
                         safePromise.resolve(characteristicConverter.toJSObject(data));
                     }
                 }, new OnErrorCallback() {
@@ -640,6 +1435,7 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 new OnSuccessCallback<Characteristic>() {
                     @Override
                     public void onSuccess(Characteristic data) {
+                        readCoalescer.invalidate(data);
                         safePromise.resolve(characteristicConverter.toJSObject(data));
                     }
                 }, new OnErrorCallback() {
@@ -660,22 +1456,28 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                             final String transactionId,
                                             final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
-
         try {
-        bleAdapter.readCharacteristicForDevice(
-                deviceId, serviceUUID, characteristicUUID, transactionId,
-                new OnSuccessCallback<Characteristic>() {
-                    @Override
-                    public void onSuccess(Characteristic data) {
-                        safePromise.resolve(characteristicConverter.toJSObject(data));
-                    }
-                }, new OnErrorCallback() {
-                    @Override
-                    public void onError(BleError error) {
-                        safePromise.reject(null, errorConverter.toJs(error));
-                    }
+            Characteristic characteristic = findCharacteristic(
+                    bleAdapter.getCharacteristicsForDevice(deviceId, serviceUUID), characteristicUUID);
+            if (characteristic == null) {
+                BleError error = new BleError(BleErrorCode.CharacteristicNotFound, null, null);
+                error.deviceID = deviceId;
+                error.serviceUUID = serviceUUID;
+                error.characteristicUUID = characteristicUUID;
+                safePromise.reject(null, errorConverter.toJs(error));
+                return;
+            }
+            readCharacteristicCoalesced(characteristic, transactionId, safePromise);
+        } catch (BleError error) {
+            boolean discovering = discoverLazily(deviceId, error, new Runnable() {
+                @Override
+                public void run() {
+                    readCharacteristicForDevice(deviceId, serviceUUID, characteristicUUID, transactionId, promise);
                 }
-        );
+            }, promise);
+            if (!discovering) {
+                safePromise.reject(null, errorConverter.toJs(error));
+            }
         } catch (Exception e) {
           sendEvent(Event.NullAdapterEvent, e);
         }
@@ -687,24 +1489,100 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                              final String transactionId,
                                              final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
-
         try {
-        bleAdapter.readCharacteristicForService(
-                serviceIdentifier, characteristicUUID, transactionId,
-                new OnSuccessCallback<Characteristic>() {
+            Characteristic characteristic = findCharacteristic(
+                    bleAdapter.getCharacteristicsForService(serviceIdentifier), characteristicUUID);
+            if (characteristic == null) {
+                BleError error = new BleError(BleErrorCode.CharacteristicNotFound, null, null);
+                error.characteristicUUID = characteristicUUID;
+                safePromise.reject(null, errorConverter.toJs(error));
+                return;
+            }
+            readCharacteristicCoalesced(characteristic, transactionId, safePromise);
+        } catch (BleError error) {
+            safePromise.reject(null, errorConverter.toJs(error));
+        } catch (Exception e) {
+          sendEvent(Event.NullAdapterEvent, e);
+        }
+    }
+
+    /**
+     * Serves the read from the cache, joins identical read in progress or starts a new GATT read through the
+     * {@link GattOperationScheduler}.
+     */
+    private void readCharacteristicCoalesced(final Characteristic characteristic,
+                                             final String transactionId,
+                                             final SafePromise safePromise) {
+        GattOperationScheduler.Hint hint =
+                operationScheduler.takeHint(transactionId, GattOperationScheduler.Priority.INTERACTIVE);
+        final CharacteristicReadCoalescer.PendingRead pendingRead = readCoalescer.read(characteristic, transactionId,
+                new CharacteristicReadCoalescer.Waiter() {
                     @Override
                     public void onSuccess(Characteristic data) {
                         safePromise.resolve(characteristicConverter.toJSObject(data));
                     }
-                }, new OnErrorCallback() {
+
                     @Override
                     public void onError(BleError error) {
                         safePromise.reject(null, errorConverter.toJs(error));
                     }
-                }
-        );
-        } catch (Exception e) {
-          sendEvent(Event.NullAdapterEvent, e);
+                });
+        if (pendingRead == null) {
+            return;
+        }
+        connectionPool.touch(characteristic.getDeviceId());
+        operationScheduler.submit(characteristic.getDeviceId(), pendingRead.transactionId, hint,
+                new GattOperationScheduler.Task() {
+                    @Override
+                    public void execute(final Runnable done) {
+                        try {
+                            bleAdapter.readCharacteristic(characteristic.getId(), pendingRead.transactionId,
+                                    new OnSuccessCallback<Characteristic>() {
+                                        @Override
+                                        public void onSuccess(Characteristic data) {
+                                            done.run();
+                                            readCoalescer.complete(pendingRead, data);
+                                        }
+                                    }, new OnErrorCallback() {
+                                        @Override
+                                        public void onError(BleError error) {
+                                            done.run();
+                                            readCoalescer.fail(pendingRead, error);
+                                        }
+                                    });
+                        } catch (Exception e) {
+                            done.run();
+                            sendEvent(Event.NullAdapterEvent, e);
+                        }
+                    }
+
+                    @Override
+                    public void fail(BleError error) {
+                        readCoalescer.fail(pendingRead, error);
+                    }
+                });
+    }
+
+    @Nullable
+    private static Characteristic findCharacteristic(List<Characteristic> characteristics, String characteristicUUID) {
+        UUID uuid = UUIDConverter.convert(characteristicUUID);
+        for (Characteristic characteristic : characteristics) {
+            if (characteristic.getUuid().equals(uuid)) {
+                return characteristic;
+            }
+        }
+        return null;
+    }
+
+    @ReactMethod
+    public void setReadCacheTtlForDevice(final String deviceId,
+                                         final String serviceUUID,
+                                         final String characteristicUUID,
+                                         final double timeToLiveMs) {
+        UUID service = UUIDConverter.convert(serviceUUID);
+        UUID characteristic = UUIDConverter.convert(characteristicUUID);
+        if (service != null && characteristic != null) {
+            readCoalescer.setTimeToLive(deviceId, service, characteristic, (long) timeToLiveMs);
         }
     }
 
@@ -739,28 +1617,46 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                                final String serviceUUID,
                                                final String characteristicUUID,
                                                final String transactionId,
+                                               @Nullable final ReadableMap options,
                                                final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
+        final CharacteristicMonitor monitor = createCharacteristicMonitor(transactionId, options, safePromise);
+        if (monitor == null) {
+            return;
+        }
+        subscribeMonitorForDevice(deviceId, serviceUUID, characteristicUUID, transactionId, monitor, safePromise);
+    }
+
+    /**
+     * Subscribes the monitor to notifications. Monitors started by identifier are restored through here as well, see
+     * {@link #onMonitorError}.
+     */
+    private void subscribeMonitorForDevice(final String deviceId,
+                                           final String serviceUUID,
+                                           final String characteristicUUID,
+                                           final String transactionId,
+                                           final CharacteristicMonitor monitor,
+                                           final SafePromise safePromise) {
+        connectionPool.pin(deviceId, transactionId);
         try {
         bleAdapter.monitorCharacteristicForDevice(
                 deviceId, serviceUUID, characteristicUUID, transactionId,
                 new OnEventCallback<Characteristic>() {
                     @Override
                     public void onEvent(Characteristic data) {
-                        WritableArray jsResult = Arguments.createArray();
-                        jsResult.pushNull();
-                        jsResult.pushMap(characteristicConverter.toJSObject(data));
-                        jsResult.pushString(transactionId);
-                        sendEvent(Event.ReadEvent, jsResult);
+                        readCoalescer.invalidate(data);
+                        monitor.onNotification(data);
                     }
                 }, new OnErrorCallback() {
                     @Override
                     public void onError(BleError error) {
-                        safePromise.reject(null, errorConverter.toJs(error));
+                        onMonitorError(new String[]{deviceId, serviceUUID, characteristicUUID},
+                                transactionId, monitor, safePromise, error);
                     }
                 }
         );
         } catch (Exception e) {
+          releaseMonitor(transactionId, monitor);
           sendEvent(Event.NullAdapterEvent, e);
         }
     }
@@ -769,28 +1665,37 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     public void monitorCharacteristicForService(final int serviceIdentifier,
                                                 final String characteristicUUID,
                                                 final String transactionId,
+                                                @Nullable final ReadableMap options,
                                                 final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
+        final CharacteristicMonitor monitor = createCharacteristicMonitor(transactionId, options, safePromise);
+        if (monitor == null) {
+            return;
+        }
+        final String[] target = new String[3];
         try {
+        resolveMonitorTarget(target, serviceIdentifier, characteristicUUID);
         bleAdapter.monitorCharacteristicForService(
                 serviceIdentifier, characteristicUUID, transactionId,
                 new OnEventCallback<Characteristic>() {
                     @Override
                     public void onEvent(Characteristic data) {
-                        WritableArray jsResult = Arguments.createArray();
-                        jsResult.pushNull();
-                        jsResult.pushMap(characteristicConverter.toJSObject(data));
-                        jsResult.pushString(transactionId);
-                        sendEvent(Event.ReadEvent, jsResult);
+                        if (target[0] == null) {
+                            setMonitorTarget(target, data.getDeviceId(), data.getServiceUUID(), data.getUuid());
+                        }
+                        connectionPool.pin(data.getDeviceId(), transactionId);
+                        readCoalescer.invalidate(data);
+                        monitor.onNotification(data);
                     }
                 }, new OnErrorCallback() {
                     @Override
                     public void onError(BleError error) {
-                        safePromise.reject(null, errorConverter.toJs(error));
+                        onMonitorError(target, transactionId, monitor, safePromise, error);
                     }
                 }
         );
         } catch (Exception e) {
+          releaseMonitor(transactionId, monitor);
           sendEvent(Event.NullAdapterEvent, e);
         }
     }
@@ -798,63 +1703,456 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     @ReactMethod
     public void monitorCharacteristic(final int characteristicIdentifier,
                                       final String transactionId,
+                                      @Nullable final ReadableMap options,
                                       final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
         //TODO resolve safePromise with null when monitoring has been completed
+        final CharacteristicMonitor monitor = createCharacteristicMonitor(transactionId, options, safePromise);
+        if (monitor == null) {
+            return;
+        }
+        final String[] target = new String[3];
         try {
+        resolveMonitorTarget(target, characteristicIdentifier);
         bleAdapter.monitorCharacteristic(
                 characteristicIdentifier, transactionId,
                 new OnEventCallback<Characteristic>() {
                     @Override
                     public void onEvent(Characteristic data) {
-                        WritableArray jsResult = Arguments.createArray();
-                        jsResult.pushNull();
-                        jsResult.pushMap(characteristicConverter.toJSObject(data));
-                        jsResult.pushString(transactionId);
-                        sendEvent(Event.ReadEvent, jsResult);
+                        if (target[0] == null) {
+                            setMonitorTarget(target, data.getDeviceId(), data.getServiceUUID(), data.getUuid());
+                        }
+                        connectionPool.pin(data.getDeviceId(), transactionId);
+                        readCoalescer.invalidate(data);
+                        monitor.onNotification(data);
                     }
                 }, new OnErrorCallback() {
                     @Override
                     public void onError(BleError error) {
-                        safePromise.reject(null, errorConverter.toJs(error));
+                        onMonitorError(target, transactionId, monitor, safePromise, error);
                     }
                 }
         );
         } catch (Exception e) {
+          releaseMonitor(transactionId, monitor);
           sendEvent(Event.NullAdapterEvent, e);
         }
     }
 
     @ReactMethod
-    public void readDescriptorForDevice(final String deviceId,
-                                        final String serviceUUID,
-                                        final String characteristicUUID,
-                                        final String descriptorUUID,
-                                        final String transactionId,
-                                        final Promise promise) {
-                                          try {
-        bleAdapter.readDescriptorForDevice(
-                deviceId,
-                serviceUUID,
-                characteristicUUID,
-                descriptorUUID,
-                transactionId,
-                new OnSuccessCallback<Descriptor>() {
+    public void grantMonitorCredits(String transactionId, int credits) {
+        CharacteristicMonitor monitor = monitors.get(transactionId);
+        if (monitor != null) {
+            monitor.grantCredits(credits);
+        }
+    }
+
+    @ReactMethod
+    public void monitorStatistics(String transactionId, final Promise promise) {
+        CharacteristicMonitor monitor = monitors.get(transactionId);
+        promise.resolve(monitor != null ? monitor.statisticsToJs() : null);
+    }
+
+    /**
+     * Parks the monitor with {@link ReconnectSupervisor} when it ended because its supervised device disconnected, so
+     * that it is subscribed again by device and UUIDs after reconnection, when identifiers are assigned anew.
+     * Otherwise ends the monitor with the error.
+     *
+     * @param target device id, service UUID and characteristic UUID, null elements when not known
+     */
+    private void onMonitorError(final String[] target,
+                                final String transactionId,
+                                final CharacteristicMonitor monitor,
+                                final SafePromise safePromise,
+                                BleError error) {
+        final String deviceId = target[0];
+        if (error.errorCode == BleErrorCode.DeviceDisconnected
+                && deviceId != null
+                && reconnectSupervisor.park(deviceId, new ReconnectSupervisor.ParkedSubscription(transactionId) {
                     @Override
-                    public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                    public void restore() {
+                        subscribeMonitorForDevice(deviceId, target[1], target[2], transactionId, monitor, safePromise);
                     }
-                }, new OnErrorCallback() {
+
                     @Override
-                    public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                    public void fail(BleError error) {
+                        stopMonitor(transactionId, monitor, safePromise, error);
+                    }
+                })) {
+            return;
+        }
+        stopMonitor(transactionId, monitor, safePromise, error);
+    }
+
+    private void stopMonitor(String transactionId,
+                             CharacteristicMonitor monitor,
+                             SafePromise safePromise,
+                             BleError error) {
+        releaseMonitor(transactionId, monitor);
+        safePromise.reject(null, errorConverter.toJs(error));
+    }
+
+    // Stops timers of the monitor on the shared scheduler
+    private void releaseMonitor(String transactionId, CharacteristicMonitor monitor) {
+        monitors.remove(transactionId, monitor);
+        connectionPool.unpin(transactionId);
+        monitor.stop();
+    }
+
+    private void resolveMonitorTarget(String[] target, int serviceIdentifier, String characteristicUUID) {
+        try {
+            List<Characteristic> characteristics = bleAdapter.getCharacteristicsForService(serviceIdentifier);
+            if (!characteristics.isEmpty()) {
+                setMonitorTarget(target, characteristics.get(0).getDeviceId(),
+                        characteristics.get(0).getServiceUUID(), UUIDConverter.convert(characteristicUUID));
+            }
+        } catch (BleError error) {
+            // Reported by the monitoring itself
+        }
+    }
+
+    /**
+     * Looks the characteristic up in services of connected devices, as the adapter can't tell the owner of an
+     * identifier.
+     */
+    private void resolveMonitorTarget(String[] target, int characteristicIdentifier) {
+        for (String deviceId : connectionPool.connectedDevices()) {
+            try {
+                for (Service service : bleAdapter.getServicesForDevice(deviceId)) {
+                    for (Characteristic characteristic : bleAdapter.getCharacteristicsForService(service.getId())) {
+                        if (characteristic.getId() == characteristicIdentifier) {
+                            setMonitorTarget(target, deviceId, characteristic.getServiceUUID(),
+                                    characteristic.getUuid());
+                            return;
+                        }
+                    }
+                }
+            } catch (BleError error) {
+                // Services of the device were not discovered yet
+            }
+        }
+    }
+
+    private static void setMonitorTarget(String[] target, String deviceId, UUID serviceUUID, UUID characteristicUUID) {
+        if (deviceId == null || serviceUUID == null || characteristicUUID == null) {
+            return;
+        }
+        target[1] = UUIDConverter.fromUUID(serviceUUID);
+        target[2] = UUIDConverter.fromUUID(characteristicUUID);
+        target[0] = deviceId;
+    }
+
+    @Nullable
+    private CharacteristicMonitor createCharacteristicMonitor(String transactionId,
+                                                              @Nullable ReadableMap options,
+                                                              SafePromise safePromise) {
+        MonitorOptions monitorOptions;
+        try {
+            monitorOptions = MonitorOptions.fromReadableMap(options);
+        } catch (IllegalArgumentException e) {
+            BleError error = new BleError(BleErrorCode.CharacteristicNotifyChangeFailed, e.getMessage(), null);
+            safePromise.reject(null, errorConverter.toJs(error));
+            return null;
+        }
+        CharacteristicMonitor monitor = new CharacteristicMonitor(transactionId, monitorOptions,
+                characteristicConverter, errorConverter, new CharacteristicMonitor.Listener() {
+                    @Override
+                    public void onRead(ReadableArray event) {
+                        sendEvent(Event.ReadEvent, event);
+                    }
+
+                    @Override
+                    public void onReadBatch(ReadableArray event) {
+                        sendEvent(Event.ReadBatchEvent, event);
                     }
                 });
-                } catch (Exception e) {
+        monitor.start(scheduler);
+        monitors.put(transactionId, monitor);
+        return monitor;
+    }
+
+    // Mark: Operation scheduling ------------------------------------------------------------------
+
+    @ReactMethod
+    public void scheduleTransaction(final String transactionId, @Nullable final ReadableMap options) {
+        GattOperationScheduler.Priority priority = null;
+        if (options != null && options.hasKey("priority") && options.getType("priority") == ReadableType.String) {
+            priority = GattOperationScheduler.Priority.fromJs(options.getString("priority"));
+        }
+        long deadlineMillis = options != null
+                && options.hasKey("deadlineMs")
+                && options.getType("deadlineMs") == ReadableType.Number
+                ? (long) options.getDouble("deadlineMs")
+                : 0;
+        operationScheduler.setHint(transactionId, new GattOperationScheduler.Hint(
+                priority != null ? priority : GattOperationScheduler.Priority.INTERACTIVE, deadlineMillis));
+    }
+
+    @ReactMethod
+    public void operationQueueStatisticsForDevice(final String deviceId, final Promise promise) {
+        promise.resolve(operationScheduler.statisticsToJs(deviceId));
+    }
+
+    private void submitOperation(String deviceId, String transactionId, ScheduledOperation operation) {
+        connectionPool.touch(deviceId);
+        operationScheduler.submit(deviceId, transactionId,
+                operationScheduler.takeHint(transactionId, GattOperationScheduler.Priority.INTERACTIVE), operation);
+    }
+
+    /**
+     * Single adapter call passed through the {@link GattOperationScheduler}. Promise is rejected when the call
+     * expires or is cancelled before it starts.
+     */
+    private abstract class ScheduledOperation implements GattOperationScheduler.Task {
+        final SafePromise safePromise;
+
+        ScheduledOperation(SafePromise safePromise) {
+            this.safePromise = safePromise;
+        }
+
+        @Override
+        public void fail(BleError error) {
+            safePromise.reject(null, errorConverter.toJs(error));
+        }
+    }
+
+    // Mark: Operation batches ---------------------------------------------------------------------
+
+    @ReactMethod
+    public void executeOperations(final String deviceId,
+                                  final ReadableArray operations,
+                                  @Nullable final ReadableMap options,
+                                  final String transactionId,
+                                  final Promise promise) {
+        final SafePromise safePromise = new SafePromise(promise);
+        boolean stopOnError = options != null
+                && options.hasKey("stopOnError")
+                && options.getType("stopOnError") == ReadableType.Boolean
+                && options.getBoolean("stopOnError");
+        GattOperationBatch batch;
+        try {
+            batch = new GattOperationBatch(bleAdapter, operationScheduler, deviceId, operations, stopOnError,
+                    transactionId, characteristicConverter, descriptorConverter, errorConverter,
+                    new GattOperationBatch.Listener() {
+                        @Override
+                        public void onCompleted(WritableArray results) {
+                            // Written values are not tracked per operation, drop all cached ones of the device
+                            readCoalescer.invalidateDevice(deviceId);
+                            safePromise.resolve(results);
+                        }
+
+                        @Override
+                        public void onCancelled(BleError error) {
+                            readCoalescer.invalidateDevice(deviceId);
+                            safePromise.reject(null, errorConverter.toJs(error));
+                        }
+                    });
+        } catch (IllegalArgumentException e) {
+            BleError error = new BleError(BleErrorCode.OperationStartFailed, e.getMessage(), null);
+            error.deviceID = deviceId;
+            safePromise.reject(null, errorConverter.toJs(error));
+            return;
+        }
+        connectionPool.touch(deviceId);
+        try {
+            batch.start();
+        } catch (Exception e) {
+          sendEvent(Event.NullAdapterEvent, e);
+        }
+    }
+
+    // Mark: Streamed writes -----------------------------------------------------------------------
+
+    @ReactMethod
+    public void writeCharacteristicStreamForDevice(final String deviceId,
+                                                   final String serviceUUID,
+                                                   final String characteristicUUID,
+                                                   final String valueBase64,
+                                                   @Nullable final ReadableMap options,
+                                                   final String transactionId,
+                                                   final Promise promise) {
+        final SafePromise safePromise = new SafePromise(promise);
+        final ChunkedWriter[] writer = new ChunkedWriter[1];
+        try {
+            writer[0] = new ChunkedWriter(bleAdapter, operationScheduler, deviceId, serviceUUID, characteristicUUID,
+                    valueBase64, options, transactionId, new ChunkedWriter.Listener() {
+                @Override
+                public void onProgress(WritableMap progress) {
+                    WritableArray event = Arguments.createArray();
+                    event.pushNull();
+                    event.pushMap(progress);
+                    event.pushString(transactionId);
+                    sendEvent(Event.WriteProgressEvent, event);
+                }
+
+                @Override
+                public void onCompleted(WritableMap progress) {
+                    chunkedWriters.remove(transactionId, writer[0]);
+                    readCoalescer.invalidateDevice(deviceId);
+                    safePromise.resolve(progress);
+                }
+
+                @Override
+                public void onError(BleError error) {
+                    chunkedWriters.remove(transactionId, writer[0]);
+                    readCoalescer.invalidateDevice(deviceId);
+                    safePromise.reject(null, errorConverter.toJs(error));
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            BleError error = new BleError(BleErrorCode.CharacteristicWriteFailed, e.getMessage(), null);
+            error.deviceID = deviceId;
+            error.serviceUUID = serviceUUID;
+            error.characteristicUUID = characteristicUUID;
+            safePromise.reject(null, errorConverter.toJs(error));
+            return;
+        }
+        chunkedWriters.put(transactionId, writer[0]);
+        connectionPool.touch(deviceId);
+        try {
+            writer[0].start();
+        } catch (Exception e) {
           sendEvent(Event.NullAdapterEvent, e);
         }
     }
 
+    // Mark: Characteristic handles ----------------------------------------------------------------
+
+    @ReactMethod
+    public void prepareCharacteristic(final String deviceId,
+                                      final String serviceUUID,
+                                      final String characteristicUUID,
+                                      final Promise promise) {
+        try {
+            UUID uuid = UUIDConverter.convert(characteristicUUID);
+            for (Characteristic characteristic : bleAdapter.getCharacteristicsForDevice(deviceId, serviceUUID)) {
+                if (characteristic.getUuid().equals(uuid)) {
+                    promise.resolve(characteristicHandles.register(characteristic));
+                    return;
+                }
+            }
+            BleError error = new BleError(BleErrorCode.CharacteristicNotFound, null, null);
+            error.deviceID = deviceId;
+            error.serviceUUID = serviceUUID;
+            error.characteristicUUID = characteristicUUID;
+            promise.reject(null, errorConverter.toJs(error));
+        } catch (BleError error) {
+            promise.reject(null, errorConverter.toJs(error));
+        }
+    }
+
+    @ReactMethod
+    public void releaseCharacteristicHandle(final int handle) {
+        characteristicHandles.release(handle);
+    }
+
+    @ReactMethod
+    public void readCharacteristicForHandle(final int handle, final String transactionId, final Promise promise) {
+        Characteristic characteristic = characteristicHandles.resolveCharacteristic(handle);
+        if (characteristic == null) {
+            BleError error = new BleError(BleErrorCode.CharacteristicNotFound,
+                    "Characteristic handle " + handle + " is not valid", null);
+            promise.reject(null, errorConverter.toJs(error));
+            return;
+        }
+        readCharacteristicCoalesced(characteristic, transactionId, new SafePromise(promise));
+    }
+
+    @ReactMethod
+    public void writeCharacteristicForHandle(final int handle,
+                                             final String valueBase64,
+                                             final Boolean response,
+                                             final String transactionId,
+                                             final Promise promise) {
+        final String deviceId = characteristicHandles.resolveDevice(handle);
+        final int characteristicIdentifier = resolveCharacteristicHandle(handle, promise);
+        if (characteristicIdentifier == CharacteristicHandleTable.INVALID_CHARACTERISTIC) {
+            return;
+        }
+        final SafePromise safePromise = new SafePromise(promise);
+        submitOperation(deviceId, transactionId, new ScheduledOperation(safePromise) {
+            @Override
+            public void execute(final Runnable done) {
+                try {
+                    bleAdapter.writeCharacteristic(characteristicIdentifier, valueBase64, response, transactionId,
+                            new OnSuccessCallback<Characteristic>() {
+                                @Override
+                                public void onSuccess(Characteristic data) {
+                                    done.run();
+                                    readCoalescer.invalidate(data);
+                                    safePromise.resolve(characteristicConverter.toJSObject(data));
+                                }
+                            }, new OnErrorCallback() {
+                                @Override
+                                public void onError(BleError error) {
+                                    done.run();
+                                    safePromise.reject(null, errorConverter.toJs(error));
+                                }
+                            });
+                } catch (Exception e) {
+                    done.run();
+                    sendEvent(Event.NullAdapterEvent, e);
+                }
+            }
+        });
+    }
+
+    @ReactMethod
+    public void monitorCharacteristicForHandle(final int handle,
+                                               final String transactionId,
+                                               @Nullable final ReadableMap options,
+                                               final Promise promise) {
+        int characteristicIdentifier = resolveCharacteristicHandle(handle, promise);
+        if (characteristicIdentifier != CharacteristicHandleTable.INVALID_CHARACTERISTIC) {
+            monitorCharacteristic(characteristicIdentifier, transactionId, options, promise);
+        }
+    }
+
+    private int resolveCharacteristicHandle(int handle, Promise promise) {
+        int characteristicIdentifier = characteristicHandles.resolve(handle);
+        if (characteristicIdentifier == CharacteristicHandleTable.INVALID_CHARACTERISTIC) {
+            BleError error = new BleError(BleErrorCode.CharacteristicNotFound,
+                    "Characteristic handle " + handle + " is not valid", null);
+            promise.reject(null, errorConverter.toJs(error));
+        }
+        return characteristicIdentifier;
+    }
+
+    @ReactMethod
+    public void readDescriptorForDevice(final String deviceId,
+                                        final String serviceUUID,
+                                        final String characteristicUUID,
+                                        final String descriptorUUID,
+                                        final String transactionId,
+                                        final Promise promise) {
+        final SafePromise safePromise = new SafePromise(promise);
+        submitOperation(deviceId, transactionId, new ScheduledOperation(safePromise) {
+            @Override
+            public void execute(final Runnable done) {
+                try {
+                    bleAdapter.readDescriptorForDevice(deviceId, serviceUUID, characteristicUUID, descriptorUUID,
+                            transactionId,
+                            new OnSuccessCallback<Descriptor>() {
+                                @Override
+                                public void onSuccess(Descriptor descriptor) {
+                                    done.run();
+                                    safePromise.resolve(descriptorConverter.toJSObject(descriptor));
+                                }
+                            }, new OnErrorCallback() {
+                                @Override
+                                public void onError(BleError error) {
+                                    done.run();
+                                    safePromise.reject(null, errorConverter.toJs(error));
+                                }
+                            });
+                } catch (Exception e) {
+                    done.run();
+                    sendEvent(Event.NullAdapterEvent, e);
+                }
+            }
+        });
+    }
+
     @ReactMethod
     public void readDescriptorForService(final int serviceIdentifier,
                                          final String characteristicUUID,
@@ -944,30 +2242,32 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                          final String valueBase64,
                                          final String transactionId,
                                          final Promise promise) {
-                                          try {
-        bleAdapter.writeDescriptorForDevice(
-                deviceId,
-                serviceUUID,
-                characteristicUUID,
-                descriptorUUID,
-                valueBase64,
-                transactionId,
-                new OnSuccessCallback<Descriptor>() {
-                    @Override
-                    public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
-                    }
-                },
-                new OnErrorCallback() {
-                    @Override
-                    public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
-                    }
+        final SafePromise safePromise = new SafePromise(promise);
+        submitOperation(deviceId, transactionId, new ScheduledOperation(safePromise) {
+            @Override
+            public void execute(final Runnable done) {
+                try {
+                    bleAdapter.writeDescriptorForDevice(deviceId, serviceUUID, characteristicUUID, descriptorUUID,
+                            valueBase64, transactionId,
+                            new OnSuccessCallback<Descriptor>() {
+                                @Override
+                                public void onSuccess(Descriptor descriptor) {
+                                    done.run();
+                                    safePromise.resolve(descriptorConverter.toJSObject(descriptor));
+                                }
+                            }, new OnErrorCallback() {
+                                @Override
+                                public void onError(BleError error) {
+                                    done.run();
+                                    safePromise.reject(null, errorConverter.toJs(error));
+                                }
+                            });
+                } catch (Exception e) {
+                    done.run();
+                    sendEvent(Event.NullAdapterEvent, e);
                 }
-        );
-        } catch (Exception e) {
-          sendEvent(Event.NullAdapterEvent, e);
-        }
+            }
+        });
     }
 
     @ReactMethod
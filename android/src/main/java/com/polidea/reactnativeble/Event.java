@@ -3,11 +3,16 @@ package com.polidea.reactnativeble;
 public enum Event {
 
     ScanEvent("ScanEvent"),
+    ScanBatchEvent("ScanBatchEvent"),
+    ScanRegistryEvent("ScanRegistryEvent"),
     ReadEvent("ReadEvent"),
+    ReadBatchEvent("ReadBatchEvent"),
+    WriteProgressEvent("WriteProgressEvent"),
     StateChangeEvent("StateChangeEvent"),
     RestoreStateEvent("RestoreStateEvent"),
     NullAdapterEvent("NullAdapterEvent"),
-    DisconnectionEvent("DisconnectionEvent");
+    DisconnectionEvent("DisconnectionEvent"),
+    ReconnectionEvent("ReconnectionEvent");
 
     public String name;
 
@@ -0,0 +1,392 @@
+package com.polidea.reactnativeble.connection;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Limits the number of devices connected at once and starts connection attempts one at a time, as parallel attempts
+ * on Android tend to fail with GATT status 133 or time out. When the pool is full, the least recently used device
+ * without active monitors is disconnected to make room. Requests wait in order of arrival while every connected device
+ * is pinned by a monitor. Without a limit, which is the default, attempts start right away as they did before the
+ * pool existed.
+ */
+public class ConnectionPool {
+
+    private interface Metadata {
+        String MAX_CONNECTIONS = "maxConnections";
+        String QUEUE_TIMEOUT_MS = "queueTimeoutMs";
+
+        String CONNECTED = "connected";
+        String PINNED = "pinned";
+        String CONNECTING = "connecting";
+        String QUEUED = "queued";
+        String CONNECTION_ATTEMPTS = "connectionAttempts";
+        String EVICTIONS = "evictions";
+        String QUEUE_TIMEOUTS = "queueTimeouts";
+        String AVERAGE_WAIT_MS = "averageWaitMs";
+        String MAX_WAIT_MS = "maxWaitMs";
+    }
+
+    // Android gives up on a direct connection after about 30 s when no timeout is requested
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 30000;
+    // Time on top of the connection timeout for the adapter to report the result
+    private static final long ATTEMPT_GRACE_MILLIS = 5000;
+
+    /**
+     * Connection attempt waiting for a slot. Serialized attempts don't start while another serialized attempt is in
+     * progress. Attempts with {@code autoConnect} may never finish and shouldn't be serialized. A serialized attempt
+     * which doesn't report its result within its connection timeout releases its slot, so that it can't block the
+     * queue.
+     */
+    public abstract static class Request {
+        final String deviceId;
+        final boolean serialized;
+        final long attemptTimeoutMillis;
+        boolean counted;
+        long enqueuedAt;
+        // Queue timeout while queued, attempt timeout once started
+        @Nullable
+        ScheduledFuture<?> timeout;
+
+        protected Request(String deviceId, boolean serialized, @Nullable Long connectionTimeoutMillis) {
+            this.deviceId = deviceId;
+            this.serialized = serialized;
+            this.attemptTimeoutMillis = (connectionTimeoutMillis != null
+                    ? connectionTimeoutMillis
+                    : DEFAULT_CONNECTION_TIMEOUT_MILLIS) + ATTEMPT_GRACE_MILLIS;
+        }
+
+        /**
+         * Starts the attempt, its result has to be reported with {@link #attemptFinished}.
+         */
+        public abstract void start();
+
+        public abstract void fail(BleError error);
+    }
+
+    /**
+     * Disconnects the device and reports it with {@link #onDisconnected} whether or not disconnection succeeded.
+     */
+    public interface Evictor {
+        void evict(String deviceId);
+    }
+
+    private final ScheduledExecutorService executor;
+    private final Evictor evictor;
+
+    private int maxConnections = 0;
+    private long queueTimeoutMillis = 0;
+
+    // Access ordered, iteration starts from the least recently used device
+    private final LinkedHashMap<String, Boolean> connected = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> connecting = new HashSet<>();
+    private final Set<String> evicting = new HashSet<>();
+    private final ArrayDeque<Request> queue = new ArrayDeque<>();
+    @Nullable
+    private Request serializedAttempt;
+    // Monitor transaction id to device id, updated from notification callbacks
+    private final Map<String, String> pins = new ConcurrentHashMap<>();
+
+    private long connectionAttempts;
+    private long evictions;
+    private long queueTimeouts;
+    private long totalWaitMillis;
+    private long maxWaitMillis;
+
+    public ConnectionPool(ScheduledExecutorService executor, Evictor evictor) {
+        this.executor = executor;
+        this.evictor = evictor;
+    }
+
+    /**
+     * Applies {@code maxConnections} (0 for no limit) and {@code queueTimeoutMs} (0 to wait indefinitely) to requests
+     * from now on. Lowering the limit doesn't disconnect devices until a new connection needs a slot.
+     */
+    public void configure(@Nullable ReadableMap options) {
+        synchronized (this) {
+            maxConnections = 0;
+            queueTimeoutMillis = 0;
+            if (options != null) {
+                if (options.hasKey(Metadata.MAX_CONNECTIONS)
+                        && options.getType(Metadata.MAX_CONNECTIONS) == ReadableType.Number) {
+                    maxConnections = Math.max(0, options.getInt(Metadata.MAX_CONNECTIONS));
+                }
+                if (options.hasKey(Metadata.QUEUE_TIMEOUT_MS)
+                        && options.getType(Metadata.QUEUE_TIMEOUT_MS) == ReadableType.Number) {
+                    queueTimeoutMillis = Math.max(0, (long) options.getDouble(Metadata.QUEUE_TIMEOUT_MS));
+                }
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Queues the request. Requests for devices which are already connected or connecting start immediately and don't
+     * take another slot.
+     */
+    public void submit(final Request request) {
+        boolean startNow;
+        synchronized (this) {
+            startNow = connected.get(request.deviceId) != null || connecting.contains(request.deviceId);
+            if (!startNow) {
+                request.enqueuedAt = System.currentTimeMillis();
+                queue.add(request);
+                if (queueTimeoutMillis > 0) {
+                    request.timeout = executor.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            expire(request);
+                        }
+                    }, queueTimeoutMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        if (startNow) {
+            request.start();
+        } else {
+            drain();
+        }
+    }
+
+    public void attemptFinished(Request request, boolean isConnected) {
+        synchronized (this) {
+            cancelTimeout(request);
+            if (serializedAttempt == request) {
+                serializedAttempt = null;
+            }
+            if (request.counted) {
+                request.counted = false;
+                connecting.remove(request.deviceId);
+            }
+            if (isConnected) {
+                connected.put(request.deviceId, Boolean.TRUE);
+            }
+        }
+        drain();
+    }
+
+    public void onDisconnected(String deviceId) {
+        synchronized (this) {
+            connected.remove(deviceId);
+            evicting.remove(deviceId);
+        }
+        drain();
+    }
+
+    public synchronized List<String> connectedDevices() {
+        return new ArrayList<>(connected.keySet());
+    }
+
+    /**
+     * Marks the device as most recently used.
+     */
+    public synchronized void touch(String deviceId) {
+        connected.get(deviceId);
+    }
+
+    /**
+     * Keeps the device connected while the monitor is active.
+     */
+    public void pin(String deviceId, String transactionId) {
+        if (deviceId != null && !deviceId.equals(pins.get(transactionId))) {
+            pins.put(transactionId, deviceId);
+        }
+    }
+
+    public void unpin(String transactionId) {
+        pins.remove(transactionId);
+        drain();
+    }
+
+    /**
+     * Fails queued requests of the device with {@link BleErrorCode#OperationCancelled}.
+     */
+    public void cancel(String deviceId) {
+        List<Request> cancelled = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Request> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                Request request = iterator.next();
+                if (request.deviceId.equals(deviceId)) {
+                    iterator.remove();
+                    cancelTimeout(request);
+                    cancelled.add(request);
+                }
+            }
+        }
+        for (Request request : cancelled) {
+            BleError error = new BleError(BleErrorCode.OperationCancelled, null, null);
+            error.deviceID = deviceId;
+            request.fail(error);
+        }
+    }
+
+    public void clear() {
+        List<Request> removed;
+        synchronized (this) {
+            removed = new ArrayList<>(queue);
+            queue.clear();
+            connected.clear();
+            connecting.clear();
+            evicting.clear();
+            serializedAttempt = null;
+            pins.clear();
+            connectionAttempts = 0;
+            evictions = 0;
+            queueTimeouts = 0;
+            totalWaitMillis = 0;
+            maxWaitMillis = 0;
+        }
+        for (Request request : removed) {
+            cancelTimeout(request);
+            request.fail(new BleError(BleErrorCode.BluetoothManagerDestroyed, null, null));
+        }
+    }
+
+    public synchronized WritableMap statisticsToJs() {
+        int pinned = 0;
+        for (String deviceId : connected.keySet()) {
+            if (pins.containsValue(deviceId)) {
+                pinned++;
+            }
+        }
+        WritableMap result = Arguments.createMap();
+        result.putInt(Metadata.MAX_CONNECTIONS, maxConnections);
+        result.putInt(Metadata.CONNECTED, connected.size());
+        result.putInt(Metadata.PINNED, pinned);
+        result.putInt(Metadata.CONNECTING, connecting.size());
+        result.putInt(Metadata.QUEUED, queue.size());
+        result.putDouble(Metadata.CONNECTION_ATTEMPTS, connectionAttempts);
+        result.putDouble(Metadata.EVICTIONS, evictions);
+        result.putDouble(Metadata.QUEUE_TIMEOUTS, queueTimeouts);
+        result.putDouble(Metadata.AVERAGE_WAIT_MS,
+                connectionAttempts > 0 ? (double) totalWaitMillis / connectionAttempts : 0);
+        result.putDouble(Metadata.MAX_WAIT_MS, maxWaitMillis);
+        return result;
+    }
+
+    /**
+     * Starts queued requests while there are free slots, or evicts a single device when there are none. Evicted
+     * device keeps its slot until it is reported as disconnected.
+     */
+    private void drain() {
+        while (true) {
+            Request started;
+            String evicted = null;
+            synchronized (this) {
+                Request head = queue.peek();
+                if (head == null || (head.serialized && maxConnections > 0 && serializedAttempt != null)) {
+                    return;
+                }
+                int occupied = connected.size() + connecting.size() + evicting.size();
+                if (maxConnections == 0 || occupied < maxConnections) {
+                    queue.poll();
+                    cancelTimeout(head);
+                    head.counted = true;
+                    connecting.add(head.deviceId);
+                    if (head.serialized && maxConnections > 0) {
+                        serializedAttempt = head;
+                        final Request attempt = head;
+                        head.timeout = executor.schedule(new Runnable() {
+                            @Override
+                            public void run() {
+                                abandon(attempt);
+                            }
+                        }, head.attemptTimeoutMillis, TimeUnit.MILLISECONDS);
+                    }
+                    long waitMillis = System.currentTimeMillis() - head.enqueuedAt;
+                    connectionAttempts++;
+                    totalWaitMillis += waitMillis;
+                    maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+                    started = head;
+                } else {
+                    started = null;
+                    if (evicting.isEmpty()) {
+                        evicted = leastRecentlyUsedUnpinned();
+                    }
+                    if (evicted == null) {
+                        return;
+                    }
+                    connected.remove(evicted);
+                    evicting.add(evicted);
+                    evictions++;
+                }
+            }
+            if (started == null) {
+                evictor.evict(evicted);
+                return;
+            }
+            started.start();
+        }
+    }
+
+    @Nullable
+    private String leastRecentlyUsedUnpinned() {
+        for (String deviceId : connected.keySet()) {
+            if (!pins.containsValue(deviceId)) {
+                return deviceId;
+            }
+        }
+        return null;
+    }
+
+    private void expire(Request request) {
+        long waitMillis;
+        synchronized (this) {
+            if (!queue.remove(request)) {
+                return;
+            }
+            queueTimeouts++;
+            waitMillis = System.currentTimeMillis() - request.enqueuedAt;
+        }
+        BleError error = new BleError(BleErrorCode.DeviceConnectionFailed,
+                "Connection pool is full, waited " + waitMillis + " ms", null);
+        error.deviceID = request.deviceId;
+        request.fail(error);
+    }
+
+    /**
+     * Releases the slot of an attempt which didn't report its result in time. A late success still marks the device
+     * as connected.
+     */
+    private void abandon(Request request) {
+        synchronized (this) {
+            request.timeout = null;
+            if (serializedAttempt == request) {
+                serializedAttempt = null;
+            }
+            if (!request.counted) {
+                return;
+            }
+            request.counted = false;
+            connecting.remove(request.deviceId);
+        }
+        drain();
+    }
+
+    private static void cancelTimeout(Request request) {
+        if (request.timeout != null) {
+            request.timeout.cancel(false);
+            request.timeout = null;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.polidea.reactnativeble.connection;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Reconnects devices which were disconnected without being asked to, with exponential backoff and jitter between
+ * attempts. Subscriptions which ended because of the disconnection are parked here and restored once the connection is
+ * back, so that JS keeps receiving notifications without resubscribing.
+ */
+public class ReconnectSupervisor {
+
+    private interface Metadata {
+        String MAX_ATTEMPTS = "maxAttempts";
+        String INITIAL_DELAY_MS = "initialDelayMs";
+        String MAX_DELAY_MS = "maxDelayMs";
+        String MULTIPLIER = "multiplier";
+        String JITTER = "jitter";
+
+        String DEVICE_ID = "deviceID";
+        String STATE = "state";
+        String ATTEMPT = "attempt";
+        String DELAY_MS = "delayMs";
+        String DOWNTIME_MS = "downtimeMs";
+        String ATTEMPT_DURATION_MS = "attemptDurationMs";
+        String RESTORED_SUBSCRIPTIONS = "restoredSubscriptions";
+    }
+
+    private interface State {
+        String RECONNECTING = "Reconnecting";
+        String RECONNECTED = "Reconnected";
+        String FAILED = "Failed";
+    }
+
+    /**
+     * Backoff configuration passed from JS. Attempt {@code n} waits {@code initialDelayMs * multiplier^n} capped at
+     * {@code maxDelayMs}, of which the {@code jitter} fraction is randomized.
+     */
+    public static class Policy {
+        int maxAttempts = 0;
+        long initialDelayMillis = 500;
+        long maxDelayMillis = 30000;
+        double multiplier = 2;
+        double jitter = 0.5;
+
+        /**
+         * @throws IllegalArgumentException when values are out of range
+         */
+        public static Policy fromReadableMap(ReadableMap options) {
+            Policy result = new Policy();
+            if (options.hasKey(Metadata.MAX_ATTEMPTS)
+                    && options.getType(Metadata.MAX_ATTEMPTS) == ReadableType.Number) {
+                result.maxAttempts = options.getInt(Metadata.MAX_ATTEMPTS);
+            }
+            if (options.hasKey(Metadata.INITIAL_DELAY_MS)
+                    && options.getType(Metadata.INITIAL_DELAY_MS) == ReadableType.Number) {
+                result.initialDelayMillis = (long) options.getDouble(Metadata.INITIAL_DELAY_MS);
+            }
+            if (options.hasKey(Metadata.MAX_DELAY_MS)
+                    && options.getType(Metadata.MAX_DELAY_MS) == ReadableType.Number) {
+                result.maxDelayMillis = (long) options.getDouble(Metadata.MAX_DELAY_MS);
+            }
+            if (options.hasKey(Metadata.MULTIPLIER) && options.getType(Metadata.MULTIPLIER) == ReadableType.Number) {
+                result.multiplier = options.getDouble(Metadata.MULTIPLIER);
+            }
+            if (options.hasKey(Metadata.JITTER) && options.getType(Metadata.JITTER) == ReadableType.Number) {
+                result.jitter = options.getDouble(Metadata.JITTER);
+            }
+            if (result.maxAttempts < 0 || result.initialDelayMillis < 0 || result.maxDelayMillis < 0) {
+                throw new IllegalArgumentException("Reconnection attempts and delays can't be negative");
+            }
+            if (result.multiplier < 1) {
+                throw new IllegalArgumentException("Reconnection delay multiplier has to be at least 1");
+            }
+            if (result.jitter < 0 || result.jitter > 1) {
+                throw new IllegalArgumentException("Reconnection jitter has to be between 0 and 1");
+            }
+            return result;
+        }
+
+        long delayMillis(int attempt, Random random) {
+            double delay = Math.min(maxDelayMillis, initialDelayMillis * Math.pow(multiplier, attempt));
+            return (long) (delay * (1 - jitter) + delay * jitter * random.nextDouble());
+        }
+    }
+
+    /**
+     * Starts a single connection attempt and reports its result with {@link #attemptSucceeded} or
+     * {@link #attemptFailed}.
+     */
+    public interface Connector {
+        void connect();
+    }
+
+    /**
+     * Subscription of a device which ended because of disconnection.
+     */
+    public abstract static class ParkedSubscription {
+        public final String transactionId;
+
+        protected ParkedSubscription(String transactionId) {
+            this.transactionId = transactionId;
+        }
+
+        public abstract void restore();
+
+        public abstract void fail(BleError error);
+    }
+
+    public interface Listener {
+        void onReconnectionEvent(@Nullable BleError error, WritableMap event);
+    }
+
+    private static class Supervision {
+        final Policy policy;
+        final Connector connector;
+        final List<ParkedSubscription> parked = new ArrayList<>();
+        boolean reconnecting;
+        int attempt;
+        long disconnectedAt;
+        long attemptStartedAt;
+        @Nullable
+        ScheduledFuture<?> pendingAttempt;
+
+        Supervision(Policy policy, Connector connector) {
+            this.policy = policy;
+            this.connector = connector;
+        }
+    }
+
+    private final ScheduledExecutorService executor;
+    private final Listener listener;
+    private final Map<String, Supervision> supervisions = new HashMap<>();
+    private final Random random = new Random();
+
+    public ReconnectSupervisor(ScheduledExecutorService executor, Listener listener) {
+        this.executor = executor;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts supervising a connected device. Replaces previous supervision of the device.
+     */
+    public void enable(String deviceId, Policy policy, Connector connector) {
+        disable(deviceId, new BleError(BleErrorCode.OperationCancelled, null, null));
+        synchronized (this) {
+            supervisions.put(deviceId, new Supervision(policy, connector));
+        }
+    }
+
+    /**
+     * Stops supervising the device, e.g. when its connection is cancelled on purpose. Parked subscriptions fail with
+     * the error.
+     */
+    public void disable(String deviceId, BleError error) {
+        Supervision supervision;
+        synchronized (this) {
+            supervision = supervisions.remove(deviceId);
+            if (supervision != null && supervision.pendingAttempt != null) {
+                supervision.pendingAttempt.cancel(false);
+            }
+        }
+        if (supervision != null) {
+            failAll(supervision, error);
+        }
+    }
+
+    public synchronized boolean isSupervised(String deviceId) {
+        return supervisions.containsKey(deviceId);
+    }
+
+    public synchronized boolean isReconnecting(String deviceId) {
+        Supervision supervision = supervisions.get(deviceId);
+        return supervision != null && supervision.reconnecting;
+    }
+
+    /**
+     * Keeps the subscription until the device reconnects. Returns false when the device is not supervised and the
+     * subscription has to end as usual.
+     */
+    public synchronized boolean park(String deviceId, ParkedSubscription subscription) {
+        Supervision supervision = supervisions.get(deviceId);
+        if (supervision == null) {
+            return false;
+        }
+        supervision.parked.add(subscription);
+        return true;
+    }
+
+    /**
+     * Schedules the first reconnection attempt. Disconnections reported while already reconnecting are ignored.
+     */
+    public void onDisconnected(String deviceId) {
+        synchronized (this) {
+            Supervision supervision = supervisions.get(deviceId);
+            if (supervision == null || supervision.reconnecting) {
+                return;
+            }
+            supervision.reconnecting = true;
+            supervision.attempt = 0;
+            supervision.disconnectedAt = System.currentTimeMillis();
+        }
+        scheduleAttempt(deviceId);
+    }
+
+    /**
+     * Ends reconnection and returns parked subscriptions, which the caller restores once the device is ready for
+     * them. A disconnection reported from now on starts a new reconnection.
+     */
+    public List<ParkedSubscription> attemptSucceeded(String deviceId) {
+        List<ParkedSubscription> restored;
+        WritableMap event;
+        synchronized (this) {
+            Supervision supervision = supervisions.get(deviceId);
+            if (supervision == null || !supervision.reconnecting) {
+                return new ArrayList<>();
+            }
+            supervision.reconnecting = false;
+            restored = new ArrayList<>(supervision.parked);
+            supervision.parked.clear();
+            long now = System.currentTimeMillis();
+            event = createEvent(deviceId, State.RECONNECTED, supervision.attempt);
+            event.putDouble(Metadata.DOWNTIME_MS, now - supervision.disconnectedAt);
+            event.putDouble(Metadata.ATTEMPT_DURATION_MS, now - supervision.attemptStartedAt);
+            event.putInt(Metadata.RESTORED_SUBSCRIPTIONS, restored.size());
+        }
+        listener.onReconnectionEvent(null, event);
+        return restored;
+    }
+
+    public void attemptFailed(String deviceId, BleError error) {
+        Supervision failed;
+        WritableMap event;
+        synchronized (this) {
+            Supervision supervision = supervisions.get(deviceId);
+            if (supervision == null || !supervision.reconnecting) {
+                return;
+            }
+            if (supervision.policy.maxAttempts == 0 || supervision.attempt < supervision.policy.maxAttempts) {
+                failed = null;
+                event = null;
+            } else {
+                supervisions.remove(deviceId);
+                failed = supervision;
+                event = createEvent(deviceId, State.FAILED, supervision.attempt);
+                event.putDouble(Metadata.DOWNTIME_MS, System.currentTimeMillis() - supervision.disconnectedAt);
+            }
+        }
+        if (failed == null) {
+            scheduleAttempt(deviceId);
+            return;
+        }
+        failAll(failed, error);
+        listener.onReconnectionEvent(error, event);
+    }
+
+    /**
+     * Fails the parked subscription of the transaction with {@link BleErrorCode#OperationCancelled}. Returns false
+     * when no subscription with the transaction is parked.
+     */
+    public boolean cancel(String transactionId) {
+        ParkedSubscription cancelled = null;
+        synchronized (this) {
+            for (Supervision supervision : supervisions.values()) {
+                Iterator<ParkedSubscription> iterator = supervision.parked.iterator();
+                while (iterator.hasNext()) {
+                    ParkedSubscription subscription = iterator.next();
+                    if (subscription.transactionId.equals(transactionId)) {
+                        iterator.remove();
+                        cancelled = subscription;
+                        break;
+                    }
+                }
+            }
+        }
+        if (cancelled == null) {
+            return false;
+        }
+        cancelled.fail(new BleError(BleErrorCode.OperationCancelled, null, null));
+        return true;
+    }
+
+    public void clear() {
+        List<Supervision> removed;
+        synchronized (this) {
+            removed = new ArrayList<>(supervisions.values());
+            supervisions.clear();
+        }
+        BleError error = new BleError(BleErrorCode.BluetoothManagerDestroyed, null, null);
+        for (Supervision supervision : removed) {
+            if (supervision.pendingAttempt != null) {
+                supervision.pendingAttempt.cancel(false);
+            }
+            failAll(supervision, error);
+        }
+    }
+
+    private void scheduleAttempt(final String deviceId) {
+        WritableMap event;
+        synchronized (this) {
+            final Supervision supervision = supervisions.get(deviceId);
+            if (supervision == null) {
+                return;
+            }
+            long delay = supervision.policy.delayMillis(supervision.attempt, random);
+            supervision.attempt++;
+            supervision.pendingAttempt = executor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (ReconnectSupervisor.this) {
+                        if (supervisions.get(deviceId) != supervision) {
+                            return;
+                        }
+                        supervision.pendingAttempt = null;
+                        supervision.attemptStartedAt = System.currentTimeMillis();
+                    }
+                    supervision.connector.connect();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            event = createEvent(deviceId, State.RECONNECTING, supervision.attempt);
+            event.putDouble(Metadata.DELAY_MS, delay);
+        }
+        listener.onReconnectionEvent(null, event);
+    }
+
+    private static WritableMap createEvent(String deviceId, String state, int attempt) {
+        WritableMap event = Arguments.createMap();
+        event.putString(Metadata.DEVICE_ID, deviceId);
+        event.putString(Metadata.STATE, state);
+        event.putInt(Metadata.ATTEMPT, attempt);
+        return event;
+    }
+
+    // Called for supervisions already removed from the map, nothing else can park on them anymore
+    private static void failAll(Supervision supervision, BleError error) {
+        for (ParkedSubscription subscription : supervision.parked) {
+            subscription.fail(error);
+        }
+        supervision.parked.clear();
+    }
+}
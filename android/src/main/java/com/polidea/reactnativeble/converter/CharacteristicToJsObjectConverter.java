@@ -3,8 +3,8 @@ package com.polidea.reactnativeble.converter;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 import com.polidea.multiplatformbleadapter.Characteristic;
-import com.polidea.multiplatformbleadapter.utils.Base64Converter;
-import com.polidea.multiplatformbleadapter.utils.UUIDConverter;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
 
 public class CharacteristicToJsObjectConverter extends JSObjectConverter<Characteristic> {
 
@@ -0,0 +1,86 @@
+package com.polidea.reactnativeble.handle;
+
+import com.polidea.multiplatformbleadapter.Characteristic;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Maps compact integer handles passed to JS to adapter's characteristic identifiers. Handles are never reused, so
+ * a stale handle can't point to another characteristic. All handles of a device become invalid when it disconnects
+ * or its services are discovered again, because the adapter assigns new identifiers then.
+ */
+public class CharacteristicHandleTable {
+
+    public static final int INVALID_CHARACTERISTIC = -1;
+
+    private static class Entry {
+        final String deviceId;
+        final int characteristicId;
+        final Characteristic characteristic;
+
+        Entry(Characteristic characteristic) {
+            this.deviceId = characteristic.getDeviceId();
+            this.characteristicId = characteristic.getId();
+            this.characteristic = characteristic;
+        }
+    }
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Integer, Integer> handlesByCharacteristicId = new HashMap<>();
+    private int nextHandle = 1;
+
+    public synchronized int register(Characteristic characteristic) {
+        Integer existing = handlesByCharacteristicId.get(characteristic.getId());
+        if (existing != null) {
+            return existing;
+        }
+        int handle = nextHandle++;
+        entries.put(handle, new Entry(characteristic));
+        handlesByCharacteristicId.put(characteristic.getId(), handle);
+        return handle;
+    }
+
+    public synchronized int resolve(int handle) {
+        Entry entry = entries.get(handle);
+        return entry != null ? entry.characteristicId : INVALID_CHARACTERISTIC;
+    }
+
+    @Nullable
+    public synchronized String resolveDevice(int handle) {
+        Entry entry = entries.get(handle);
+        return entry != null ? entry.deviceId : null;
+    }
+
+    @Nullable
+    public synchronized Characteristic resolveCharacteristic(int handle) {
+        Entry entry = entries.get(handle);
+        return entry != null ? entry.characteristic : null;
+    }
+
+    public synchronized void release(int handle) {
+        Entry entry = entries.remove(handle);
+        if (entry != null) {
+            handlesByCharacteristicId.remove(entry.characteristicId);
+        }
+    }
+
+    public synchronized void invalidateDevice(String deviceId) {
+        Iterator<Map.Entry<Integer, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (entry.deviceId.equals(deviceId)) {
+                handlesByCharacteristicId.remove(entry.characteristicId);
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        handlesByCharacteristicId.clear();
+    }
+}
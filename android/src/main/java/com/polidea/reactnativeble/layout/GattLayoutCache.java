@@ -0,0 +1,156 @@
+package com.polidea.reactnativeble.layout;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.BleAdapter;
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.Descriptor;
+import com.polidea.multiplatformbleadapter.Service;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Keeps service, characteristic and descriptor layout found by the last discovery of each device on disk, keyed by
+ * device id. The layout is for inspection only: the adapter has no way to seed its attribute table, so discovery can't
+ * be skipped with it. Adapter identifiers are not stored, they are assigned anew on every discovery.
+ */
+public class GattLayoutCache {
+
+    private static final String PREFERENCES_NAME = "BlePlxGattLayoutCache";
+
+    private interface Metadata {
+        String SERVICES = "services";
+        String CHARACTERISTICS = "characteristics";
+        String DESCRIPTORS = "descriptors";
+        String UUID = "uuid";
+        String IS_PRIMARY = "isPrimary";
+        String IS_READABLE = "isReadable";
+        String IS_WRITABLE_WITH_RESPONSE = "isWritableWithResponse";
+        String IS_WRITABLE_WITHOUT_RESPONSE = "isWritableWithoutResponse";
+        String IS_NOTIFIABLE = "isNotifiable";
+        String IS_INDICATABLE = "isIndicatable";
+    }
+
+    private final SharedPreferences preferences;
+
+    public GattLayoutCache(Context context) {
+        preferences = context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Stores layout currently discovered by the adapter, replacing the previous one. Unchanged layout is not written.
+     *
+     * @throws BleError when device is not connected or its services were not discovered
+     */
+    public void store(BleAdapter bleAdapter, String deviceId) throws BleError {
+        try {
+            JSONArray services = new JSONArray();
+            for (Service service : bleAdapter.getServicesForDevice(deviceId)) {
+                JSONArray characteristics = new JSONArray();
+                for (Characteristic characteristic : bleAdapter.getCharacteristicsForService(service.getId())) {
+                    JSONArray descriptors = new JSONArray();
+                    for (Descriptor descriptor : bleAdapter.descriptorsForCharacteristic(characteristic.getId())) {
+                        descriptors.put(UUIDConverter.fromUUID(descriptor.getUuid()));
+                    }
+                    JSONObject characteristicJson = new JSONObject();
+                    characteristicJson.put(Metadata.UUID, UUIDConverter.fromUUID(characteristic.getUuid()));
+                    characteristicJson.put(Metadata.IS_READABLE, characteristic.isReadable());
+                    characteristicJson.put(Metadata.IS_WRITABLE_WITH_RESPONSE, characteristic.isWritableWithResponse());
+                    characteristicJson.put(Metadata.IS_WRITABLE_WITHOUT_RESPONSE,
+                            characteristic.isWritableWithoutResponse());
+                    characteristicJson.put(Metadata.IS_NOTIFIABLE, characteristic.isNotifiable());
+                    characteristicJson.put(Metadata.IS_INDICATABLE, characteristic.isIndicatable());
+                    characteristicJson.put(Metadata.DESCRIPTORS, descriptors);
+                    characteristics.put(characteristicJson);
+                }
+                JSONObject serviceJson = new JSONObject();
+                serviceJson.put(Metadata.UUID, UUIDConverter.fromUUID(service.getUuid()));
+                serviceJson.put(Metadata.IS_PRIMARY, service.isPrimary());
+                serviceJson.put(Metadata.CHARACTERISTICS, characteristics);
+                services.put(serviceJson);
+            }
+            JSONObject layout = new JSONObject();
+            layout.put(Metadata.SERVICES, services);
+            String stored = layout.toString();
+            if (!stored.equals(preferences.getString(deviceId, null))) {
+                preferences.edit().putString(deviceId, stored).apply();
+            }
+        } catch (JSONException e) {
+            // Only thrown for non-finite numbers, which the layout doesn't contain
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void remove(String deviceId) {
+        preferences.edit().remove(deviceId).apply();
+    }
+
+    public void clear() {
+        preferences.edit().clear().apply();
+    }
+
+    @Nullable
+    public WritableMap toJs(String deviceId) {
+        String stored = preferences.getString(deviceId, null);
+        if (stored == null) {
+            return null;
+        }
+        try {
+            JSONObject layout = new JSONObject(stored);
+            WritableMap result = Arguments.createMap();
+            WritableArray services = Arguments.createArray();
+            JSONArray servicesJson = layout.getJSONArray(Metadata.SERVICES);
+            for (int i = 0; i < servicesJson.length(); i++) {
+                JSONObject serviceJson = servicesJson.getJSONObject(i);
+                WritableArray characteristics = Arguments.createArray();
+                JSONArray characteristicsJson = serviceJson.getJSONArray(Metadata.CHARACTERISTICS);
+                for (int j = 0; j < characteristicsJson.length(); j++) {
+                    characteristics.pushMap(characteristicToJs(characteristicsJson.getJSONObject(j)));
+                }
+                WritableMap service = Arguments.createMap();
+                service.putString(Metadata.UUID, serviceJson.getString(Metadata.UUID));
+                service.putBoolean(Metadata.IS_PRIMARY, serviceJson.getBoolean(Metadata.IS_PRIMARY));
+                service.putArray(Metadata.CHARACTERISTICS, characteristics);
+                services.pushMap(service);
+            }
+            result.putArray(Metadata.SERVICES, services);
+            return result;
+        } catch (JSONException e) {
+            // Written by an incompatible version, treat as missing
+            remove(deviceId);
+            return null;
+        }
+    }
+
+    private static WritableMap characteristicToJs(JSONObject characteristicJson) throws JSONException {
+        WritableArray descriptors = Arguments.createArray();
+        JSONArray descriptorsJson = characteristicJson.getJSONArray(Metadata.DESCRIPTORS);
+        for (int i = 0; i < descriptorsJson.length(); i++) {
+            descriptors.pushString(descriptorsJson.getString(i));
+        }
+        WritableMap characteristic = Arguments.createMap();
+        characteristic.putString(Metadata.UUID, characteristicJson.getString(Metadata.UUID));
+        String[] flags = {
+                Metadata.IS_READABLE,
+                Metadata.IS_WRITABLE_WITH_RESPONSE,
+                Metadata.IS_WRITABLE_WITHOUT_RESPONSE,
+                Metadata.IS_NOTIFIABLE,
+                Metadata.IS_INDICATABLE
+        };
+        for (String flag : flags) {
+            characteristic.putBoolean(flag, characteristicJson.getBoolean(flag));
+        }
+        characteristic.putArray(Metadata.DESCRIPTORS, descriptors);
+        return characteristic;
+    }
+}
@@ -0,0 +1,98 @@
+package com.polidea.reactnativeble.layout;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.BleAdapter;
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.Descriptor;
+import com.polidea.multiplatformbleadapter.Service;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.reactnativeble.converter.CharacteristicToJsObjectConverter;
+import com.polidea.reactnativeble.converter.DescriptorToJsObjectConverter;
+import com.polidea.reactnativeble.converter.ServiceToJsObjectConverter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts the whole discovered attribute tree of a device in one pass and keeps the result until the device is
+ * discovered again or disconnects. Values are not part of the snapshot, characteristics and descriptors carry
+ * {@code null} values so that a memoized tree never reports stale data. Notification state is the one at the time the
+ * snapshot was built.
+ */
+public class GattSnapshotCache {
+
+    private interface Metadata {
+        String SERVICES = "services";
+        String SERVICE = "service";
+        String CHARACTERISTICS = "characteristics";
+        String CHARACTERISTIC = "characteristic";
+        String DESCRIPTORS = "descriptors";
+        String VALUE = "value";
+    }
+
+    private final ServiceToJsObjectConverter serviceConverter;
+    private final CharacteristicToJsObjectConverter characteristicConverter;
+    private final DescriptorToJsObjectConverter descriptorConverter;
+    private final Map<String, WritableMap> snapshots = new HashMap<>();
+
+    public GattSnapshotCache(ServiceToJsObjectConverter serviceConverter,
+                             CharacteristicToJsObjectConverter characteristicConverter,
+                             DescriptorToJsObjectConverter descriptorConverter) {
+        this.serviceConverter = serviceConverter;
+        this.characteristicConverter = characteristicConverter;
+        this.descriptorConverter = descriptorConverter;
+    }
+
+    /**
+     * Returns a copy of the memoized snapshot, building it first if needed. The memoized map itself is never passed
+     * to the bridge, which would consume it.
+     *
+     * @throws BleError when device is not connected or its services were not discovered
+     */
+    public synchronized WritableMap snapshotToJs(BleAdapter bleAdapter, String deviceId) throws BleError {
+        WritableMap snapshot = snapshots.get(deviceId);
+        if (snapshot == null) {
+            snapshot = build(bleAdapter, deviceId);
+            snapshots.put(deviceId, snapshot);
+        }
+        return snapshot.copy();
+    }
+
+    public synchronized void invalidateDevice(String deviceId) {
+        snapshots.remove(deviceId);
+    }
+
+    public synchronized void clear() {
+        snapshots.clear();
+    }
+
+    private WritableMap build(BleAdapter bleAdapter, String deviceId) throws BleError {
+        WritableArray services = Arguments.createArray();
+        for (Service service : bleAdapter.getServicesForDevice(deviceId)) {
+            WritableArray characteristics = Arguments.createArray();
+            for (Characteristic characteristic : bleAdapter.getCharacteristicsForService(service.getId())) {
+                WritableArray descriptors = Arguments.createArray();
+                for (Descriptor descriptor : bleAdapter.descriptorsForCharacteristic(characteristic.getId())) {
+                    WritableMap jsDescriptor = descriptorConverter.toJSObject(descriptor);
+                    jsDescriptor.putNull(Metadata.VALUE);
+                    descriptors.pushMap(jsDescriptor);
+                }
+                WritableMap jsCharacteristic = characteristicConverter.toJSObject(characteristic);
+                jsCharacteristic.putNull(Metadata.VALUE);
+                WritableMap characteristicEntry = Arguments.createMap();
+                characteristicEntry.putMap(Metadata.CHARACTERISTIC, jsCharacteristic);
+                characteristicEntry.putArray(Metadata.DESCRIPTORS, descriptors);
+                characteristics.pushMap(characteristicEntry);
+            }
+            WritableMap serviceEntry = Arguments.createMap();
+            serviceEntry.putMap(Metadata.SERVICE, serviceConverter.toJSObject(service));
+            serviceEntry.putArray(Metadata.CHARACTERISTICS, characteristics);
+            services.pushMap(serviceEntry);
+        }
+        WritableMap snapshot = Arguments.createMap();
+        snapshot.putArray(Metadata.SERVICES, services);
+        return snapshot;
+    }
+}
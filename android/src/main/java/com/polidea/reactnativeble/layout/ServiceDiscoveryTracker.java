@@ -0,0 +1,93 @@
+package com.polidea.reactnativeble.layout;
+
+import com.polidea.multiplatformbleadapter.errors.BleError;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers which connected devices already had their services discovered and collapses concurrent discovery
+ * requests of a device into a single GATT discovery. Android discovers the whole attribute table at once, so a device
+ * is discovered at most once per connection no matter how many services are requested.
+ */
+public class ServiceDiscoveryTracker {
+
+    public interface Waiter {
+        void onDiscovered();
+
+        void onError(BleError error);
+    }
+
+    private final Set<String> discoveredDevices = new HashSet<>();
+    private final Map<String, List<Waiter>> pendingDiscoveries = new HashMap<>();
+
+    public synchronized boolean isDiscovered(String deviceId) {
+        return discoveredDevices.contains(deviceId);
+    }
+
+    /**
+     * Notifies the waiter immediately when the device is discovered already, otherwise queues it. Returns true when
+     * the caller has to start the discovery and report its result with {@link #complete} or {@link #fail}.
+     */
+    public boolean await(String deviceId, Waiter waiter) {
+        synchronized (this) {
+            if (!discoveredDevices.contains(deviceId)) {
+                List<Waiter> waiters = pendingDiscoveries.get(deviceId);
+                boolean start = waiters == null;
+                if (start) {
+                    waiters = new ArrayList<>();
+                    pendingDiscoveries.put(deviceId, waiters);
+                }
+                waiters.add(waiter);
+                return start;
+            }
+        }
+        waiter.onDiscovered();
+        return false;
+    }
+
+    /**
+     * Marks the device as discovered, also when the discovery was started outside of this tracker.
+     */
+    public void complete(String deviceId) {
+        List<Waiter> waiters;
+        synchronized (this) {
+            discoveredDevices.add(deviceId);
+            waiters = pendingDiscoveries.remove(deviceId);
+        }
+        if (waiters != null) {
+            for (Waiter waiter : waiters) {
+                waiter.onDiscovered();
+            }
+        }
+    }
+
+    public void fail(String deviceId, BleError error) {
+        List<Waiter> waiters;
+        synchronized (this) {
+            waiters = pendingDiscoveries.remove(deviceId);
+        }
+        if (waiters != null) {
+            for (Waiter waiter : waiters) {
+                waiter.onError(error);
+            }
+        }
+    }
+
+    /**
+     * Forgets the device after disconnection or when its attribute table changed. Discoveries in progress report
+     * their result as usual.
+     */
+    public synchronized void invalidateDevice(String deviceId) {
+        discoveredDevices.remove(deviceId);
+    }
+
+    public synchronized void clear() {
+        discoveredDevices.clear();
+        pendingDiscoveries.clear();
+    }
+}
@@ -0,0 +1,258 @@
+package com.polidea.reactnativeble.monitor;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.converter.BleErrorToJsObjectConverter;
+import com.polidea.reactnativeble.converter.CharacteristicToJsObjectConverter;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Processes notifications of a single monitoring transaction before they are sent to JS.
+ */
+public class CharacteristicMonitor {
+
+    public interface Listener {
+        void onRead(ReadableArray event);
+
+        void onReadBatch(ReadableArray event);
+    }
+
+    private interface Metadata {
+        String VALUE = "value";
+        String AGGREGATE = "aggregate";
+        String CHARACTERISTIC = "characteristic";
+        String VALUES = "values";
+        String TIMESTAMPS = "timestamps";
+    }
+
+    private final String transactionId;
+    private final CharacteristicToJsObjectConverter characteristicConverter;
+    private final BleErrorToJsObjectConverter errorConverter;
+    private final Listener listener;
+    @Nullable
+    private final MessageFramer framer;
+    @Nullable
+    private final NotificationSampler sampler;
+    @Nullable
+    private final NotificationAggregator aggregator;
+    @Nullable
+    private final NotificationBatcher batcher;
+    @Nullable
+    private final NotificationQueue queue;
+    // Characteristic which notified the fragment being framed, guarded by framer
+    private Characteristic framedCharacteristic;
+
+    public CharacteristicMonitor(String transactionId,
+                                 MonitorOptions options,
+                                 CharacteristicToJsObjectConverter characteristicConverter,
+                                 BleErrorToJsObjectConverter errorConverter,
+                                 Listener listener) {
+        this.transactionId = transactionId;
+        this.characteristicConverter = characteristicConverter;
+        this.errorConverter = errorConverter;
+        this.listener = listener;
+        this.framer = options.framing
+                ? new MessageFramer(options.framingHeaderLength, options.framingCountdownOffset,
+                options.framingMaxMessageLength)
+                : null;
+        this.sampler = options.sampleIntervalMs > 0
+                ? new NotificationSampler(options.sampleIntervalMs, samplerListener)
+                : null;
+        this.aggregator = options.aggregateLayout != null
+                ? new NotificationAggregator(options.aggregateLayout, options.aggregateWindowMs, aggregatorListener)
+                : null;
+        this.batcher = options.batch
+                ? new NotificationBatcher(options.batchIntervalMs, options.batchMaxSize, batchListener)
+                : null;
+        this.queue = options.flowControl
+                ? new NotificationQueue(options.flowControlQueueSize, options.flowControlOverflow,
+                options.flowControlBlockTimeoutMs, options.flowControlCredits, queueListener)
+                : null;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void start(ScheduledExecutorService scheduler) {
+        if (sampler != null) {
+            sampler.start(scheduler);
+        }
+        if (aggregator != null) {
+            aggregator.start(scheduler);
+        }
+        if (batcher != null) {
+            batcher.start(scheduler);
+        }
+    }
+
+    public void stop() {
+        if (sampler != null) {
+            sampler.stop();
+        }
+        if (aggregator != null) {
+            aggregator.stop();
+        }
+        if (batcher != null) {
+            batcher.stop();
+        }
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    public void grantCredits(int count) {
+        if (queue != null) {
+            queue.grantCredits(count);
+        }
+    }
+
+    @Nullable
+    public WritableMap statisticsToJs() {
+        return queue != null ? queue.toJs() : null;
+    }
+
+    public void onNotification(Characteristic characteristic) {
+        if (framer == null) {
+            byte[] value = characteristic.getValue();
+            receive(characteristic, value, value != null ? value.length : 0);
+            return;
+        }
+        synchronized (framer) {
+            framedCharacteristic = characteristic;
+            framer.append(characteristic.getValue(), framerListener);
+            framedCharacteristic = null;
+        }
+    }
+
+    private void receive(Characteristic characteristic, @Nullable byte[] value, int length) {
+        if (sampler != null) {
+            sampler.offer(characteristic, value, length);
+            return;
+        }
+        deliver(characteristic, value, length);
+    }
+
+    private void deliver(Characteristic characteristic, @Nullable byte[] rawValue, int length) {
+        if (aggregator != null) {
+            aggregator.add(characteristic, rawValue, length);
+            return;
+        }
+        String value = rawValue != null ? Base64Converter.encode(rawValue, 0, length) : null;
+        if (batcher != null) {
+            WritableMap jsCharacteristic = null;
+            if (batcher.needsCharacteristic()) {
+                jsCharacteristic = characteristicConverter.toJSObject(characteristic);
+                jsCharacteristic.putNull(Metadata.VALUE);
+            }
+            batcher.add(jsCharacteristic, value, System.currentTimeMillis());
+            return;
+        }
+        WritableMap jsCharacteristic = characteristicConverter.toJSObject(characteristic);
+        jsCharacteristic.putString(Metadata.VALUE, value);
+        WritableArray event = Arguments.createArray();
+        event.pushNull();
+        event.pushMap(jsCharacteristic);
+        event.pushString(transactionId);
+        emit(event, false);
+    }
+
+    private void emit(ReadableArray event, boolean batch) {
+        emit(event, batch, false);
+    }
+
+    private void emit(ReadableArray event, boolean batch, boolean retained) {
+        if (queue != null) {
+            queue.offer(event, batch, retained);
+        } else if (batch) {
+            listener.onReadBatch(event);
+        } else {
+            listener.onRead(event);
+        }
+    }
+
+    private final MessageFramer.Listener framerListener = new MessageFramer.Listener() {
+        @Override
+        public void onMessage(byte[] buffer, int length) {
+            // Framer reuses its buffer for the next message, so sampled messages need their own copy
+            byte[] message = sampler != null ? Arrays.copyOf(buffer, length) : buffer;
+            receive(framedCharacteristic, message, length);
+        }
+
+        @Override
+        public void onFramingError(String reason) {
+            BleError error = new BleError(BleErrorCode.CharacteristicInvalidDataFormat, reason, null);
+            error.deviceID = framedCharacteristic.getDeviceId();
+            error.serviceUUID = UUIDConverter.fromUUID(framedCharacteristic.getServiceUUID());
+            error.characteristicUUID = UUIDConverter.fromUUID(framedCharacteristic.getUuid());
+            WritableArray event = Arguments.createArray();
+            event.pushString(errorConverter.toJs(error));
+            event.pushNull();
+            event.pushString(transactionId);
+            emit(event, false);
+        }
+    };
+
+    private final NotificationSampler.Listener samplerListener = new NotificationSampler.Listener() {
+        @Override
+        public void onSample(Characteristic characteristic, @Nullable byte[] value, int length) {
+            deliver(characteristic, value, length);
+        }
+    };
+
+    private final NotificationAggregator.Listener aggregatorListener = new NotificationAggregator.Listener() {
+        @Override
+        public void onWindow(Characteristic characteristic, WritableMap aggregate) {
+            WritableMap jsCharacteristic = characteristicConverter.toJSObject(characteristic);
+            jsCharacteristic.putNull(Metadata.VALUE);
+            jsCharacteristic.putMap(Metadata.AGGREGATE, aggregate);
+            WritableArray event = Arguments.createArray();
+            event.pushNull();
+            event.pushMap(jsCharacteristic);
+            event.pushString(transactionId);
+            emit(event, false);
+        }
+    };
+
+    private final NotificationBatcher.Listener batchListener = new NotificationBatcher.Listener() {
+        @Override
+        public void onBatch(@Nullable WritableMap characteristic, WritableArray values, WritableArray timestamps) {
+            WritableMap batch = Arguments.createMap();
+            if (characteristic != null) {
+                batch.putMap(Metadata.CHARACTERISTIC, characteristic);
+            } else {
+                batch.putNull(Metadata.CHARACTERISTIC);
+            }
+            batch.putArray(Metadata.VALUES, values);
+            batch.putArray(Metadata.TIMESTAMPS, timestamps);
+            WritableArray event = Arguments.createArray();
+            event.pushNull();
+            event.pushMap(batch);
+            event.pushString(transactionId);
+            // Later batches don't carry characteristic metadata, so the batch which does can't be dropped
+            emit(event, true, characteristic != null);
+        }
+    };
+
+    private final NotificationQueue.Listener queueListener = new NotificationQueue.Listener() {
+        @Override
+        public void onEmit(ReadableArray event, boolean batch) {
+            if (batch) {
+                listener.onReadBatch(event);
+            } else {
+                listener.onRead(event);
+            }
+        }
+    };
+}
@@ -0,0 +1,89 @@
+package com.polidea.reactnativeble.monitor;
+
+/**
+ * Reassembles messages split into several notifications. Every fragment starts with a header of fixed length which
+ * contains a countdown byte - number of fragments which are still to come, so the last fragment of a message has
+ * countdown equal to 0. Payloads are appended to a buffer which is reused for subsequent messages.
+ */
+public class MessageFramer {
+
+    public interface Listener {
+        /**
+         * Called with a complete message. Buffer is reused after the call returns.
+         */
+        void onMessage(byte[] buffer, int length);
+
+        void onFramingError(String reason);
+    }
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int headerLength;
+    private final int countdownOffset;
+    private final int maxMessageLength;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int expectedCountdown = -1;
+    private boolean discarding;
+
+    public MessageFramer(int headerLength, int countdownOffset, int maxMessageLength) {
+        this.headerLength = headerLength;
+        this.countdownOffset = countdownOffset;
+        this.maxMessageLength = maxMessageLength;
+    }
+
+    public void append(byte[] fragment, Listener listener) {
+        if (fragment == null || fragment.length < headerLength || fragment.length <= countdownOffset) {
+            int droppedBytes = length;
+            reset();
+            listener.onFramingError("Fragment shorter than framing header, dropped " + droppedBytes + " bytes");
+            return;
+        }
+
+        int countdown = fragment[countdownOffset] & 0xFF;
+        if (expectedCountdown >= 0 && countdown != expectedCountdown) {
+            int droppedBytes = length;
+            reset();
+            // Fragment is treated as the first one of a new message
+            listener.onFramingError("Fragment sequence skipped, expected countdown " + expectedCountdown
+                    + " but received " + countdown + ", dropped " + droppedBytes + " bytes");
+        }
+
+        if (!discarding) {
+            int payloadLength = fragment.length - headerLength;
+            if (maxMessageLength > 0 && length + payloadLength > maxMessageLength) {
+                discarding = true;
+                length = 0;
+                listener.onFramingError("Message exceeds " + maxMessageLength + " bytes, dropped until its last fragment");
+            } else {
+                ensureCapacity(length + payloadLength);
+                System.arraycopy(fragment, headerLength, buffer, length, payloadLength);
+                length += payloadLength;
+            }
+        }
+
+        if (countdown == 0) {
+            if (!discarding) {
+                listener.onMessage(buffer, length);
+            }
+            reset();
+        } else {
+            expectedCountdown = countdown - 1;
+        }
+    }
+
+    public void reset() {
+        length = 0;
+        expectedCountdown = -1;
+        discarding = false;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            byte[] grown = new byte[Math.max(buffer.length * 2, capacity)];
+            System.arraycopy(buffer, 0, grown, 0, length);
+            buffer = grown;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.polidea.reactnativeble.monitor;
+
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Options of characteristic monitoring passed from JS.
+ */
+public class MonitorOptions {
+
+    private interface Metadata {
+        String FRAMING = "framing";
+        String HEADER_LENGTH = "headerLength";
+        String COUNTDOWN_OFFSET = "countdownOffset";
+        String MAX_MESSAGE_LENGTH = "maxMessageLength";
+        String SAMPLE_INTERVAL_MS = "sampleIntervalMs";
+        String AGGREGATE = "aggregate";
+        String WINDOW_MS = "windowMs";
+        String FIELDS = "fields";
+        String BATCH = "batch";
+        String INTERVAL_MS = "intervalMs";
+        String MAX_SIZE = "maxSize";
+        String FLOW_CONTROL = "flowControl";
+        String QUEUE_SIZE = "queueSize";
+        String OVERFLOW = "overflow";
+        String BLOCK_TIMEOUT_MS = "blockTimeoutMs";
+        String CREDITS = "credits";
+    }
+
+    private static final int DEFAULT_HEADER_LENGTH = 2;
+    private static final int DEFAULT_COUNTDOWN_OFFSET = 0;
+    private static final int DEFAULT_WINDOW_MS = 1000;
+    private static final int DEFAULT_QUEUE_SIZE = 64;
+    private static final int DEFAULT_BLOCK_TIMEOUT_MS = 100;
+    private static final int DEFAULT_CREDITS = 16;
+
+    public boolean framing = false;
+    public int framingHeaderLength = DEFAULT_HEADER_LENGTH;
+    public int framingCountdownOffset = DEFAULT_COUNTDOWN_OFFSET;
+    public int framingMaxMessageLength = 0;
+
+    public int sampleIntervalMs = 0;
+
+    @Nullable
+    public ValueLayout aggregateLayout = null;
+    public int aggregateWindowMs = DEFAULT_WINDOW_MS;
+
+    public boolean batch = false;
+    public int batchIntervalMs = 0;
+    public int batchMaxSize = 0;
+
+    public boolean flowControl = false;
+    public int flowControlQueueSize = DEFAULT_QUEUE_SIZE;
+    public NotificationQueue.OverflowPolicy flowControlOverflow = NotificationQueue.OverflowPolicy.DROP_OLDEST;
+    public int flowControlBlockTimeoutMs = DEFAULT_BLOCK_TIMEOUT_MS;
+    public int flowControlCredits = DEFAULT_CREDITS;
+
+    /**
+     * @throws IllegalArgumentException when aggregation layout is invalid
+     */
+    public static MonitorOptions fromReadableMap(@Nullable ReadableMap options) {
+        MonitorOptions result = new MonitorOptions();
+        if (options == null) {
+            return result;
+        }
+        if (options.hasKey(Metadata.FRAMING) && options.getType(Metadata.FRAMING) == ReadableType.Map) {
+            ReadableMap framing = options.getMap(Metadata.FRAMING);
+            result.framing = true;
+            if (framing.hasKey(Metadata.HEADER_LENGTH) && framing.getType(Metadata.HEADER_LENGTH) == ReadableType.Number) {
+                result.framingHeaderLength = framing.getInt(Metadata.HEADER_LENGTH);
+            }
+            if (framing.hasKey(Metadata.COUNTDOWN_OFFSET)
+                    && framing.getType(Metadata.COUNTDOWN_OFFSET) == ReadableType.Number) {
+                result.framingCountdownOffset = framing.getInt(Metadata.COUNTDOWN_OFFSET);
+            }
+            if (framing.hasKey(Metadata.MAX_MESSAGE_LENGTH)
+                    && framing.getType(Metadata.MAX_MESSAGE_LENGTH) == ReadableType.Number) {
+                result.framingMaxMessageLength = framing.getInt(Metadata.MAX_MESSAGE_LENGTH);
+            }
+        }
+        if (options.hasKey(Metadata.SAMPLE_INTERVAL_MS)
+                && options.getType(Metadata.SAMPLE_INTERVAL_MS) == ReadableType.Number) {
+            result.sampleIntervalMs = options.getInt(Metadata.SAMPLE_INTERVAL_MS);
+        }
+        if (options.hasKey(Metadata.AGGREGATE) && options.getType(Metadata.AGGREGATE) == ReadableType.Map) {
+            ReadableMap aggregate = options.getMap(Metadata.AGGREGATE);
+            if (!aggregate.hasKey(Metadata.FIELDS) || aggregate.getType(Metadata.FIELDS) != ReadableType.Array) {
+                throw new IllegalArgumentException("Aggregation requires value fields");
+            }
+            result.aggregateLayout = ValueLayout.compile(aggregate.getArray(Metadata.FIELDS));
+            if (aggregate.hasKey(Metadata.WINDOW_MS) && aggregate.getType(Metadata.WINDOW_MS) == ReadableType.Number) {
+                result.aggregateWindowMs = aggregate.getInt(Metadata.WINDOW_MS);
+            }
+            if (result.aggregateWindowMs <= 0) {
+                throw new IllegalArgumentException("Aggregation window has to be positive");
+            }
+        }
+        if (options.hasKey(Metadata.BATCH) && options.getType(Metadata.BATCH) == ReadableType.Map) {
+            ReadableMap batch = options.getMap(Metadata.BATCH);
+            if (batch.hasKey(Metadata.INTERVAL_MS) && batch.getType(Metadata.INTERVAL_MS) == ReadableType.Number) {
+                result.batchIntervalMs = batch.getInt(Metadata.INTERVAL_MS);
+            }
+            if (batch.hasKey(Metadata.MAX_SIZE) && batch.getType(Metadata.MAX_SIZE) == ReadableType.Number) {
+                result.batchMaxSize = batch.getInt(Metadata.MAX_SIZE);
+            }
+            result.batch = result.batchIntervalMs > 0 || result.batchMaxSize > 0;
+        }
+        if (options.hasKey(Metadata.FLOW_CONTROL) && options.getType(Metadata.FLOW_CONTROL) == ReadableType.Map) {
+            ReadableMap flowControl = options.getMap(Metadata.FLOW_CONTROL);
+            result.flowControl = true;
+            if (flowControl.hasKey(Metadata.QUEUE_SIZE)
+                    && flowControl.getType(Metadata.QUEUE_SIZE) == ReadableType.Number) {
+                result.flowControlQueueSize = flowControl.getInt(Metadata.QUEUE_SIZE);
+            }
+            if (flowControl.hasKey(Metadata.OVERFLOW)
+                    && flowControl.getType(Metadata.OVERFLOW) == ReadableType.String) {
+                NotificationQueue.OverflowPolicy policy =
+                        NotificationQueue.OverflowPolicy.fromJs(flowControl.getString(Metadata.OVERFLOW));
+                if (policy != null) {
+                    result.flowControlOverflow = policy;
+                }
+            }
+            if (flowControl.hasKey(Metadata.BLOCK_TIMEOUT_MS)
+                    && flowControl.getType(Metadata.BLOCK_TIMEOUT_MS) == ReadableType.Number) {
+                result.flowControlBlockTimeoutMs = flowControl.getInt(Metadata.BLOCK_TIMEOUT_MS);
+            }
+            if (flowControl.hasKey(Metadata.CREDITS)
+                    && flowControl.getType(Metadata.CREDITS) == ReadableType.Number) {
+                result.flowControlCredits = flowControl.getInt(Metadata.CREDITS);
+            }
+        }
+        return result;
+    }
+}
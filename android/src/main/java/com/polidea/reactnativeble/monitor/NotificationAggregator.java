@@ -0,0 +1,149 @@
+package com.polidea.reactnativeble.monitor;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.Characteristic;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Aggregates numeric fields of notifications of a single monitoring transaction into min/max/mean/last per time
+ * window. Only one summary per window leaves this class, raw values are never converted.
+ */
+public class NotificationAggregator {
+
+    public interface Listener {
+        void onWindow(Characteristic characteristic, WritableMap aggregate);
+    }
+
+    private interface Metadata {
+        String WINDOW_START = "windowStart";
+        String WINDOW_END = "windowEnd";
+        String COUNT = "count";
+        String SKIPPED = "skipped";
+        String FIELDS = "fields";
+        String MIN = "min";
+        String MAX = "max";
+        String MEAN = "mean";
+        String LAST = "last";
+    }
+
+    private final ValueLayout layout;
+    private final long windowMillis;
+    private final Listener listener;
+
+    private final double[] min;
+    private final double[] max;
+    private final double[] sum;
+    private final double[] last;
+    private int count;
+    private int skipped;
+    private long windowStart;
+    @Nullable
+    private Characteristic characteristic;
+    @Nullable
+    private ScheduledFuture<?> windowTask;
+
+    public NotificationAggregator(ValueLayout layout, long windowMillis, Listener listener) {
+        this.layout = layout;
+        this.windowMillis = windowMillis;
+        this.listener = listener;
+        int size = layout.size();
+        this.min = new double[size];
+        this.max = new double[size];
+        this.sum = new double[size];
+        this.last = new double[size];
+        this.windowStart = System.currentTimeMillis();
+    }
+
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        windowStart = System.currentTimeMillis();
+        windowTask = scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void add(Characteristic characteristic, @Nullable byte[] value, int length) {
+        this.characteristic = characteristic;
+        if (value == null || !layout.fits(length)) {
+            skipped++;
+            return;
+        }
+        for (int i = 0; i < min.length; i++) {
+            double sample = layout.read(value, i);
+            if (count == 0) {
+                min[i] = sample;
+                max[i] = sample;
+                sum[i] = sample;
+            } else {
+                if (sample < min[i]) {
+                    min[i] = sample;
+                }
+                if (sample > max[i]) {
+                    max[i] = sample;
+                }
+                sum[i] += sample;
+            }
+            last[i] = sample;
+        }
+        count++;
+    }
+
+    public void flush() {
+        Characteristic windowCharacteristic;
+        WritableMap aggregate;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (characteristic == null) {
+                windowStart = now;
+                return;
+            }
+            windowCharacteristic = characteristic;
+            aggregate = Arguments.createMap();
+            aggregate.putDouble(Metadata.WINDOW_START, windowStart);
+            aggregate.putDouble(Metadata.WINDOW_END, now);
+            aggregate.putInt(Metadata.COUNT, count);
+            aggregate.putInt(Metadata.SKIPPED, skipped);
+            WritableArray fields = Arguments.createArray();
+            for (int i = 0; i < min.length; i++) {
+                WritableMap field = Arguments.createMap();
+                if (count > 0) {
+                    field.putDouble(Metadata.MIN, min[i]);
+                    field.putDouble(Metadata.MAX, max[i]);
+                    field.putDouble(Metadata.MEAN, sum[i] / count);
+                    field.putDouble(Metadata.LAST, last[i]);
+                } else {
+                    field.putNull(Metadata.MIN);
+                    field.putNull(Metadata.MAX);
+                    field.putNull(Metadata.MEAN);
+                    field.putNull(Metadata.LAST);
+                }
+                fields.pushMap(field);
+            }
+            aggregate.putArray(Metadata.FIELDS, fields);
+            count = 0;
+            skipped = 0;
+            characteristic = null;
+            windowStart = now;
+        }
+        listener.onWindow(windowCharacteristic, aggregate);
+    }
+
+    public void stop() {
+        synchronized (this) {
+            if (windowTask != null) {
+                windowTask.cancel(false);
+                windowTask = null;
+            }
+        }
+        flush();
+    }
+}
@@ -0,0 +1,105 @@
+package com.polidea.reactnativeble.monitor;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Collects notification values of a single monitoring transaction and emits them together when batch interval passes
+ * or when maximal batch size is reached. Characteristic metadata is emitted only with the first batch.
+ */
+public class NotificationBatcher {
+
+    public interface Listener {
+        void onBatch(@Nullable WritableMap characteristic, WritableArray values, WritableArray timestamps);
+    }
+
+    private final long batchIntervalMillis;
+    private final int maxBatchSize;
+    private final Listener listener;
+
+    @Nullable
+    private WritableMap pendingCharacteristic;
+    private boolean characteristicSent;
+    private WritableArray pendingValues = Arguments.createArray();
+    private WritableArray pendingTimestamps = Arguments.createArray();
+    private int pendingCount;
+    @Nullable
+    private ScheduledFuture<?> flushTask;
+
+    public NotificationBatcher(long batchIntervalMillis, int maxBatchSize, Listener listener) {
+        this.batchIntervalMillis = batchIntervalMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.listener = listener;
+    }
+
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        if (batchIntervalMillis <= 0) {
+            return;
+        }
+        flushTask = scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }, batchIntervalMillis, batchIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized boolean needsCharacteristic() {
+        return !characteristicSent && pendingCharacteristic == null;
+    }
+
+    public void add(@Nullable WritableMap characteristic, @Nullable String value, long timestamp) {
+        boolean full;
+        synchronized (this) {
+            if (characteristic != null && !characteristicSent) {
+                pendingCharacteristic = characteristic;
+            }
+            pendingValues.pushString(value);
+            pendingTimestamps.pushDouble(timestamp);
+            pendingCount++;
+            full = maxBatchSize > 0 && pendingCount >= maxBatchSize;
+        }
+        if (full) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        WritableMap characteristic;
+        WritableArray values;
+        WritableArray timestamps;
+        synchronized (this) {
+            if (pendingCount == 0) {
+                return;
+            }
+            characteristic = pendingCharacteristic;
+            values = pendingValues;
+            timestamps = pendingTimestamps;
+            if (characteristic != null) {
+                characteristicSent = true;
+            }
+            pendingCharacteristic = null;
+            pendingValues = Arguments.createArray();
+            pendingTimestamps = Arguments.createArray();
+            pendingCount = 0;
+        }
+        listener.onBatch(characteristic, values, timestamps);
+    }
+
+    public void stop() {
+        synchronized (this) {
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+        }
+        flush();
+    }
+}
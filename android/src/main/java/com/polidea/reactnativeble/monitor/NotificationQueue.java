@@ -0,0 +1,197 @@
+package com.polidea.reactnativeble.monitor;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Bounded queue of events of a single monitoring transaction. Events are emitted only while JS has credits left,
+ * every emitted event consumes one credit. When queue is full new events are handled according to
+ * {@link OverflowPolicy}. Retained events are never dropped on overflow and may exceed the capacity.
+ */
+public class NotificationQueue {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST("DropOldest"),
+        DROP_NEWEST("DropNewest"),
+        KEEP_LATEST("KeepLatest"),
+        BLOCK_WITH_TIMEOUT("BlockWithTimeout");
+
+        private final String jsName;
+
+        OverflowPolicy(String jsName) {
+            this.jsName = jsName;
+        }
+
+        @Nullable
+        public static OverflowPolicy fromJs(String jsName) {
+            for (OverflowPolicy policy : values()) {
+                if (policy.jsName.equals(jsName)) {
+                    return policy;
+                }
+            }
+            return null;
+        }
+    }
+
+    public interface Listener {
+        void onEmit(ReadableArray event, boolean batch);
+    }
+
+    private interface Metadata {
+        String QUEUED = "queued";
+        String DROPPED = "dropped";
+        String EMITTED = "emitted";
+        String CREDITS = "credits";
+    }
+
+    private static class Entry {
+        final ReadableArray event;
+        final boolean batch;
+        final boolean retained;
+
+        Entry(ReadableArray event, boolean batch, boolean retained) {
+            this.event = event;
+            this.batch = batch;
+            this.retained = retained;
+        }
+    }
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final Listener listener;
+    private final ArrayDeque<Entry> queue;
+
+    private int credits;
+    private long dropped;
+    private long emitted;
+    private boolean closed;
+
+    public NotificationQueue(int capacity,
+                             OverflowPolicy overflowPolicy,
+                             long blockTimeoutMillis,
+                             int initialCredits,
+                             Listener listener) {
+        this.capacity = Math.max(1, capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.credits = initialCredits;
+        this.listener = listener;
+        this.queue = new ArrayDeque<>(this.capacity);
+    }
+
+    public void offer(ReadableArray event, boolean batch) {
+        offer(event, batch, false);
+    }
+
+    // Events are emitted under the lock to keep their order, sending an event only posts it to JS queue.
+    public synchronized void offer(ReadableArray event, boolean batch, boolean retained) {
+        if (closed) {
+            return;
+        }
+        if (queue.size() >= capacity && !retained) {
+            switch (overflowPolicy) {
+                case DROP_OLDEST:
+                    if (!dropOldest()) {
+                        dropped++;
+                        return;
+                    }
+                    break;
+                case DROP_NEWEST:
+                    dropped++;
+                    return;
+                case KEEP_LATEST:
+                    dropUnretained();
+                    break;
+                case BLOCK_WITH_TIMEOUT:
+                    if (!awaitSpace()) {
+                        dropped++;
+                        return;
+                    }
+                    break;
+            }
+        }
+        queue.addLast(new Entry(event, batch, retained));
+        drain();
+    }
+
+    public synchronized void grantCredits(int count) {
+        if (closed || count <= 0) {
+            return;
+        }
+        credits += count;
+        drain();
+        notifyAll();
+    }
+
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        dropped += queue.size();
+        queue.clear();
+        notifyAll();
+    }
+
+    public synchronized WritableMap toJs() {
+        WritableMap result = Arguments.createMap();
+        result.putInt(Metadata.QUEUED, queue.size());
+        result.putDouble(Metadata.DROPPED, dropped);
+        result.putDouble(Metadata.EMITTED, emitted);
+        result.putInt(Metadata.CREDITS, credits);
+        return result;
+    }
+
+    private boolean dropOldest() {
+        Iterator<Entry> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().retained) {
+                iterator.remove();
+                dropped++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void dropUnretained() {
+        Iterator<Entry> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().retained) {
+                iterator.remove();
+                dropped++;
+            }
+        }
+    }
+
+    private boolean awaitSpace() {
+        long deadline = System.currentTimeMillis() + blockTimeoutMillis;
+        long remaining = blockTimeoutMillis;
+        while (queue.size() >= capacity && !closed && remaining > 0) {
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return queue.size() < capacity && !closed;
+    }
+
+    private void drain() {
+        while (credits > 0 && !queue.isEmpty()) {
+            Entry entry = queue.pollFirst();
+            credits--;
+            emitted++;
+            listener.onEmit(entry.event, entry.batch);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.polidea.reactnativeble.monitor;
+
+import com.polidea.multiplatformbleadapter.Characteristic;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Keeps only the latest notification of a single monitoring transaction and passes it further at fixed rate.
+ * Notifications which were replaced before the next tick are never converted.
+ */
+public class NotificationSampler {
+
+    public interface Listener {
+        void onSample(Characteristic characteristic, @Nullable byte[] value, int length);
+    }
+
+    private final long sampleIntervalMillis;
+    private final Listener listener;
+
+    @Nullable
+    private Characteristic latestCharacteristic;
+    @Nullable
+    private byte[] latestValue;
+    private int latestLength;
+    @Nullable
+    private ScheduledFuture<?> sampleTask;
+
+    public NotificationSampler(long sampleIntervalMillis, Listener listener) {
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.listener = listener;
+    }
+
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        sampleTask = scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                sample();
+            }
+        }, sampleIntervalMillis, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Replaces pending sample. Value array is kept as is, so it must not be modified by the caller afterwards.
+     */
+    public synchronized void offer(Characteristic characteristic, @Nullable byte[] value, int length) {
+        latestCharacteristic = characteristic;
+        latestValue = value;
+        latestLength = length;
+    }
+
+    public void sample() {
+        Characteristic characteristic;
+        byte[] value;
+        int length;
+        synchronized (this) {
+            if (latestCharacteristic == null) {
+                return;
+            }
+            characteristic = latestCharacteristic;
+            value = latestValue;
+            length = latestLength;
+            latestCharacteristic = null;
+            latestValue = null;
+        }
+        listener.onSample(characteristic, value, length);
+    }
+
+    public void stop() {
+        synchronized (this) {
+            if (sampleTask != null) {
+                sampleTask.cancel(false);
+                sampleTask = null;
+            }
+        }
+        sample();
+    }
+}
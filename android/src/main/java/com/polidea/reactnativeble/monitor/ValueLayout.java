@@ -0,0 +1,109 @@
+package com.polidea.reactnativeble.monitor;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+
+/**
+ * Numeric fields of a characteristic value compiled once from monitor options. Fields are read directly from the
+ * raw value without allocation.
+ */
+public class ValueLayout {
+
+    private interface Metadata {
+        String OFFSET = "offset";
+        String WIDTH = "width";
+        String SIGNED = "signed";
+        String LITTLE_ENDIAN = "littleEndian";
+        String SCALE = "scale";
+    }
+
+    private static final int MAX_WIDTH = 8;
+
+    private final int[] offsets;
+    private final int[] widths;
+    private final boolean[] signed;
+    private final boolean[] littleEndian;
+    private final double[] scales;
+    private final int requiredLength;
+
+    private ValueLayout(int[] offsets, int[] widths, boolean[] signed, boolean[] littleEndian, double[] scales) {
+        this.offsets = offsets;
+        this.widths = widths;
+        this.signed = signed;
+        this.littleEndian = littleEndian;
+        this.scales = scales;
+        int length = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            length = Math.max(length, offsets[i] + widths[i]);
+        }
+        this.requiredLength = length;
+    }
+
+    public static ValueLayout compile(ReadableArray specs) {
+        int size = specs.size();
+        if (size == 0) {
+            throw new IllegalArgumentException("Value layout has no fields");
+        }
+        int[] offsets = new int[size];
+        int[] widths = new int[size];
+        boolean[] signed = new boolean[size];
+        boolean[] littleEndian = new boolean[size];
+        double[] scales = new double[size];
+        for (int i = 0; i < size; i++) {
+            if (specs.getType(i) != ReadableType.Map) {
+                throw new IllegalArgumentException("Value field at index " + i + " is not an object");
+            }
+            ReadableMap spec = specs.getMap(i);
+            offsets[i] = spec.hasKey(Metadata.OFFSET) && spec.getType(Metadata.OFFSET) == ReadableType.Number
+                    ? spec.getInt(Metadata.OFFSET)
+                    : 0;
+            if (!spec.hasKey(Metadata.WIDTH) || spec.getType(Metadata.WIDTH) != ReadableType.Number) {
+                throw new IllegalArgumentException("Value field at index " + i + " has no width");
+            }
+            widths[i] = spec.getInt(Metadata.WIDTH);
+            if (offsets[i] < 0 || widths[i] < 1 || widths[i] > MAX_WIDTH) {
+                throw new IllegalArgumentException("Value field at index " + i + " has invalid offset or width");
+            }
+            signed[i] = spec.hasKey(Metadata.SIGNED)
+                    && spec.getType(Metadata.SIGNED) == ReadableType.Boolean
+                    && spec.getBoolean(Metadata.SIGNED);
+            littleEndian[i] = !spec.hasKey(Metadata.LITTLE_ENDIAN)
+                    || spec.getType(Metadata.LITTLE_ENDIAN) != ReadableType.Boolean
+                    || spec.getBoolean(Metadata.LITTLE_ENDIAN);
+            scales[i] = spec.hasKey(Metadata.SCALE) && spec.getType(Metadata.SCALE) == ReadableType.Number
+                    ? spec.getDouble(Metadata.SCALE)
+                    : 1.0;
+        }
+        return new ValueLayout(offsets, widths, signed, littleEndian, scales);
+    }
+
+    public int size() {
+        return offsets.length;
+    }
+
+    public boolean fits(int length) {
+        return length >= requiredLength;
+    }
+
+    public double read(byte[] value, int field) {
+        int offset = offsets[field];
+        int width = widths[field];
+        long raw = 0;
+        for (int i = 0; i < width; i++) {
+            int index = littleEndian[field] ? offset + i : offset + width - 1 - i;
+            raw |= (long) (value[index] & 0xFF) << (8 * i);
+        }
+        double result;
+        if (signed[field]) {
+            int shift = 64 - 8 * width;
+            result = (raw << shift) >> shift;
+        } else if (raw < 0) {
+            // Unsigned 8 byte value above Long.MAX_VALUE
+            result = (double) (raw >>> 1) * 2.0 + (raw & 1);
+        } else {
+            result = raw;
+        }
+        return result * scales[field];
+    }
+}
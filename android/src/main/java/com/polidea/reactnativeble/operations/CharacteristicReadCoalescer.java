@@ -0,0 +1,231 @@
+package com.polidea.reactnativeble.operations;
+
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Collapses concurrent reads of the same characteristic into a single GATT read and optionally serves values from a
+ * cache with per characteristic time to live. Cached values are dropped when the characteristic is written, notifies
+ * or its device disconnects. A read which started before such an event still resolves its waiters but its value is
+ * not cached and later reads don't join it.
+ */
+public class CharacteristicReadCoalescer {
+
+    public interface Waiter {
+        void onSuccess(Characteristic characteristic);
+
+        void onError(BleError error);
+    }
+
+    /**
+     * GATT read shared by all waiters. The caller which created it starts the read with {@link #transactionId} and
+     * reports its result with {@link #complete} or {@link #fail}.
+     */
+    public static class PendingRead {
+        public final String transactionId;
+        final int characteristicId;
+        final String deviceId;
+        final List<WaiterEntry> waiters = new ArrayList<>();
+
+        PendingRead(String transactionId, int characteristicId, String deviceId) {
+            this.transactionId = transactionId;
+            this.characteristicId = characteristicId;
+            this.deviceId = deviceId;
+        }
+    }
+
+    private static class WaiterEntry {
+        final String transactionId;
+        final Waiter waiter;
+
+        WaiterEntry(String transactionId, Waiter waiter) {
+            this.transactionId = transactionId;
+            this.waiter = waiter;
+        }
+    }
+
+    private static class CachedValue {
+        final Characteristic characteristic;
+        final long expiresAt;
+
+        CachedValue(Characteristic characteristic, long expiresAt) {
+            this.characteristic = characteristic;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final String TRANSACTION_PREFIX = "coalescedRead/";
+
+    // Reads later reads can join, by characteristic id
+    private final Map<Integer, PendingRead> pendingReads = new HashMap<>();
+    // All reads in progress including invalidated ones, so that their waiters can still be cancelled
+    private final Set<PendingRead> activeReads = new HashSet<>();
+    private final Map<Integer, CachedValue> cache = new HashMap<>();
+    private final Map<String, Long> timesToLive = new HashMap<>();
+    private int nextTransaction;
+
+    /**
+     * Sets how long values read from the characteristic are served from the cache. 0 disables caching.
+     */
+    public synchronized void setTimeToLive(String deviceId, UUID serviceUUID, UUID characteristicUUID, long millis) {
+        String key = configurationKey(deviceId, serviceUUID, characteristicUUID);
+        if (millis > 0) {
+            timesToLive.put(key, millis);
+        } else {
+            timesToLive.remove(key);
+        }
+        Iterator<CachedValue> iterator = cache.values().iterator();
+        while (iterator.hasNext()) {
+            if (key.equals(configurationKey(iterator.next().characteristic))) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Serves the read from the cache or joins a read in progress. Returns a new {@link PendingRead} when the caller
+     * has to start the GATT read, otherwise the waiter is notified later or has been notified already.
+     */
+    @Nullable
+    public PendingRead read(Characteristic characteristic, String transactionId, Waiter waiter) {
+        Characteristic cachedCharacteristic = null;
+        PendingRead created = null;
+        synchronized (this) {
+            int id = characteristic.getId();
+            CachedValue cached = cache.get(id);
+            if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+                cachedCharacteristic = cached.characteristic;
+            } else {
+                cache.remove(id);
+                PendingRead pending = pendingReads.get(id);
+                if (pending == null) {
+                    pending = new PendingRead(TRANSACTION_PREFIX + nextTransaction++, id, characteristic.getDeviceId());
+                    pendingReads.put(id, pending);
+                    activeReads.add(pending);
+                    created = pending;
+                }
+                pending.waiters.add(new WaiterEntry(transactionId, waiter));
+            }
+        }
+        if (cachedCharacteristic != null) {
+            waiter.onSuccess(cachedCharacteristic);
+        }
+        return created;
+    }
+
+    public void complete(PendingRead pending, Characteristic characteristic) {
+        List<WaiterEntry> waiters;
+        synchronized (this) {
+            if (pendingReads.get(pending.characteristicId) == pending) {
+                pendingReads.remove(pending.characteristicId);
+                Long timeToLive = timesToLive.get(configurationKey(characteristic));
+                if (timeToLive != null) {
+                    cache.put(pending.characteristicId,
+                            new CachedValue(characteristic, System.currentTimeMillis() + timeToLive));
+                }
+            }
+            activeReads.remove(pending);
+            waiters = new ArrayList<>(pending.waiters);
+            pending.waiters.clear();
+        }
+        for (WaiterEntry entry : waiters) {
+            entry.waiter.onSuccess(characteristic);
+        }
+    }
+
+    public void fail(PendingRead pending, BleError error) {
+        List<WaiterEntry> waiters;
+        synchronized (this) {
+            if (pendingReads.get(pending.characteristicId) == pending) {
+                pendingReads.remove(pending.characteristicId);
+            }
+            activeReads.remove(pending);
+            waiters = new ArrayList<>(pending.waiters);
+            pending.waiters.clear();
+        }
+        for (WaiterEntry entry : waiters) {
+            entry.waiter.onError(error);
+        }
+    }
+
+    /**
+     * Rejects waiters of the transaction with {@link BleErrorCode#OperationCancelled}. Returns transactions of shared
+     * reads nobody waits for anymore, which should be cancelled too.
+     */
+    public List<String> cancel(String transactionId) {
+        List<WaiterEntry> cancelled = new ArrayList<>();
+        List<String> abandoned = new ArrayList<>();
+        synchronized (this) {
+            Iterator<PendingRead> pendingIterator = activeReads.iterator();
+            while (pendingIterator.hasNext()) {
+                PendingRead pending = pendingIterator.next();
+                Iterator<WaiterEntry> iterator = pending.waiters.iterator();
+                while (iterator.hasNext()) {
+                    WaiterEntry entry = iterator.next();
+                    if (entry.transactionId.equals(transactionId)) {
+                        iterator.remove();
+                        cancelled.add(entry);
+                    }
+                }
+                if (pending.waiters.isEmpty()) {
+                    pendingIterator.remove();
+                    if (pendingReads.get(pending.characteristicId) == pending) {
+                        pendingReads.remove(pending.characteristicId);
+                    }
+                    abandoned.add(pending.transactionId);
+                }
+            }
+        }
+        BleError error = new BleError(BleErrorCode.OperationCancelled, null, null);
+        for (WaiterEntry entry : cancelled) {
+            entry.waiter.onError(error);
+        }
+        return abandoned;
+    }
+
+    public synchronized void invalidate(Characteristic characteristic) {
+        cache.remove(characteristic.getId());
+        pendingReads.remove(characteristic.getId());
+    }
+
+    public synchronized void invalidateDevice(String deviceId) {
+        Iterator<CachedValue> cacheIterator = cache.values().iterator();
+        while (cacheIterator.hasNext()) {
+            if (deviceId.equals(cacheIterator.next().characteristic.getDeviceId())) {
+                cacheIterator.remove();
+            }
+        }
+        Iterator<PendingRead> pendingIterator = pendingReads.values().iterator();
+        while (pendingIterator.hasNext()) {
+            if (deviceId.equals(pendingIterator.next().deviceId)) {
+                pendingIterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+        pendingReads.clear();
+        timesToLive.clear();
+    }
+
+    private static String configurationKey(Characteristic characteristic) {
+        return configurationKey(characteristic.getDeviceId(), characteristic.getServiceUUID(), characteristic.getUuid());
+    }
+
+    private static String configurationKey(String deviceId, UUID serviceUUID, UUID characteristicUUID) {
+        return deviceId + " " + serviceUUID + " " + characteristicUUID;
+    }
+}
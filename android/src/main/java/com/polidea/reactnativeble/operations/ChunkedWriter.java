@@ -0,0 +1,298 @@
+package com.polidea.reactnativeble.operations;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.BleAdapter;
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.Device;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import java.util.UUID;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Writes a large payload to a characteristic in chunks sized by the negotiated MTU. Up to {@code window} chunks are
+ * in flight at once as writes without response; every {@code checkpointInterval}-th chunk and the last one are
+ * written with response and mark the acknowledged offset from which a broken transfer can be resumed. Chunks go
+ * through the {@link GattOperationScheduler} in the bulk lane unless the transaction has another hint, so other
+ * operations on the device are interleaved with the transfer.
+ */
+public class ChunkedWriter {
+
+    public interface Listener {
+        void onProgress(WritableMap progress);
+
+        void onCompleted(WritableMap progress);
+
+        void onError(BleError error);
+    }
+
+    private interface Metadata {
+        String OFFSET = "offset";
+        String CHUNK_SIZE = "chunkSize";
+        String WINDOW = "window";
+        String CHECKPOINT_INTERVAL = "checkpointInterval";
+        String PROGRESS_INTERVAL_MS = "progressIntervalMs";
+        String ACKNOWLEDGED_OFFSET = "acknowledgedOffset";
+        String TOTAL = "total";
+    }
+
+    // ATT write request header: opcode and attribute handle
+    private static final int ATT_WRITE_HEADER_LENGTH = 3;
+    private static final int DEFAULT_MTU = 23;
+    private static final int DEFAULT_WINDOW = 4;
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 16;
+    private static final int DEFAULT_PROGRESS_INTERVAL_MS = 100;
+
+    private final BleAdapter bleAdapter;
+    private final GattOperationScheduler operationScheduler;
+    private final String deviceId;
+    private final String serviceUUID;
+    private final String characteristicUUID;
+    private final byte[] payload;
+    private final String transactionId;
+    private final Listener listener;
+    private final int window;
+    private final int checkpointInterval;
+    private final long progressIntervalMillis;
+
+    private GattOperationScheduler.Hint schedulingHint;
+    private int characteristicId;
+    private int chunkSize;
+    private int nextOffset;
+    private int sentOffset;
+    private int acknowledgedOffset;
+    private int chunkIndex;
+    private int inFlight;
+    private long lastProgressTime;
+    private boolean finished;
+
+    public ChunkedWriter(BleAdapter bleAdapter,
+                         GattOperationScheduler operationScheduler,
+                         String deviceId,
+                         String serviceUUID,
+                         String characteristicUUID,
+                         String valueBase64,
+                         @Nullable ReadableMap options,
+                         String transactionId,
+                         Listener listener) {
+        this.bleAdapter = bleAdapter;
+        this.operationScheduler = operationScheduler;
+        this.deviceId = deviceId;
+        this.serviceUUID = serviceUUID;
+        this.characteristicUUID = characteristicUUID;
+        this.payload = Base64Converter.decode(valueBase64);
+        this.transactionId = transactionId;
+        this.listener = listener;
+        this.window = Math.max(1, getInt(options, Metadata.WINDOW, DEFAULT_WINDOW));
+        this.checkpointInterval = Math.max(0, getInt(options, Metadata.CHECKPOINT_INTERVAL, DEFAULT_CHECKPOINT_INTERVAL));
+        this.progressIntervalMillis = getInt(options, Metadata.PROGRESS_INTERVAL_MS, DEFAULT_PROGRESS_INTERVAL_MS);
+        this.chunkSize = getInt(options, Metadata.CHUNK_SIZE, 0);
+        int offset = getInt(options, Metadata.OFFSET, 0);
+        if (offset < 0 || offset > payload.length) {
+            throw new IllegalArgumentException("Offset " + offset + " is outside of the payload");
+        }
+        this.nextOffset = offset;
+        this.sentOffset = offset;
+        this.acknowledgedOffset = offset;
+    }
+
+    public void start() {
+        schedulingHint = operationScheduler.takeHint(transactionId, GattOperationScheduler.Priority.BULK);
+        try {
+            characteristicId = resolveCharacteristic();
+        } catch (BleError error) {
+            fail(error);
+            return;
+        }
+        if (chunkSize > 0) {
+            pump();
+            return;
+        }
+        bleAdapter.getKnownDevices(new String[]{deviceId}, new OnSuccessCallback<Device[]>() {
+            @Override
+            public void onSuccess(Device[] devices) {
+                Integer mtu = devices.length > 0 ? devices[0].getMtu() : null;
+                synchronized (ChunkedWriter.this) {
+                    chunkSize = (mtu != null ? mtu : DEFAULT_MTU) - ATT_WRITE_HEADER_LENGTH;
+                }
+                pump();
+            }
+        }, new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                fail(error);
+            }
+        });
+    }
+
+    public void cancel() {
+        cancel(new BleError(BleErrorCode.OperationCancelled, null, null));
+    }
+
+    /**
+     * Ends the transfer with the error, e.g. when the client is destroyed.
+     */
+    public void cancel(BleError error) {
+        fail(error);
+    }
+
+    private int resolveCharacteristic() throws BleError {
+        UUID uuid = UUIDConverter.convert(characteristicUUID);
+        for (Characteristic characteristic : bleAdapter.getCharacteristicsForDevice(deviceId, serviceUUID)) {
+            if (characteristic.getUuid().equals(uuid)) {
+                return characteristic.getId();
+            }
+        }
+        BleError error = new BleError(BleErrorCode.CharacteristicNotFound, null, null);
+        error.deviceID = deviceId;
+        error.serviceUUID = serviceUUID;
+        error.characteristicUUID = characteristicUUID;
+        throw error;
+    }
+
+    private void pump() {
+        while (true) {
+            int offset = 0;
+            int end = 0;
+            boolean withResponse = false;
+            String chunkTransactionId = null;
+            WritableMap completed = null;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                if (nextOffset >= payload.length) {
+                    if (inFlight > 0) {
+                        return;
+                    }
+                    finished = true;
+                    completed = progressToJs();
+                } else {
+                    if (inFlight >= window) {
+                        return;
+                    }
+                    offset = nextOffset;
+                    end = Math.min(payload.length, offset + chunkSize);
+                    chunkIndex++;
+                    withResponse = end == payload.length
+                            || (checkpointInterval > 0 && chunkIndex % checkpointInterval == 0);
+                    chunkTransactionId = transactionId + "/" + chunkIndex;
+                    nextOffset = end;
+                    inFlight++;
+                }
+            }
+            if (completed != null) {
+                listener.onCompleted(completed);
+                return;
+            }
+            submitChunk(offset, end, withResponse, chunkTransactionId);
+        }
+    }
+
+    private void submitChunk(final int offset,
+                             final int end,
+                             final boolean withResponse,
+                             final String chunkTransactionId) {
+        operationScheduler.submit(deviceId, transactionId, schedulingHint, new GattOperationScheduler.Task() {
+            @Override
+            public void execute(final Runnable done) {
+                synchronized (ChunkedWriter.this) {
+                    // Chunks queued before the transfer failed must not reach the device
+                    if (finished) {
+                        done.run();
+                        return;
+                    }
+                }
+                try {
+                    bleAdapter.writeCharacteristic(characteristicId,
+                            Base64Converter.encode(payload, offset, end - offset), withResponse, chunkTransactionId,
+                            new OnSuccessCallback<Characteristic>() {
+                                @Override
+                                public void onSuccess(Characteristic data) {
+                                    done.run();
+                                    onChunkWritten(end, withResponse);
+                                }
+                            }, new OnErrorCallback() {
+                                @Override
+                                public void onError(BleError error) {
+                                    done.run();
+                                    fail(error);
+                                }
+                            });
+                } catch (Exception e) {
+                    done.run();
+                    BleError error = new BleError(BleErrorCode.CharacteristicWriteFailed, e.getMessage(), null);
+                    error.deviceID = deviceId;
+                    error.serviceUUID = serviceUUID;
+                    error.characteristicUUID = characteristicUUID;
+                    fail(error);
+                }
+            }
+
+            @Override
+            public void fail(BleError error) {
+                ChunkedWriter.this.fail(error);
+            }
+        });
+    }
+
+    private void onChunkWritten(int end, boolean acknowledged) {
+        WritableMap progress = null;
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            inFlight--;
+            sentOffset = Math.max(sentOffset, end);
+            if (acknowledged) {
+                acknowledgedOffset = Math.max(acknowledgedOffset, end);
+            }
+            long now = System.currentTimeMillis();
+            if (now - lastProgressTime >= progressIntervalMillis && sentOffset < payload.length) {
+                lastProgressTime = now;
+                progress = progressToJs();
+            }
+        }
+        if (progress != null) {
+            listener.onProgress(progress);
+        }
+        pump();
+    }
+
+    private void fail(BleError error) {
+        WritableMap progress;
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            progress = progressToJs();
+        }
+        // Last progress tells JS from which offset the transfer can be resumed
+        listener.onProgress(progress);
+        listener.onError(error);
+    }
+
+    private WritableMap progressToJs() {
+        WritableMap progress = Arguments.createMap();
+        progress.putInt(Metadata.OFFSET, sentOffset);
+        progress.putInt(Metadata.ACKNOWLEDGED_OFFSET, acknowledgedOffset);
+        progress.putInt(Metadata.TOTAL, payload.length);
+        return progress;
+    }
+
+    private static int getInt(@Nullable ReadableMap options, String key, int defaultValue) {
+        return options != null && options.hasKey(key) && options.getType(key) == ReadableType.Number
+                ? options.getInt(key)
+                : defaultValue;
+    }
+}
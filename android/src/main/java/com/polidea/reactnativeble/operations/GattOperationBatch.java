@@ -0,0 +1,267 @@
+package com.polidea.reactnativeble.operations;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.BleAdapter;
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.Descriptor;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.converter.BleErrorToJsObjectConverter;
+import com.polidea.reactnativeble.converter.CharacteristicToJsObjectConverter;
+import com.polidea.reactnativeble.converter.DescriptorToJsObjectConverter;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Runs a list of characteristic and descriptor operations on a single device one after another and collects their
+ * results, so that JS pays for a single bridge crossing. Every operation is submitted to the
+ * {@link GattOperationScheduler} from the callback of the previous one.
+ */
+public class GattOperationBatch {
+
+    public interface Listener {
+        void onCompleted(WritableArray results);
+
+        /**
+         * Called instead of {@link #onCompleted} when the transaction is cancelled. Remaining operations are not
+         * executed.
+         */
+        void onCancelled(BleError error);
+    }
+
+    private interface Metadata {
+        String TYPE = "type";
+        String SERVICE_UUID = "serviceUUID";
+        String CHARACTERISTIC_UUID = "characteristicUUID";
+        String DESCRIPTOR_UUID = "descriptorUUID";
+        String VALUE = "value";
+        String WITH_RESPONSE = "withResponse";
+        String ERROR = "error";
+        String CHARACTERISTIC = "characteristic";
+        String DESCRIPTOR = "descriptor";
+    }
+
+    enum Type {
+        READ("Read"),
+        WRITE("Write"),
+        READ_DESCRIPTOR("ReadDescriptor"),
+        WRITE_DESCRIPTOR("WriteDescriptor");
+
+        private final String jsName;
+
+        Type(String jsName) {
+            this.jsName = jsName;
+        }
+
+        @Nullable
+        static Type fromJs(String jsName) {
+            for (Type type : values()) {
+                if (type.jsName.equals(jsName)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    static class Operation {
+        final Type type;
+        final String serviceUUID;
+        final String characteristicUUID;
+        @Nullable
+        final String descriptorUUID;
+        @Nullable
+        final String value;
+        final boolean withResponse;
+
+        Operation(Type type,
+                  String serviceUUID,
+                  String characteristicUUID,
+                  @Nullable String descriptorUUID,
+                  @Nullable String value,
+                  boolean withResponse) {
+            this.type = type;
+            this.serviceUUID = serviceUUID;
+            this.characteristicUUID = characteristicUUID;
+            this.descriptorUUID = descriptorUUID;
+            this.value = value;
+            this.withResponse = withResponse;
+        }
+    }
+
+    private final BleAdapter bleAdapter;
+    private final GattOperationScheduler operationScheduler;
+    private final String deviceId;
+    private final Operation[] operations;
+    private final boolean stopOnError;
+    private final String transactionId;
+    private final CharacteristicToJsObjectConverter characteristicConverter;
+    private final DescriptorToJsObjectConverter descriptorConverter;
+    private final BleErrorToJsObjectConverter errorConverter;
+    private final Listener listener;
+    private final WritableArray results = Arguments.createArray();
+    private GattOperationScheduler.Hint schedulingHint;
+
+    public GattOperationBatch(BleAdapter bleAdapter,
+                              GattOperationScheduler operationScheduler,
+                              String deviceId,
+                              ReadableArray operations,
+                              boolean stopOnError,
+                              String transactionId,
+                              CharacteristicToJsObjectConverter characteristicConverter,
+                              DescriptorToJsObjectConverter descriptorConverter,
+                              BleErrorToJsObjectConverter errorConverter,
+                              Listener listener) {
+        this.bleAdapter = bleAdapter;
+        this.operationScheduler = operationScheduler;
+        this.deviceId = deviceId;
+        this.operations = parse(operations);
+        this.stopOnError = stopOnError;
+        this.transactionId = transactionId;
+        this.characteristicConverter = characteristicConverter;
+        this.descriptorConverter = descriptorConverter;
+        this.errorConverter = errorConverter;
+        this.listener = listener;
+    }
+
+    public void start() {
+        schedulingHint = operationScheduler.takeHint(transactionId, GattOperationScheduler.Priority.INTERACTIVE);
+        execute(0);
+    }
+
+    private void execute(final int index) {
+        if (index >= operations.length) {
+            listener.onCompleted(results);
+            return;
+        }
+        final Operation operation = operations[index];
+        operationScheduler.submit(deviceId, transactionId, schedulingHint, new GattOperationScheduler.Task() {
+            @Override
+            public void execute(Runnable done) {
+                perform(index, operation, done);
+            }
+
+            @Override
+            public void fail(BleError error) {
+                onOperationFailed(index, error);
+            }
+        });
+    }
+
+    private void perform(final int index, Operation operation, final Runnable done) {
+        OnErrorCallback onError = new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                done.run();
+                onOperationFailed(index, error);
+            }
+        };
+        OnSuccessCallback<Characteristic> onCharacteristic = new OnSuccessCallback<Characteristic>() {
+            @Override
+            public void onSuccess(Characteristic characteristic) {
+                done.run();
+                WritableMap result = Arguments.createMap();
+                result.putNull(Metadata.ERROR);
+                result.putMap(Metadata.CHARACTERISTIC, characteristicConverter.toJSObject(characteristic));
+                result.putNull(Metadata.DESCRIPTOR);
+                results.pushMap(result);
+                execute(index + 1);
+            }
+        };
+        OnSuccessCallback<Descriptor> onDescriptor = new OnSuccessCallback<Descriptor>() {
+            @Override
+            public void onSuccess(Descriptor descriptor) {
+                done.run();
+                WritableMap result = Arguments.createMap();
+                result.putNull(Metadata.ERROR);
+                result.putNull(Metadata.CHARACTERISTIC);
+                result.putMap(Metadata.DESCRIPTOR, descriptorConverter.toJSObject(descriptor));
+                results.pushMap(result);
+                execute(index + 1);
+            }
+        };
+        switch (operation.type) {
+            case READ:
+                bleAdapter.readCharacteristicForDevice(deviceId, operation.serviceUUID, operation.characteristicUUID,
+                        transactionId, onCharacteristic, onError);
+                break;
+            case WRITE:
+                bleAdapter.writeCharacteristicForDevice(deviceId, operation.serviceUUID, operation.characteristicUUID,
+                        operation.value, operation.withResponse, transactionId, onCharacteristic, onError);
+                break;
+            case READ_DESCRIPTOR:
+                bleAdapter.readDescriptorForDevice(deviceId, operation.serviceUUID, operation.characteristicUUID,
+                        operation.descriptorUUID, transactionId, onDescriptor, onError);
+                break;
+            case WRITE_DESCRIPTOR:
+                bleAdapter.writeDescriptorForDevice(deviceId, operation.serviceUUID, operation.characteristicUUID,
+                        operation.descriptorUUID, operation.value, transactionId, onDescriptor, onError);
+                break;
+        }
+    }
+
+    private void onOperationFailed(int index, BleError error) {
+        if (error.errorCode == BleErrorCode.OperationCancelled) {
+            if (error.deviceID == null) {
+                error.deviceID = deviceId;
+            }
+            listener.onCancelled(error);
+            return;
+        }
+        WritableMap result = Arguments.createMap();
+        result.putString(Metadata.ERROR, errorConverter.toJs(error));
+        result.putNull(Metadata.CHARACTERISTIC);
+        result.putNull(Metadata.DESCRIPTOR);
+        results.pushMap(result);
+        if (stopOnError) {
+            listener.onCompleted(results);
+        } else {
+            execute(index + 1);
+        }
+    }
+
+    private static Operation[] parse(ReadableArray specs) {
+        Operation[] operations = new Operation[specs.size()];
+        for (int i = 0; i < specs.size(); i++) {
+            if (specs.getType(i) != ReadableType.Map) {
+                throw new IllegalArgumentException("Operation at index " + i + " is not an object");
+            }
+            ReadableMap spec = specs.getMap(i);
+            Type type = spec.hasKey(Metadata.TYPE) && spec.getType(Metadata.TYPE) == ReadableType.String
+                    ? Type.fromJs(spec.getString(Metadata.TYPE))
+                    : null;
+            if (type == null) {
+                throw new IllegalArgumentException("Operation at index " + i + " has unknown type");
+            }
+            String serviceUUID = getString(spec, Metadata.SERVICE_UUID);
+            String characteristicUUID = getString(spec, Metadata.CHARACTERISTIC_UUID);
+            String descriptorUUID = getString(spec, Metadata.DESCRIPTOR_UUID);
+            String value = getString(spec, Metadata.VALUE);
+            boolean descriptorOperation = type == Type.READ_DESCRIPTOR || type == Type.WRITE_DESCRIPTOR;
+            boolean writeOperation = type == Type.WRITE || type == Type.WRITE_DESCRIPTOR;
+            if (serviceUUID == null || characteristicUUID == null || (descriptorOperation && descriptorUUID == null)) {
+                throw new IllegalArgumentException("Operation at index " + i + " is missing UUIDs");
+            }
+            if (writeOperation && value == null) {
+                throw new IllegalArgumentException("Operation at index " + i + " is missing value");
+            }
+            boolean withResponse = !spec.hasKey(Metadata.WITH_RESPONSE)
+                    || spec.getType(Metadata.WITH_RESPONSE) != ReadableType.Boolean
+                    || spec.getBoolean(Metadata.WITH_RESPONSE);
+            operations[i] = new Operation(type, serviceUUID, characteristicUUID, descriptorUUID, value, withResponse);
+        }
+        return operations;
+    }
+
+    @Nullable
+    private static String getString(ReadableMap spec, String key) {
+        return spec.hasKey(key) && spec.getType(key) == ReadableType.String ? spec.getString(key) : null;
+    }
+}
@@ -0,0 +1,369 @@
+package com.polidea.reactnativeble.operations;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Queues GATT operations per device and passes them to the adapter one at a time, so that the order in which they
+ * reach the connection is decided here instead of by arrival. Control lane always goes first, interactive and bulk
+ * lanes are interleaved by weight so that bulk traffic can't be starved. Queued operations can expire after their
+ * deadline and are removed on transaction cancellation or disconnection.
+ */
+public class GattOperationScheduler {
+
+    public enum Priority {
+        // Control lane is served before the others, its weight is not used
+        CONTROL("Control", 0),
+        INTERACTIVE("Interactive", 4),
+        BULK("Bulk", 1);
+
+        public final String jsName;
+        final int weight;
+
+        Priority(String jsName, int weight) {
+            this.jsName = jsName;
+            this.weight = weight;
+        }
+
+        @Nullable
+        public static Priority fromJs(String jsName) {
+            for (Priority priority : values()) {
+                if (priority.jsName.equals(jsName)) {
+                    return priority;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Single adapter call. {@link #execute(Runnable)} has to call {@code done} exactly once when the adapter reports
+     * the result. {@link #fail(BleError)} is called instead of execution when the task never leaves the queue.
+     */
+    public interface Task {
+        void execute(Runnable done);
+
+        void fail(BleError error);
+    }
+
+    private interface Metadata {
+        String QUEUED = "queued";
+        String EXECUTED = "executed";
+        String EXPIRED = "expired";
+        String CANCELLED = "cancelled";
+        String AVERAGE_WAIT_MS = "averageWaitMs";
+        String MAX_WAIT_MS = "maxWaitMs";
+    }
+
+    /**
+     * Lane and queueing deadline of an operation. Deadline of 0 means the operation waits as long as needed.
+     */
+    public static class Hint {
+        public final Priority priority;
+        public final long deadlineMillis;
+
+        public Hint(Priority priority, long deadlineMillis) {
+            this.priority = priority;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+
+    private class Entry {
+        final DeviceQueue queue;
+        final Priority priority;
+        final String transactionId;
+        final Task task;
+        final long enqueuedAt = System.nanoTime();
+        @Nullable
+        ScheduledFuture<?> expiry;
+
+        Entry(DeviceQueue queue, Priority priority, String transactionId, Task task) {
+            this.queue = queue;
+            this.priority = priority;
+            this.transactionId = transactionId;
+            this.task = task;
+        }
+    }
+
+    private static class LaneStatistics {
+        long executed;
+        long expired;
+        long cancelled;
+        long totalWaitNanos;
+        long maxWaitNanos;
+    }
+
+    private static class DeviceQueue {
+        final ArrayDeque<Entry>[] lanes;
+        final LaneStatistics[] statistics;
+        @Nullable
+        Entry running;
+        boolean draining;
+        Priority currentLane = Priority.INTERACTIVE;
+        int remainingWeight = Priority.INTERACTIVE.weight;
+
+        @SuppressWarnings("unchecked")
+        DeviceQueue() {
+            Priority[] priorities = Priority.values();
+            lanes = new ArrayDeque[priorities.length];
+            statistics = new LaneStatistics[priorities.length];
+            for (int i = 0; i < priorities.length; i++) {
+                lanes[i] = new ArrayDeque<>();
+                statistics[i] = new LaneStatistics();
+            }
+        }
+
+        void resetStatistics() {
+            for (int i = 0; i < statistics.length; i++) {
+                statistics[i] = new LaneStatistics();
+            }
+        }
+
+        @Nullable
+        Entry poll() {
+            Entry control = lanes[Priority.CONTROL.ordinal()].poll();
+            if (control != null) {
+                return control;
+            }
+            // Weighted round robin between interactive and bulk lanes. Three steps are enough to visit both lanes with
+            // full weight.
+            for (int i = 0; i < 3; i++) {
+                ArrayDeque<Entry> lane = lanes[currentLane.ordinal()];
+                if (remainingWeight > 0 && !lane.isEmpty()) {
+                    remainingWeight--;
+                    return lane.poll();
+                }
+                currentLane = currentLane == Priority.INTERACTIVE ? Priority.BULK : Priority.INTERACTIVE;
+                remainingWeight = currentLane.weight;
+            }
+            return null;
+        }
+    }
+
+    private final ScheduledExecutorService executor;
+    private final Map<String, DeviceQueue> queues = new HashMap<>();
+    private final Map<String, Hint> hints = new HashMap<>();
+
+    public GattOperationScheduler(ScheduledExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Sets lane and deadline of operations started later with given transaction.
+     */
+    public synchronized void setHint(String transactionId, Hint hint) {
+        hints.put(transactionId, hint);
+    }
+
+    /**
+     * Returns and forgets the hint set for the transaction. Operations spanning several adapter calls take it once
+     * and submit all of them with it.
+     */
+    public synchronized Hint takeHint(String transactionId, Priority defaultPriority) {
+        Hint hint = hints.remove(transactionId);
+        return hint != null ? hint : new Hint(defaultPriority, 0);
+    }
+
+    public void submit(String deviceId, String transactionId, Hint hint, Task task) {
+        final Entry entry;
+        synchronized (this) {
+            DeviceQueue queue = queues.get(deviceId);
+            if (queue == null) {
+                queue = new DeviceQueue();
+                queues.put(deviceId, queue);
+            }
+            entry = new Entry(queue, hint.priority, transactionId, task);
+            queue.lanes[hint.priority.ordinal()].add(entry);
+            if (hint.deadlineMillis > 0) {
+                entry.expiry = executor.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        expire(entry);
+                    }
+                }, hint.deadlineMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        drain(entry.queue);
+    }
+
+    /**
+     * Fails all queued operations of the transaction with {@link BleErrorCode#OperationCancelled}. Running operation
+     * is cancelled by the adapter.
+     */
+    public void cancel(String transactionId) {
+        List<Entry> cancelled = new ArrayList<>();
+        synchronized (this) {
+            hints.remove(transactionId);
+            for (DeviceQueue queue : queues.values()) {
+                for (ArrayDeque<Entry> lane : queue.lanes) {
+                    Iterator<Entry> iterator = lane.iterator();
+                    while (iterator.hasNext()) {
+                        Entry entry = iterator.next();
+                        if (entry.transactionId.equals(transactionId)) {
+                            iterator.remove();
+                            queue.statistics[entry.priority.ordinal()].cancelled++;
+                            cancelled.add(entry);
+                        }
+                    }
+                }
+            }
+        }
+        failAll(cancelled, new BleError(BleErrorCode.OperationCancelled, null, null));
+    }
+
+    /**
+     * Fails all queued operations of the device with {@link BleErrorCode#DeviceDisconnected} and drops its
+     * statistics. Operation which is still executing keeps the device queue, so that operations submitted after
+     * reconnection wait until the adapter reports its result.
+     */
+    public void invalidateDevice(String deviceId) {
+        List<Entry> removed;
+        synchronized (this) {
+            DeviceQueue queue = queues.get(deviceId);
+            if (queue == null) {
+                return;
+            }
+            removed = removeAll(queue);
+            if (queue.running != null) {
+                queue.resetStatistics();
+            } else {
+                queues.remove(deviceId);
+            }
+        }
+        BleError error = new BleError(BleErrorCode.DeviceDisconnected, null, null);
+        error.deviceID = deviceId;
+        failAll(removed, error);
+    }
+
+    public void clear() {
+        List<Entry> removed = new ArrayList<>();
+        synchronized (this) {
+            for (DeviceQueue queue : queues.values()) {
+                removed.addAll(removeAll(queue));
+            }
+            queues.clear();
+            hints.clear();
+        }
+        failAll(removed, new BleError(BleErrorCode.BluetoothManagerDestroyed, null, null));
+    }
+
+    @Nullable
+    public synchronized WritableMap statisticsToJs(String deviceId) {
+        DeviceQueue queue = queues.get(deviceId);
+        if (queue == null) {
+            return null;
+        }
+        WritableMap result = Arguments.createMap();
+        for (Priority priority : Priority.values()) {
+            LaneStatistics statistics = queue.statistics[priority.ordinal()];
+            WritableMap lane = Arguments.createMap();
+            lane.putInt(Metadata.QUEUED, queue.lanes[priority.ordinal()].size());
+            lane.putDouble(Metadata.EXECUTED, statistics.executed);
+            lane.putDouble(Metadata.EXPIRED, statistics.expired);
+            lane.putDouble(Metadata.CANCELLED, statistics.cancelled);
+            lane.putDouble(Metadata.AVERAGE_WAIT_MS, statistics.executed > 0
+                    ? statistics.totalWaitNanos / 1e6 / statistics.executed
+                    : 0);
+            lane.putDouble(Metadata.MAX_WAIT_MS, statistics.maxWaitNanos / 1e6);
+            result.putMap(priority.jsName, lane);
+        }
+        return result;
+    }
+
+    private void drain(DeviceQueue queue) {
+        synchronized (this) {
+            if (queue.draining) {
+                return;
+            }
+            queue.draining = true;
+        }
+        // Tasks completing synchronously don't recurse, the loop picks up the next one
+        while (true) {
+            final Entry entry;
+            synchronized (this) {
+                entry = queue.running == null ? queue.poll() : null;
+                if (entry == null) {
+                    queue.draining = false;
+                    return;
+                }
+                queue.running = entry;
+                if (entry.expiry != null) {
+                    entry.expiry.cancel(false);
+                }
+                long waitNanos = System.nanoTime() - entry.enqueuedAt;
+                LaneStatistics statistics = queue.statistics[entry.priority.ordinal()];
+                statistics.executed++;
+                statistics.totalWaitNanos += waitNanos;
+                statistics.maxWaitNanos = Math.max(statistics.maxWaitNanos, waitNanos);
+            }
+            Runnable done = new Runnable() {
+                private boolean called;
+
+                @Override
+                public void run() {
+                    synchronized (GattOperationScheduler.this) {
+                        if (called) {
+                            return;
+                        }
+                        called = true;
+                        if (entry.queue.running == entry) {
+                            entry.queue.running = null;
+                        }
+                    }
+                    drain(entry.queue);
+                }
+            };
+            try {
+                entry.task.execute(done);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    queue.draining = false;
+                }
+                done.run();
+                throw e;
+            }
+        }
+    }
+
+    private void expire(Entry entry) {
+        synchronized (this) {
+            if (!entry.queue.lanes[entry.priority.ordinal()].remove(entry)) {
+                return;
+            }
+            entry.queue.statistics[entry.priority.ordinal()].expired++;
+        }
+        entry.task.fail(new BleError(BleErrorCode.OperationTimedOut, "Operation waited too long in the queue", null));
+    }
+
+    private static List<Entry> removeAll(DeviceQueue queue) {
+        List<Entry> removed = new ArrayList<>();
+        for (ArrayDeque<Entry> lane : queue.lanes) {
+            removed.addAll(lane);
+            lane.clear();
+        }
+        return removed;
+    }
+
+    private static void failAll(List<Entry> entries, BleError error) {
+        for (Entry entry : entries) {
+            if (entry.expiry != null) {
+                entry.expiry.cancel(false);
+            }
+            entry.task.fail(error);
+        }
+    }
+}
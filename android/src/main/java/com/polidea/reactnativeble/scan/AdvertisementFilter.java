@@ -0,0 +1,223 @@
+package com.polidea.reactnativeble.scan;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.ScanResult;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Declarative advertisement filter compiled once from scan options and evaluated on raw scan results before they
+ * are converted. A result passes when it matches any of the filter specs; all conditions of a single spec have to
+ * be met. Evaluation does not allocate.
+ */
+public class AdvertisementFilter {
+
+    private interface Metadata {
+        String MANUFACTURER_ID = "manufacturerId";
+        String MANUFACTURER_DATA_PREFIX = "manufacturerDataPrefix";
+        String SERVICE_UUID = "serviceUUID";
+        String SERVICE_DATA_UUID = "serviceDataUUID";
+        String SERVICE_DATA_PREFIX = "serviceDataPrefix";
+        String MIN_RSSI = "minRssi";
+        String LOCAL_NAME_PREFIX = "localNamePrefix";
+    }
+
+    // Manufacturer specific data starts with little endian company identifier
+    private static final int MANUFACTURER_ID_LENGTH = 2;
+
+    interface Predicate {
+        boolean matches(ScanResult scanResult);
+    }
+
+    private final Predicate[][] alternatives;
+
+    private AdvertisementFilter(Predicate[][] alternatives) {
+        this.alternatives = alternatives;
+    }
+
+    public static AdvertisementFilter compile(ReadableArray specs) {
+        Predicate[][] alternatives = new Predicate[specs.size()][];
+        for (int i = 0; i < specs.size(); i++) {
+            if (specs.getType(i) != ReadableType.Map) {
+                throw new IllegalArgumentException("Advertisement filter at index " + i + " is not an object");
+            }
+            alternatives[i] = compileSpec(specs.getMap(i));
+        }
+        return new AdvertisementFilter(alternatives);
+    }
+
+    public boolean matches(ScanResult scanResult) {
+        for (Predicate[] predicates : alternatives) {
+            if (matchesAll(predicates, scanResult)) {
+                return true;
+            }
+        }
+        return alternatives.length == 0;
+    }
+
+    private static boolean matchesAll(Predicate[] predicates, ScanResult scanResult) {
+        for (Predicate predicate : predicates) {
+            if (!predicate.matches(scanResult)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Predicate[] compileSpec(ReadableMap spec) {
+        List<Predicate> predicates = new ArrayList<>();
+        // Cheapest checks go first
+        if (spec.hasKey(Metadata.MIN_RSSI) && spec.getType(Metadata.MIN_RSSI) == ReadableType.Number) {
+            predicates.add(new MinRssiPredicate(spec.getInt(Metadata.MIN_RSSI)));
+        }
+        if (spec.hasKey(Metadata.MANUFACTURER_ID) && spec.getType(Metadata.MANUFACTURER_ID) == ReadableType.Number) {
+            predicates.add(new ManufacturerIdPredicate(spec.getInt(Metadata.MANUFACTURER_ID)));
+        }
+        if (spec.hasKey(Metadata.MANUFACTURER_DATA_PREFIX)
+                && spec.getType(Metadata.MANUFACTURER_DATA_PREFIX) == ReadableType.String) {
+            predicates.add(new ManufacturerDataPrefixPredicate(
+                    decode(spec.getString(Metadata.MANUFACTURER_DATA_PREFIX))));
+        }
+        if (spec.hasKey(Metadata.SERVICE_UUID) && spec.getType(Metadata.SERVICE_UUID) == ReadableType.String) {
+            predicates.add(new ServiceUUIDPredicate(convert(spec.getString(Metadata.SERVICE_UUID))));
+        }
+        if (spec.hasKey(Metadata.SERVICE_DATA_UUID)
+                && spec.getType(Metadata.SERVICE_DATA_UUID) == ReadableType.String) {
+            byte[] prefix = new byte[0];
+            if (spec.hasKey(Metadata.SERVICE_DATA_PREFIX)
+                    && spec.getType(Metadata.SERVICE_DATA_PREFIX) == ReadableType.String) {
+                prefix = decode(spec.getString(Metadata.SERVICE_DATA_PREFIX));
+            }
+            predicates.add(new ServiceDataPrefixPredicate(convert(spec.getString(Metadata.SERVICE_DATA_UUID)), prefix));
+        }
+        if (spec.hasKey(Metadata.LOCAL_NAME_PREFIX)
+                && spec.getType(Metadata.LOCAL_NAME_PREFIX) == ReadableType.String) {
+            predicates.add(new LocalNamePrefixPredicate(spec.getString(Metadata.LOCAL_NAME_PREFIX)));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static UUID convert(String uuid) {
+        UUID result = UUIDConverter.convert(uuid);
+        if (result == null) {
+            throw new IllegalArgumentException("Invalid UUID in advertisement filter: " + uuid);
+        }
+        return result;
+    }
+
+    private static byte[] decode(String base64) {
+        try {
+            return Base64Converter.decode(base64);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid Base64 value in advertisement filter: " + base64);
+        }
+    }
+
+    static boolean startsWith(byte[] data, int offset, byte[] prefix) {
+        if (data == null || data.length - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class MinRssiPredicate implements Predicate {
+        private final int minRssi;
+
+        MinRssiPredicate(int minRssi) {
+            this.minRssi = minRssi;
+        }
+
+        @Override
+        public boolean matches(ScanResult scanResult) {
+            return scanResult.getRssi() >= minRssi;
+        }
+    }
+
+    private static class ManufacturerIdPredicate implements Predicate {
+        private final int manufacturerId;
+
+        ManufacturerIdPredicate(int manufacturerId) {
+            this.manufacturerId = manufacturerId;
+        }
+
+        @Override
+        public boolean matches(ScanResult scanResult) {
+            byte[] data = scanResult.getAdvertisementData().getManufacturerData();
+            if (data == null || data.length < MANUFACTURER_ID_LENGTH) {
+                return false;
+            }
+            return ((data[0] & 0xFF) | ((data[1] & 0xFF) << 8)) == manufacturerId;
+        }
+    }
+
+    private static class ManufacturerDataPrefixPredicate implements Predicate {
+        private final byte[] prefix;
+
+        ManufacturerDataPrefixPredicate(byte[] prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean matches(ScanResult scanResult) {
+            return startsWith(scanResult.getAdvertisementData().getManufacturerData(), MANUFACTURER_ID_LENGTH, prefix);
+        }
+    }
+
+    private static class ServiceUUIDPredicate implements Predicate {
+        private final UUID serviceUUID;
+
+        ServiceUUIDPredicate(UUID serviceUUID) {
+            this.serviceUUID = serviceUUID;
+        }
+
+        @Override
+        public boolean matches(ScanResult scanResult) {
+            List<UUID> serviceUUIDs = scanResult.getAdvertisementData().getServiceUUIDs();
+            return serviceUUIDs != null && serviceUUIDs.contains(serviceUUID);
+        }
+    }
+
+    private static class ServiceDataPrefixPredicate implements Predicate {
+        private final UUID serviceUUID;
+        private final byte[] prefix;
+
+        ServiceDataPrefixPredicate(UUID serviceUUID, byte[] prefix) {
+            this.serviceUUID = serviceUUID;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean matches(ScanResult scanResult) {
+            Map<UUID, byte[]> serviceData = scanResult.getAdvertisementData().getServiceData();
+            return serviceData != null && startsWith(serviceData.get(serviceUUID), 0, prefix);
+        }
+    }
+
+    private static class LocalNamePrefixPredicate implements Predicate {
+        private final String prefix;
+
+        LocalNamePrefixPredicate(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean matches(ScanResult scanResult) {
+            AdvertisementData advData = scanResult.getAdvertisementData();
+            String name = advData.getLocalName() != null ? advData.getLocalName() : scanResult.getDeviceName();
+            return name != null && name.startsWith(prefix);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.polidea.reactnativeble.scan;
+
+import android.bluetooth.le.ScanFilter;
+import android.os.ParcelUuid;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Builds platform {@link ScanFilter}s which are offloaded to the Bluetooth controller when supported. Platform treats
+ * the list as alternatives, while service UUIDs passed to the scan have to narrow the specs down, so each spec is
+ * combined with each of the UUIDs.
+ */
+public class HardwareScanFilters {
+
+    private interface Metadata {
+        String DEVICE_ID = "deviceId";
+        String SERVICE_UUID = "serviceUUID";
+        String MANUFACTURER_ID = "manufacturerId";
+        String MANUFACTURER_DATA = "manufacturerData";
+        String MANUFACTURER_DATA_MASK = "manufacturerDataMask";
+        String SERVICE_DATA_UUID = "serviceDataUUID";
+        String SERVICE_DATA = "serviceData";
+        String SERVICE_DATA_MASK = "serviceDataMask";
+    }
+
+    /**
+     * Returns an empty list, which doesn't filter at all, only when there are neither specs nor service UUIDs.
+     *
+     * @throws IllegalArgumentException when a spec is invalid or no spec can match any of the service UUIDs
+     */
+    public static List<ScanFilter> build(ReadableArray specs, @Nullable String[] serviceUUIDs) {
+        List<UUID> uuids = null;
+        if (serviceUUIDs != null && serviceUUIDs.length > 0) {
+            uuids = new ArrayList<>(serviceUUIDs.length);
+            for (String serviceUUID : serviceUUIDs) {
+                uuids.add(convert(serviceUUID));
+            }
+        }
+        List<ScanFilter> filters = new ArrayList<>();
+        for (int i = 0; i < specs.size(); i++) {
+            if (specs.getType(i) != ReadableType.Map) {
+                throw new IllegalArgumentException("Hardware scan filter at index " + i + " is not an object");
+            }
+            ReadableMap spec = specs.getMap(i);
+            UUID specServiceUUID = getServiceUUID(spec);
+            if (uuids == null) {
+                filters.add(builder(spec).build());
+            } else if (specServiceUUID != null) {
+                if (uuids.contains(specServiceUUID)) {
+                    filters.add(builder(spec).build());
+                }
+            } else {
+                for (UUID uuid : uuids) {
+                    filters.add(builder(spec).setServiceUuid(new ParcelUuid(uuid)).build());
+                }
+            }
+        }
+        if (specs.size() == 0 && uuids != null) {
+            for (UUID uuid : uuids) {
+                filters.add(new ScanFilter.Builder().setServiceUuid(new ParcelUuid(uuid)).build());
+            }
+        }
+        if (filters.isEmpty() && specs.size() > 0) {
+            throw new IllegalArgumentException("No hardware scan filter can match the scanned service UUIDs");
+        }
+        return filters;
+    }
+
+    // Builder validates address format and data/mask lengths with IllegalArgumentException on build()
+    private static ScanFilter.Builder builder(ReadableMap spec) {
+        ScanFilter.Builder builder = new ScanFilter.Builder();
+        if (spec.hasKey(Metadata.DEVICE_ID) && spec.getType(Metadata.DEVICE_ID) == ReadableType.String) {
+            builder.setDeviceAddress(spec.getString(Metadata.DEVICE_ID));
+        }
+        UUID serviceUUID = getServiceUUID(spec);
+        if (serviceUUID != null) {
+            builder.setServiceUuid(new ParcelUuid(serviceUUID));
+        }
+        if (spec.hasKey(Metadata.MANUFACTURER_ID) && spec.getType(Metadata.MANUFACTURER_ID) == ReadableType.Number) {
+            byte[] data = getBytes(spec, Metadata.MANUFACTURER_DATA);
+            byte[] mask = getBytes(spec, Metadata.MANUFACTURER_DATA_MASK);
+            builder.setManufacturerData(spec.getInt(Metadata.MANUFACTURER_ID), data != null ? data : new byte[0], mask);
+        }
+        if (spec.hasKey(Metadata.SERVICE_DATA_UUID)
+                && spec.getType(Metadata.SERVICE_DATA_UUID) == ReadableType.String) {
+            byte[] data = getBytes(spec, Metadata.SERVICE_DATA);
+            byte[] mask = getBytes(spec, Metadata.SERVICE_DATA_MASK);
+            builder.setServiceData(new ParcelUuid(convert(spec.getString(Metadata.SERVICE_DATA_UUID))),
+                    data != null ? data : new byte[0], mask);
+        }
+        return builder;
+    }
+
+    @Nullable
+    private static UUID getServiceUUID(ReadableMap spec) {
+        if (!spec.hasKey(Metadata.SERVICE_UUID) || spec.getType(Metadata.SERVICE_UUID) != ReadableType.String) {
+            return null;
+        }
+        return convert(spec.getString(Metadata.SERVICE_UUID));
+    }
+
+    @Nullable
+    private static byte[] getBytes(ReadableMap spec, String key) {
+        if (!spec.hasKey(key) || spec.getType(key) != ReadableType.String) {
+            return null;
+        }
+        try {
+            return Base64Converter.decode(spec.getString(key));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid Base64 value of " + key + " in hardware scan filter");
+        }
+    }
+
+    private static UUID convert(String uuid) {
+        UUID result = UUIDConverter.convert(uuid);
+        if (result == null) {
+            throw new IllegalArgumentException("Invalid UUID in hardware scan filter: " + uuid);
+        }
+        return result;
+    }
+}
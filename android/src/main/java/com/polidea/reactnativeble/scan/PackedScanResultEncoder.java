@@ -0,0 +1,236 @@
+package com.polidea.reactnativeble.scan;
+
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.ScanResult;
+import com.polidea.reactnativeble.utils.Base64Converter;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes scan results into a compact Base64 string instead of a map with a key for every field. Layout (version 1):
+ *
+ * <pre>
+ * offset  size  field
+ * 0       1     layout version
+ * 1       6     device address, most significant byte first
+ * 7       1     RSSI, signed
+ * 8       1     TX power level, signed, valid when flag bit 2 is set
+ * 9       1     flags: bit 0 - connectable is known, bit 1 - connectable, bit 2 - TX power level present
+ * 10      2     MTU, little endian
+ * 12      1     device name length n, 0 when name is absent
+ * 13      n     device name, UTF-8
+ * 13 + n  ...   advertisement data as Bluetooth Core AD structures: length, type, data
+ * </pre>
+ *
+ * Adapter parses advertisements, so AD structures are rebuilt from {@link AdvertisementData}: manufacturer data,
+ * service data, service and solicited service UUID lists, local name and TX power level.
+ */
+public class PackedScanResultEncoder {
+
+    private static final int LAYOUT_VERSION = 1;
+    private static final int FLAG_CONNECTABLE_KNOWN = 1;
+    private static final int FLAG_CONNECTABLE = 1 << 1;
+    private static final int FLAG_TX_POWER_LEVEL = 1 << 2;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_AD_DATA_LENGTH = 254;
+
+    private static final int AD_INCOMPLETE_16_BIT_UUIDS = 0x02;
+    private static final int AD_INCOMPLETE_32_BIT_UUIDS = 0x04;
+    private static final int AD_INCOMPLETE_128_BIT_UUIDS = 0x06;
+    private static final int AD_COMPLETE_LOCAL_NAME = 0x09;
+    private static final int AD_TX_POWER_LEVEL = 0x0A;
+    private static final int AD_SOLICITED_16_BIT_UUIDS = 0x14;
+    private static final int AD_SOLICITED_128_BIT_UUIDS = 0x15;
+    private static final int AD_SERVICE_DATA_16_BIT_UUID = 0x16;
+    private static final int AD_SOLICITED_32_BIT_UUIDS = 0x1F;
+    private static final int AD_SERVICE_DATA_32_BIT_UUID = 0x20;
+    private static final int AD_SERVICE_DATA_128_BIT_UUID = 0x21;
+    private static final int AD_MANUFACTURER_DATA = 0xFF;
+
+    private static final long BASE_UUID_LSB = 0x800000805F9B34FBL;
+    private static final long BASE_UUID_MSB_MASK = 0x00000000FFFFFFFFL;
+    private static final long BASE_UUID_MSB = 0x0000000000001000L;
+
+    private static final int[] UUID_SIZES = {2, 4, 16};
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private byte[] buffer = new byte[256];
+    private int position;
+
+    public synchronized String encode(ScanResult scanResult) {
+        position = 0;
+        AdvertisementData advertisementData = scanResult.getAdvertisementData();
+        Integer txPowerLevel = advertisementData.getTxPowerLevel();
+        Boolean isConnectable = scanResult.isConnectable();
+
+        int flags = 0;
+        if (isConnectable != null) {
+            flags |= FLAG_CONNECTABLE_KNOWN;
+            if (isConnectable) {
+                flags |= FLAG_CONNECTABLE;
+            }
+        }
+        if (txPowerLevel != null) {
+            flags |= FLAG_TX_POWER_LEVEL;
+        }
+
+        putByte(LAYOUT_VERSION);
+        putAddress(scanResult.getDeviceId());
+        putByte(scanResult.getRssi());
+        putByte(txPowerLevel != null ? txPowerLevel : 0);
+        putByte(flags);
+        putByte(scanResult.getMtu());
+        putByte(scanResult.getMtu() >> 8);
+
+        String deviceName = scanResult.getDeviceName();
+        if (deviceName != null) {
+            byte[] name = deviceName.getBytes(UTF_8);
+            int length = Math.min(name.length, MAX_NAME_LENGTH);
+            putByte(length);
+            putBytes(name, 0, length);
+        } else {
+            putByte(0);
+        }
+
+        putAdvertisementData(advertisementData);
+        return Base64Converter.encode(buffer, 0, position);
+    }
+
+    private void putAdvertisementData(AdvertisementData advertisementData) {
+        putUUIDs(advertisementData.getServiceUUIDs(),
+                AD_INCOMPLETE_16_BIT_UUIDS, AD_INCOMPLETE_32_BIT_UUIDS, AD_INCOMPLETE_128_BIT_UUIDS);
+        putUUIDs(advertisementData.getSolicitedServiceUUIDs(),
+                AD_SOLICITED_16_BIT_UUIDS, AD_SOLICITED_32_BIT_UUIDS, AD_SOLICITED_128_BIT_UUIDS);
+
+        String localName = advertisementData.getLocalName();
+        if (localName != null) {
+            byte[] name = localName.getBytes(UTF_8);
+            putAdStructureHeader(AD_COMPLETE_LOCAL_NAME, Math.min(name.length, MAX_AD_DATA_LENGTH));
+            putBytes(name, 0, Math.min(name.length, MAX_AD_DATA_LENGTH));
+        }
+
+        Integer txPowerLevel = advertisementData.getTxPowerLevel();
+        if (txPowerLevel != null) {
+            putAdStructureHeader(AD_TX_POWER_LEVEL, 1);
+            putByte(txPowerLevel);
+        }
+
+        Map<UUID, byte[]> serviceData = advertisementData.getServiceData();
+        if (serviceData != null) {
+            for (Map.Entry<UUID, byte[]> entry : serviceData.entrySet()) {
+                UUID uuid = entry.getKey();
+                int uuidSize = uuidSize(uuid);
+                int type = uuidSize == 2 ? AD_SERVICE_DATA_16_BIT_UUID
+                        : uuidSize == 4 ? AD_SERVICE_DATA_32_BIT_UUID
+                        : AD_SERVICE_DATA_128_BIT_UUID;
+                byte[] data = entry.getValue() != null ? entry.getValue() : new byte[0];
+                int length = Math.min(data.length, MAX_AD_DATA_LENGTH - uuidSize);
+                putAdStructureHeader(type, uuidSize + length);
+                putUUID(uuid, uuidSize);
+                putBytes(data, 0, length);
+            }
+        }
+
+        byte[] manufacturerData = advertisementData.getManufacturerData();
+        if (manufacturerData != null) {
+            int length = Math.min(manufacturerData.length, MAX_AD_DATA_LENGTH);
+            putAdStructureHeader(AD_MANUFACTURER_DATA, length);
+            putBytes(manufacturerData, 0, length);
+        }
+    }
+
+    private void putUUIDs(List<UUID> uuids, int type16Bit, int type32Bit, int type128Bit) {
+        if (uuids == null) {
+            return;
+        }
+        for (int uuidSize : UUID_SIZES) {
+            int type = uuidSize == 2 ? type16Bit : uuidSize == 4 ? type32Bit : type128Bit;
+            int count = 0;
+            for (UUID uuid : uuids) {
+                if (uuidSize(uuid) == uuidSize) {
+                    count++;
+                }
+            }
+            // Lists longer than a single AD structure can hold are split into several structures
+            int perStructure = MAX_AD_DATA_LENGTH / uuidSize;
+            int written = 0;
+            for (UUID uuid : uuids) {
+                if (uuidSize(uuid) != uuidSize) {
+                    continue;
+                }
+                if (written % perStructure == 0) {
+                    putAdStructureHeader(type, Math.min(count - written, perStructure) * uuidSize);
+                }
+                putUUID(uuid, uuidSize);
+                written++;
+            }
+        }
+    }
+
+    private static int uuidSize(UUID uuid) {
+        if (uuid.getLeastSignificantBits() != BASE_UUID_LSB
+                || (uuid.getMostSignificantBits() & BASE_UUID_MSB_MASK) != BASE_UUID_MSB) {
+            return 16;
+        }
+        return (uuid.getMostSignificantBits() >>> 48) == 0 ? 2 : 4;
+    }
+
+    private void putUUID(UUID uuid, int uuidSize) {
+        // AD structures store UUIDs little endian
+        if (uuidSize == 16) {
+            putLong(uuid.getLeastSignificantBits(), 8);
+            putLong(uuid.getMostSignificantBits(), 8);
+        } else {
+            putLong(uuid.getMostSignificantBits() >>> 32, uuidSize);
+        }
+    }
+
+    private void putAddress(String address) {
+        for (int i = 0; i < 6; i++) {
+            int index = i * 3;
+            int value = 0;
+            if (address != null && address.length() >= index + 2) {
+                int high = Character.digit(address.charAt(index), 16);
+                int low = Character.digit(address.charAt(index + 1), 16);
+                if (high >= 0 && low >= 0) {
+                    value = (high << 4) | low;
+                }
+            }
+            putByte(value);
+        }
+    }
+
+    private void putAdStructureHeader(int type, int dataLength) {
+        putByte(dataLength + 1);
+        putByte(type);
+    }
+
+    private void putLong(long value, int size) {
+        for (int i = 0; i < size; i++) {
+            putByte((int) (value >>> (8 * i)));
+        }
+    }
+
+    private void putBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    private void putByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            byte[] grown = new byte[Math.max(buffer.length * 2, position + additional)];
+            System.arraycopy(buffer, 0, grown, 0, position);
+            buffer = grown;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.polidea.reactnativeble.scan;
+
+import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.le.BluetoothLeScanner;
+import android.bluetooth.le.ScanCallback;
+import android.bluetooth.le.ScanFilter;
+import android.bluetooth.le.ScanRecord;
+import android.bluetooth.le.ScanSettings;
+import android.os.Build;
+
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnEventCallback;
+import com.polidea.multiplatformbleadapter.ScanResult;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Scans with platform {@link BluetoothLeScanner} directly. Used when scan options need platform features which
+ * are not exposed by the adapter, such as filters other than service UUIDs or controller batching with a report
+ * delay. Results are converted to adapter {@link ScanResult}s so they go through the same pipeline as adapter scans.
+ */
+public class PlatformScanner {
+
+    private static final int DEFAULT_MTU = 23;
+
+    @Nullable
+    private BluetoothLeScanner scanner;
+    @Nullable
+    private ScanCallback scanCallback;
+
+    /**
+     * Returns report delay applied by the controller, 0 when results are reported one by one, either because no delay
+     * was requested or because the controller doesn't support offloaded batching, or when the scan failed to start.
+     */
+    public synchronized long start(List<ScanFilter> filters,
+                                   int scanMode,
+                                   int callbackType,
+                                   long reportDelayMillis,
+                                   final OnEventCallback<ScanResult> onEventCallback,
+                                   final OnEventCallback<List<ScanResult>> onBatchCallback,
+                                   final OnErrorCallback onErrorCallback) {
+        stop();
+
+        BluetoothAdapter bluetoothAdapter = BluetoothAdapter.getDefaultAdapter();
+        if (bluetoothAdapter == null) {
+            onErrorCallback.onError(new BleError(BleErrorCode.BluetoothUnsupported, "Bluetooth is not supported", null));
+            return 0;
+        }
+        BluetoothLeScanner leScanner = bluetoothAdapter.getBluetoothLeScanner();
+        if (!bluetoothAdapter.isEnabled() || leScanner == null) {
+            onErrorCallback.onError(new BleError(BleErrorCode.BluetoothPoweredOff, "Bluetooth is powered off", null));
+            return 0;
+        }
+
+        ScanSettings.Builder settings = new ScanSettings.Builder().setScanMode(scanMode);
+        long appliedReportDelayMillis = 0;
+        if (reportDelayMillis > 0 && bluetoothAdapter.isOffloadedScanBatchingSupported()) {
+            settings.setReportDelay(reportDelayMillis);
+            appliedReportDelayMillis = reportDelayMillis;
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+            settings.setCallbackType(callbackType);
+        }
+
+        ScanCallback callback = new ScanCallback() {
+            @Override
+            public void onScanResult(int callbackType, android.bluetooth.le.ScanResult result) {
+                onEventCallback.onEvent(convert(result));
+            }
+
+            @Override
+            public void onBatchScanResults(List<android.bluetooth.le.ScanResult> results) {
+                List<ScanResult> batch = new ArrayList<>(results.size());
+                for (android.bluetooth.le.ScanResult result : results) {
+                    batch.add(convert(result));
+                }
+                onBatchCallback.onEvent(batch);
+            }
+
+            @Override
+            public void onScanFailed(int errorCode) {
+                clear(this);
+                onErrorCallback.onError(new BleError(BleErrorCode.ScanStartFailed,
+                        "Scan failed with platform error code " + errorCode, errorCode));
+            }
+        };
+
+        try {
+            leScanner.startScan(filters, settings.build(), callback);
+        } catch (SecurityException e) {
+            onErrorCallback.onError(new BleError(BleErrorCode.BluetoothUnauthorized, e.getMessage(), null));
+            return 0;
+        }
+        scanner = leScanner;
+        scanCallback = callback;
+        return appliedReportDelayMillis;
+    }
+
+    public synchronized void stop() {
+        if (scanner != null && scanCallback != null) {
+            try {
+                scanner.stopScan(scanCallback);
+            } catch (IllegalStateException e) {
+                // Bluetooth was turned off in the meantime, scan is already stopped
+            }
+        }
+        scanner = null;
+        scanCallback = null;
+    }
+
+    /**
+     * Forgets the scan started with {@code callback} unless another one was started since. Platform doesn't keep
+     * callbacks of failed scans registered, so there is nothing to stop.
+     */
+    private synchronized void clear(ScanCallback callback) {
+        if (scanCallback == callback) {
+            scanner = null;
+            scanCallback = null;
+        }
+    }
+
+    public synchronized boolean isScanning() {
+        return scanCallback != null;
+    }
+
+    static ScanResult convert(android.bluetooth.le.ScanResult result) {
+        BluetoothDevice device = result.getDevice();
+        ScanRecord scanRecord = result.getScanRecord();
+        byte[] advertisement = scanRecord != null ? scanRecord.getBytes() : null;
+        String deviceName = scanRecord != null ? scanRecord.getDeviceName() : null;
+        if (deviceName == null) {
+            try {
+                deviceName = device.getName();
+            } catch (SecurityException e) {
+                // BLUETOOTH_CONNECT is not granted on API 31+, only the advertised name is available
+            }
+        }
+        Boolean isConnectable = Build.VERSION.SDK_INT >= Build.VERSION_CODES.O ? result.isConnectable() : null;
+        return new ScanResult(
+                device.getAddress(),
+                deviceName,
+                result.getRssi(),
+                DEFAULT_MTU,
+                isConnectable,
+                null,
+                AdvertisementData.parseScanResponseData(advertisement != null ? advertisement : new byte[0]));
+    }
+}
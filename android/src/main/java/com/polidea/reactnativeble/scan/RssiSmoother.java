@@ -0,0 +1,99 @@
+package com.polidea.reactnativeble.scan;
+
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per device RSSI filter with distance estimation. Filter state is kept in primitive arrays indexed by a slot
+ * assigned to each device, so updates do not allocate. Slots of least recently seen devices are reused when
+ * all of them are taken.
+ */
+public class RssiSmoother {
+
+    public enum Mode {
+        EMA, KALMAN;
+
+        public static Mode fromString(String mode) {
+            return "kalman".equals(mode) ? KALMAN : EMA;
+        }
+    }
+
+    private interface Metadata {
+        String SMOOTHED_RSSI = "smoothedRssi";
+        String DISTANCE = "distance";
+    }
+
+    private static final int MAX_TRACKED_DEVICES = 1024;
+    // Expected RSSI at 1 m when device does not advertise TX power
+    private static final int DEFAULT_MEASURED_POWER = -59;
+    // Typical loss between TX power at 0 m and RSSI at 1 m
+    private static final int TX_POWER_TO_MEASURED_POWER = 41;
+    private static final double KALMAN_PROCESS_NOISE = 0.05;
+    private static final double KALMAN_MEASUREMENT_NOISE = 4.0;
+
+    private final Mode mode;
+    private final double smoothingFactor;
+    private final double pathLossExponent;
+
+    private final double[] estimates = new double[MAX_TRACKED_DEVICES];
+    private final double[] errorCovariances = new double[MAX_TRACKED_DEVICES];
+    private final int[] measuredPowers = new int[MAX_TRACKED_DEVICES];
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>(MAX_TRACKED_DEVICES);
+    // Access ordered, so iteration starts with the least recently seen device
+    private final LinkedHashMap<String, Integer> slots = new LinkedHashMap<>(16, 0.75f, true);
+
+    public RssiSmoother(Mode mode, double smoothingFactor, double pathLossExponent) {
+        this.mode = mode;
+        this.smoothingFactor = smoothingFactor;
+        this.pathLossExponent = pathLossExponent;
+        for (int slot = MAX_TRACKED_DEVICES - 1; slot >= 0; slot--) {
+            freeSlots.push(slot);
+        }
+    }
+
+    public synchronized void update(ScanResult scanResult) {
+        int rssi = scanResult.getRssi();
+        Integer txPowerLevel = scanResult.getAdvertisementData().getTxPowerLevel();
+        Integer slot = slots.get(scanResult.getDeviceId());
+        if (slot == null) {
+            if (freeSlots.isEmpty()) {
+                Iterator<Map.Entry<String, Integer>> eldest = slots.entrySet().iterator();
+                freeSlots.push(eldest.next().getValue());
+                eldest.remove();
+            }
+            slot = freeSlots.pop();
+            slots.put(scanResult.getDeviceId(), slot);
+            estimates[slot] = rssi;
+            errorCovariances[slot] = KALMAN_MEASUREMENT_NOISE;
+        } else if (mode == Mode.KALMAN) {
+            double priorCovariance = errorCovariances[slot] + KALMAN_PROCESS_NOISE;
+            double gain = priorCovariance / (priorCovariance + KALMAN_MEASUREMENT_NOISE);
+            estimates[slot] += gain * (rssi - estimates[slot]);
+            errorCovariances[slot] = (1 - gain) * priorCovariance;
+        } else {
+            estimates[slot] += smoothingFactor * (rssi - estimates[slot]);
+        }
+        measuredPowers[slot] = txPowerLevel != null
+                ? txPowerLevel - TX_POWER_TO_MEASURED_POWER
+                : DEFAULT_MEASURED_POWER;
+    }
+
+    public synchronized void appendTo(WritableMap result, String deviceId) {
+        Integer slot = slots.get(deviceId);
+        if (slot == null) {
+            result.putNull(Metadata.SMOOTHED_RSSI);
+            result.putNull(Metadata.DISTANCE);
+            return;
+        }
+        double estimate = estimates[slot];
+        result.putDouble(Metadata.SMOOTHED_RSSI, estimate);
+        // Log-distance path loss model
+        result.putDouble(Metadata.DISTANCE,
+                Math.pow(10, (measuredPowers[slot] - estimate) / (10 * pathLossExponent)));
+    }
+}
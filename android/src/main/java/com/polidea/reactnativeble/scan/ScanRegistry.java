@@ -0,0 +1,179 @@
+package com.polidea.reactnativeble.scan;
+
+import android.os.SystemClock;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.OnEventCallback;
+import com.polidea.multiplatformbleadapter.ScanResult;
+import com.polidea.reactnativeble.converter.ScanResultToJsObjectConverter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Bounded registry of devices seen during a scan. Keeps the latest advertisement of each device together with the
+ * time it was first and last seen. Devices which were not seen for longer than TTL, or which were least recently seen
+ * when registry is full, leave the registry. Times are measured with {@code SystemClock.elapsedRealtime()} and
+ * reported to JS as wall clock timestamps.
+ */
+public class ScanRegistry {
+
+    private interface Metadata {
+        String TYPE = "type";
+        String DEVICE = "device";
+        String FIRST_SEEN = "firstSeen";
+        String LAST_SEEN = "lastSeen";
+        String SIGHTINGS = "sightings";
+    }
+
+    private static final String TYPE_ENTER = "enter";
+    private static final String TYPE_LEAVE = "leave";
+
+    private static class Entry {
+        ScanResult scanResult;
+        final long firstSeen;
+        long lastSeen;
+        long sightings;
+
+        Entry(ScanResult scanResult, long now) {
+            this.scanResult = scanResult;
+            this.firstSeen = now;
+            this.lastSeen = now;
+        }
+    }
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final ScanResultToJsObjectConverter scanResultConverter;
+    @Nullable
+    private final RssiSmoother rssiSmoother;
+    @Nullable
+    private final OnEventCallback<WritableMap> onChange;
+    // Access ordered, so iteration starts with the least recently seen device
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    @Nullable
+    private ScheduledFuture<?> sweepTask;
+
+    public ScanRegistry(long ttlMillis,
+                        int maxSize,
+                        ScanResultToJsObjectConverter scanResultConverter,
+                        @Nullable RssiSmoother rssiSmoother,
+                        @Nullable OnEventCallback<WritableMap> onChange) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.scanResultConverter = scanResultConverter;
+        this.rssiSmoother = rssiSmoother;
+        this.onChange = onChange;
+    }
+
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        long sweepInterval = Math.max(ttlMillis / 2, 1);
+        sweepTask = scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                sweep(SystemClock.elapsedRealtime());
+            }
+        }, sweepInterval, sweepInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (sweepTask != null) {
+            sweepTask.cancel(false);
+            sweepTask = null;
+        }
+    }
+
+    public void update(ScanResult scanResult, long now) {
+        Entry entered = null;
+        Entry evicted = null;
+        synchronized (this) {
+            Entry entry = entries.get(scanResult.getDeviceId());
+            if (entry == null) {
+                if (entries.size() >= maxSize) {
+                    Iterator<Entry> iterator = entries.values().iterator();
+                    evicted = iterator.next();
+                    iterator.remove();
+                }
+                entry = new Entry(scanResult, now);
+                entries.put(scanResult.getDeviceId(), entry);
+                entered = entry;
+            }
+            entry.scanResult = scanResult;
+            entry.lastSeen = now;
+            entry.sightings++;
+        }
+        if (evicted != null) {
+            emit(TYPE_LEAVE, evicted, now);
+        }
+        if (entered != null) {
+            emit(TYPE_ENTER, entered, now);
+        }
+    }
+
+    public void sweep(long now) {
+        List<Entry> expired = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (now - entry.lastSeen < ttlMillis) {
+                    break;
+                }
+                iterator.remove();
+                expired.add(entry);
+            }
+        }
+        for (Entry entry : expired) {
+            emit(TYPE_LEAVE, entry, now);
+        }
+    }
+
+    public synchronized WritableArray snapshot(@Nullable AdvertisementFilter filter, long now) {
+        WritableArray result = Arguments.createArray();
+        // Iterating values does not change access order
+        for (Entry entry : entries.values()) {
+            if (now - entry.lastSeen >= ttlMillis) {
+                continue;
+            }
+            if (filter == null || filter.matches(entry.scanResult)) {
+                result.pushMap(toJSObject(entry, now));
+            }
+        }
+        return result;
+    }
+
+    private void emit(String type, Entry entry, long now) {
+        if (onChange == null) {
+            return;
+        }
+        WritableMap event;
+        synchronized (this) {
+            event = toJSObject(entry, now);
+        }
+        event.putString(Metadata.TYPE, type);
+        onChange.onEvent(event);
+    }
+
+    private WritableMap toJSObject(Entry entry, long now) {
+        long wallClockOffset = System.currentTimeMillis() - now;
+        WritableMap result = Arguments.createMap();
+        WritableMap device = scanResultConverter.toJSObject(entry.scanResult);
+        if (rssiSmoother != null) {
+            rssiSmoother.appendTo(device, entry.scanResult.getDeviceId());
+        }
+        result.putMap(Metadata.DEVICE, device);
+        result.putDouble(Metadata.FIRST_SEEN, entry.firstSeen + wallClockOffset);
+        result.putDouble(Metadata.LAST_SEEN, entry.lastSeen + wallClockOffset);
+        result.putDouble(Metadata.SIGHTINGS, entry.sightings);
+        return result;
+    }
+}
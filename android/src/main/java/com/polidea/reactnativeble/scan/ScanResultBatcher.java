@@ -0,0 +1,113 @@
+package com.polidea.reactnativeble.scan;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.OnEventCallback;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Collects converted scan results and hands them over as a single array once per batch interval
+ * or as soon as {@code maxBatchSize} results are pending, whichever comes first.
+ */
+public class ScanResultBatcher {
+
+    private final long batchIntervalMillis;
+    private final int maxBatchSize;
+    private final ScanStatistics statistics;
+    private final OnEventCallback<WritableArray> onBatch;
+
+    private WritableArray pendingBatch = Arguments.createArray();
+    private int pendingCount = 0;
+    @Nullable
+    private ScheduledFuture<?> flushTask;
+
+    public ScanResultBatcher(long batchIntervalMillis,
+                             int maxBatchSize,
+                             ScanStatistics statistics,
+                             OnEventCallback<WritableArray> onBatch) {
+        this.batchIntervalMillis = batchIntervalMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.statistics = statistics;
+        this.onBatch = onBatch;
+    }
+
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        flushTask = scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }, batchIntervalMillis, batchIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void add(WritableMap scanResult) {
+        WritableArray fullBatch;
+        synchronized (this) {
+            pendingBatch.pushMap(scanResult);
+            fullBatch = onAdded();
+        }
+        if (fullBatch != null) {
+            emit(fullBatch);
+        }
+    }
+
+    public void add(String packedScanResult) {
+        WritableArray fullBatch;
+        synchronized (this) {
+            pendingBatch.pushString(packedScanResult);
+            fullBatch = onAdded();
+        }
+        if (fullBatch != null) {
+            emit(fullBatch);
+        }
+    }
+
+    public void flush() {
+        WritableArray batch;
+        synchronized (this) {
+            if (pendingCount == 0) {
+                return;
+            }
+            batch = takePendingBatch();
+        }
+        emit(batch);
+    }
+
+    public void stop() {
+        synchronized (this) {
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+        }
+        flush();
+    }
+
+    @Nullable
+    private WritableArray onAdded() {
+        pendingCount++;
+        statistics.onResultBatched();
+        if (maxBatchSize > 0 && pendingCount >= maxBatchSize) {
+            return takePendingBatch();
+        }
+        return null;
+    }
+
+    private WritableArray takePendingBatch() {
+        WritableArray batch = pendingBatch;
+        pendingBatch = Arguments.createArray();
+        pendingCount = 0;
+        return batch;
+    }
+
+    private void emit(WritableArray batch) {
+        statistics.onBatchEmitted(batch.size());
+        onBatch.onEvent(batch);
+    }
+}
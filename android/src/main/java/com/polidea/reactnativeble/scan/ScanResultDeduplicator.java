@@ -0,0 +1,70 @@
+package com.polidea.reactnativeble.scan;
+
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Drops repeated advertisements of the same device. A result is forwarded only when its RSSI moved by at least
+ * {@code rssiChangeThreshold}, its manufacturer or service data changed, or {@code refreshIntervalMillis} passed
+ * since the device was last forwarded.
+ */
+public class ScanResultDeduplicator {
+
+    private static final int MAX_TRACKED_DEVICES = 1024;
+
+    private static class DeviceRecord {
+        int rssi;
+        int payloadHash;
+        long lastEmitTime;
+    }
+
+    private final int rssiChangeThreshold;
+    private final long refreshIntervalMillis;
+    private final Map<String, DeviceRecord> records =
+            new LinkedHashMap<String, DeviceRecord>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, DeviceRecord> eldest) {
+                    return size() > MAX_TRACKED_DEVICES;
+                }
+            };
+
+    public ScanResultDeduplicator(int rssiChangeThreshold, long refreshIntervalMillis) {
+        this.rssiChangeThreshold = rssiChangeThreshold;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    public synchronized boolean shouldEmit(ScanResult scanResult, long now) {
+        int payloadHash = payloadHash(scanResult.getAdvertisementData());
+        DeviceRecord record = records.get(scanResult.getDeviceId());
+        if (record == null) {
+            record = new DeviceRecord();
+            records.put(scanResult.getDeviceId(), record);
+        } else if (record.payloadHash == payloadHash
+                && Math.abs(record.rssi - scanResult.getRssi()) < rssiChangeThreshold
+                && (refreshIntervalMillis <= 0 || now - record.lastEmitTime < refreshIntervalMillis)) {
+            return false;
+        }
+        record.rssi = scanResult.getRssi();
+        record.payloadHash = payloadHash;
+        record.lastEmitTime = now;
+        return true;
+    }
+
+    private static int payloadHash(AdvertisementData advData) {
+        int hash = Arrays.hashCode(advData.getManufacturerData());
+        if (advData.getServiceData() != null) {
+            // Sum keeps the hash independent of map iteration order
+            int serviceDataHash = 0;
+            for (Map.Entry<UUID, byte[]> entry : advData.getServiceData().entrySet()) {
+                serviceDataHash += entry.getKey().hashCode() ^ Arrays.hashCode(entry.getValue());
+            }
+            hash = 31 * hash + serviceDataHash;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,78 @@
+package com.polidea.reactnativeble.scan;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ScanStatistics {
+
+    private interface Metadata {
+        String RECEIVED_RESULTS = "receivedResults";
+        String FILTERED_RESULTS = "filteredResults";
+        String DUPLICATE_RESULTS = "duplicateResults";
+        String EMITTED_RESULTS = "emittedResults";
+        String BATCHED_RESULTS = "batchedResults";
+        String EMITTED_BATCHES = "emittedBatches";
+        String REPORT_DELAY_MS = "reportDelayMs";
+    }
+
+    private final AtomicLong receivedResults = new AtomicLong();
+    private final AtomicLong filteredResults = new AtomicLong();
+    private final AtomicLong duplicateResults = new AtomicLong();
+    private final AtomicLong emittedResults = new AtomicLong();
+    private final AtomicLong batchedResults = new AtomicLong();
+    private final AtomicLong emittedBatches = new AtomicLong();
+    private final AtomicLong reportDelayMillis = new AtomicLong();
+
+    public void reset() {
+        receivedResults.set(0);
+        filteredResults.set(0);
+        duplicateResults.set(0);
+        emittedResults.set(0);
+        batchedResults.set(0);
+        emittedBatches.set(0);
+        reportDelayMillis.set(0);
+    }
+
+    public void setReportDelay(long millis) {
+        reportDelayMillis.set(millis);
+    }
+
+    public void onResultReceived() {
+        receivedResults.incrementAndGet();
+    }
+
+    public void onResultFiltered() {
+        filteredResults.incrementAndGet();
+    }
+
+    public void onResultDuplicated() {
+        duplicateResults.incrementAndGet();
+    }
+
+    public void onResultEmitted() {
+        emittedResults.incrementAndGet();
+    }
+
+    public void onResultBatched() {
+        batchedResults.incrementAndGet();
+    }
+
+    public void onBatchEmitted(int size) {
+        emittedBatches.incrementAndGet();
+        emittedResults.addAndGet(size);
+    }
+
+    public WritableMap toJSObject() {
+        WritableMap result = Arguments.createMap();
+        result.putDouble(Metadata.RECEIVED_RESULTS, receivedResults.get());
+        result.putDouble(Metadata.FILTERED_RESULTS, filteredResults.get());
+        result.putDouble(Metadata.DUPLICATE_RESULTS, duplicateResults.get());
+        result.putDouble(Metadata.EMITTED_RESULTS, emittedResults.get());
+        result.putDouble(Metadata.BATCHED_RESULTS, batchedResults.get());
+        result.putDouble(Metadata.EMITTED_BATCHES, emittedBatches.get());
+        result.putDouble(Metadata.REPORT_DELAY_MS, reportDelayMillis.get());
+        return result;
+    }
+}
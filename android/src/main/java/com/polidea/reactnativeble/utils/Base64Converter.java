@@ -1,12 +1,130 @@
 package com.polidea.reactnativeble.utils;
 
-import android.util.Base64;
-
+/**
+ * Table driven Base64 codec (RFC 4648, standard alphabet, padded output without line breaks) used for all values
+ * crossing the bridge. Encoding goes through a per thread reusable char buffer, so the resulting String is the only
+ * allocation. Decoding writes straight into the resulting array.
+ */
 public class Base64Converter {
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    private static final int INVALID = -1;
+    private static final int SKIP = -2;
+    private static final int PADDING = -3;
+    private static final int[] DECODE_TABLE = new int[128];
+
+    private static final int INITIAL_BUFFER_LENGTH = 256;
+
+    private static final ThreadLocal<char[]> ENCODE_BUFFER = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[INITIAL_BUFFER_LENGTH];
+        }
+    };
+
+    static {
+        for (int i = 0; i < DECODE_TABLE.length; i++) {
+            DECODE_TABLE[i] = INVALID;
+        }
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE_TABLE[ALPHABET[i]] = i;
+        }
+        DECODE_TABLE['='] = PADDING;
+        DECODE_TABLE[' '] = SKIP;
+        DECODE_TABLE['\t'] = SKIP;
+        DECODE_TABLE['\r'] = SKIP;
+        DECODE_TABLE['\n'] = SKIP;
+    }
+
     public static String encode(byte[] bytes) {
-        return Base64.encodeToString(bytes, Base64.NO_WRAP);
+        return encode(bytes, 0, bytes.length);
     }
+
+    public static String encode(byte[] bytes, int offset, int length) {
+        int encodedLength = (length + 2) / 3 * 4;
+        char[] chars = ENCODE_BUFFER.get();
+        if (chars.length < encodedLength) {
+            chars = new char[Math.max(encodedLength, chars.length * 2)];
+            ENCODE_BUFFER.set(chars);
+        }
+
+        int position = 0;
+        int end = offset + length;
+        int wholeEnd = offset + length / 3 * 3;
+        int i = offset;
+        while (i < wholeEnd) {
+            int bits = (bytes[i++] & 0xFF) << 16 | (bytes[i++] & 0xFF) << 8 | (bytes[i++] & 0xFF);
+            chars[position++] = ALPHABET[bits >>> 18];
+            chars[position++] = ALPHABET[(bits >>> 12) & 0x3F];
+            chars[position++] = ALPHABET[(bits >>> 6) & 0x3F];
+            chars[position++] = ALPHABET[bits & 0x3F];
+        }
+        int remaining = end - wholeEnd;
+        if (remaining > 0) {
+            int bits = (bytes[i] & 0xFF) << 16 | (remaining == 2 ? (bytes[i + 1] & 0xFF) << 8 : 0);
+            chars[position++] = ALPHABET[bits >>> 18];
+            chars[position++] = ALPHABET[(bits >>> 12) & 0x3F];
+            chars[position++] = remaining == 2 ? ALPHABET[(bits >>> 6) & 0x3F] : '=';
+            chars[position++] = '=';
+        }
+        return new String(chars, 0, position);
+    }
+
+    /**
+     * @throws IllegalArgumentException when value is not valid Base64
+     */
     public static byte[] decode(String base64) {
-        return Base64.decode(base64, Base64.NO_WRAP);
+        int length = base64.length();
+        int symbols = 0;
+        int padding = 0;
+        for (int i = 0; i < length; i++) {
+            int value = lookup(base64.charAt(i));
+            if (value >= 0) {
+                if (padding > 0) {
+                    throw new IllegalArgumentException("bad base-64");
+                }
+                symbols++;
+            } else if (value == PADDING) {
+                padding++;
+            } else if (value == INVALID) {
+                throw new IllegalArgumentException("bad base-64");
+            }
+        }
+        if (symbols % 4 == 1 || padding > 2) {
+            throw new IllegalArgumentException("bad base-64");
+        }
+
+        byte[] result = new byte[symbols / 4 * 3 + Math.max(0, symbols % 4 - 1)];
+        int position = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = 0; i < length && count < symbols; i++) {
+            int value = lookup(base64.charAt(i));
+            if (value < 0) {
+                continue;
+            }
+            bits = bits << 6 | value;
+            count++;
+            if ((count & 3) == 0) {
+                result[position++] = (byte) (bits >>> 16);
+                result[position++] = (byte) (bits >>> 8);
+                result[position++] = (byte) bits;
+                bits = 0;
+            }
+        }
+        int tail = count & 3;
+        if (tail == 2) {
+            result[position] = (byte) (bits >>> 4);
+        } else if (tail == 3) {
+            result[position++] = (byte) (bits >>> 10);
+            result[position] = (byte) (bits >>> 2);
+        }
+        return result;
+    }
+
+    private static int lookup(char c) {
+        return c < DECODE_TABLE.length ? DECODE_TABLE[c] : INVALID;
     }
 }
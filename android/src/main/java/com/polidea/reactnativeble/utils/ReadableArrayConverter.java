@@ -10,4 +10,12 @@ public class ReadableArrayConverter {
         }
         return stringArray;
     }
+
+    public static String[] toUUIDStringArray(ReadableArray readableArray) {
+        String[] stringArray = new String[readableArray.size()];
+        for (int i = 0; i < readableArray.size(); ++i) {
+            stringArray[i] = UUIDConverter.canonicalize(readableArray.getString(i));
+        }
+        return stringArray;
+    }
 }
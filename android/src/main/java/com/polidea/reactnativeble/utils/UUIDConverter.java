@@ -3,47 +3,56 @@ package com.polidea.reactnativeble.utils;
 import com.facebook.react.bridge.ReadableArray;
 
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Converts UUIDs between JS strings and {@link UUID}. Results are kept in bounded concurrent caches, so UUIDs which
+ * repeat in every event (services, characteristics, advertised UUIDs) are formatted and parsed only once.
+ */
 public class UUIDConverter {
 
     private static String baseUUIDPrefix = "0000";
     private static String baseUUIDSuffix = "-0000-1000-8000-00805F9B34FB";
 
+    // Caches are cleared when full, typical applications use far fewer distinct UUIDs
+    private static final int MAX_CACHE_SIZE = 512;
+    private static final ConcurrentHashMap<UUID, String> canonicalStrings = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, UUID> parsedUUIDs = new ConcurrentHashMap<>();
+
     public static UUID convert(String sUUID) {
         if (sUUID == null) return null;
 
+        UUID cached = parsedUUIDs.get(sUUID);
+        if (cached != null) {
+            return cached;
+        }
+
+        String fullUUID = sUUID;
         if (sUUID.length() == 4) {
-            sUUID = baseUUIDPrefix + sUUID + baseUUIDSuffix;
+            fullUUID = baseUUIDPrefix + sUUID + baseUUIDSuffix;
         }
         else if (sUUID.length() == 8) {
-            sUUID = sUUID + baseUUIDSuffix;
+            fullUUID = sUUID + baseUUIDSuffix;
         }
 
+        UUID uuid;
         try {
-            return UUID.fromString(sUUID);
+            uuid = UUID.fromString(fullUUID);
         } catch (Throwable e) {
             return null;
         }
+        if (parsedUUIDs.size() >= MAX_CACHE_SIZE) {
+            parsedUUIDs.clear();
+        }
+        parsedUUIDs.put(sUUID, uuid);
+        return uuid;
     }
 
     public static UUID[] convert(String... sUUIDs) {
         UUID[] UUIDs = new UUID[sUUIDs.length];
         for (int i = 0; i < sUUIDs.length; i++) {
-
-            if (sUUIDs[i] == null) return null;
-
-            if (sUUIDs[i].length() == 4) {
-                sUUIDs[i] = baseUUIDPrefix + sUUIDs[i] + baseUUIDSuffix;
-            }
-            else if (sUUIDs[i].length() == 8) {
-                sUUIDs[i] = sUUIDs[i] + baseUUIDSuffix;
-            }
-
-            try {
-                UUIDs[i] = UUID.fromString(sUUIDs[i]);
-            } catch (Throwable e) {
-                return null;
-            }
+            UUIDs[i] = convert(sUUIDs[i]);
+            if (UUIDs[i] == null) return null;
         }
         return UUIDs;
     }
@@ -52,21 +61,34 @@ public class UUIDConverter {
         UUID[] UUIDs = new UUID[aUUIDs.size()];
         for (int i = 0; i < aUUIDs.size(); i++) {
             try {
-                String sUUID = aUUIDs.getString(i);
-                if (sUUID.length() == 4) {
-                    sUUID = baseUUIDPrefix + sUUID + baseUUIDSuffix;
-                } else if (sUUID.length() == 8) {
-                    sUUID = sUUID + baseUUIDSuffix;
-                }
-                UUIDs[i] = UUID.fromString(sUUID);
+                UUIDs[i] = convert(aUUIDs.getString(i));
             } catch (Throwable e) {
                 return null;
             }
+            if (UUIDs[i] == null) return null;
         }
         return UUIDs;
     }
 
     public static String fromUUID(UUID uuid) {
-        return uuid.toString().toLowerCase();
+        String cached = canonicalStrings.get(uuid);
+        if (cached != null) {
+            return cached;
+        }
+        String canonical = uuid.toString().toLowerCase();
+        if (canonicalStrings.size() >= MAX_CACHE_SIZE) {
+            canonicalStrings.clear();
+        }
+        canonicalStrings.put(uuid, canonical);
+        return canonical;
+    }
+
+    /**
+     * Returns canonical lowercase 128-bit form of a UUID string, expanding 16 and 32-bit short forms, or the string
+     * itself when it is not a valid UUID.
+     */
+    public static String canonicalize(String sUUID) {
+        UUID uuid = convert(sUUID);
+        return uuid != null ? fromUUID(uuid) : sUUID;
     }
 }
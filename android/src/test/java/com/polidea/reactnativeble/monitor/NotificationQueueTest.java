@@ -0,0 +1,86 @@
+package com.polidea.reactnativeble.monitor;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.ReadableArray;
+import com.polidea.reactnativeble.monitor.NotificationQueue.OverflowPolicy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class NotificationQueueTest {
+
+    private final List<ReadableArray> emitted = new ArrayList<>();
+
+    private final NotificationQueue.Listener listener = new NotificationQueue.Listener() {
+        @Override
+        public void onEmit(ReadableArray event, boolean batch) {
+            emitted.add(event);
+        }
+    };
+
+    @Test
+    public void dropOldestKeepsRetainedBatchWithoutCredits() {
+        NotificationQueue queue = createQueue(2, OverflowPolicy.DROP_OLDEST, 0);
+        ReadableArray first = JavaOnlyArray.of("first");
+        queue.offer(first, true, true);
+        ReadableArray last = null;
+        for (int i = 0; i < 5; i++) {
+            last = JavaOnlyArray.of("batch " + i);
+            queue.offer(last, true);
+        }
+        assertEquals(0, emitted.size());
+
+        queue.grantCredits(10);
+        assertEquals(2, emitted.size());
+        assertSame(first, emitted.get(0));
+        assertSame(last, emitted.get(1));
+    }
+
+    @Test
+    public void retainedBatchIsQueuedWhenQueueIsFull() {
+        NotificationQueue queue = createQueue(1, OverflowPolicy.DROP_NEWEST, 0);
+        ReadableArray queued = JavaOnlyArray.of("queued");
+        ReadableArray retained = JavaOnlyArray.of("retained");
+        queue.offer(queued, true);
+        queue.offer(retained, true, true);
+        queue.offer(JavaOnlyArray.of("dropped"), true);
+
+        queue.grantCredits(10);
+        assertEquals(2, emitted.size());
+        assertSame(queued, emitted.get(0));
+        assertSame(retained, emitted.get(1));
+    }
+
+    @Test
+    public void keepLatestKeepsRetainedBatch() {
+        NotificationQueue queue = createQueue(2, OverflowPolicy.KEEP_LATEST, 0);
+        ReadableArray retained = JavaOnlyArray.of("retained");
+        queue.offer(retained, true, true);
+        queue.offer(JavaOnlyArray.of("dropped"), true);
+        ReadableArray latest = JavaOnlyArray.of("latest");
+        queue.offer(latest, true);
+
+        queue.grantCredits(10);
+        assertEquals(2, emitted.size());
+        assertSame(retained, emitted.get(0));
+        assertSame(latest, emitted.get(1));
+    }
+
+    @Test
+    public void emitsRightAwayWithCredits() {
+        NotificationQueue queue = createQueue(2, OverflowPolicy.DROP_OLDEST, 1);
+        ReadableArray event = JavaOnlyArray.of("event");
+        queue.offer(event, false);
+        assertEquals(1, emitted.size());
+        assertSame(event, emitted.get(0));
+    }
+
+    private NotificationQueue createQueue(int capacity, OverflowPolicy overflowPolicy, int credits) {
+        return new NotificationQueue(capacity, overflowPolicy, 0, credits, listener);
+    }
+}
@@ -0,0 +1,87 @@
+package com.polidea.reactnativeble.utils;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares throughput and allocation of {@link Base64Converter} with {@code java.util.Base64} for payload sizes
+ * typical for characteristic values. {@code android.util.Base64} is not available on the JVM. Skipped unless run with
+ * {@code -Dbenchmark=true}, results are printed to standard output.
+ */
+public class Base64ConverterBenchmark {
+
+    private static final int[] PAYLOAD_SIZES = {20, 244, 512, 4096};
+    private static final int WARMUP_ITERATIONS = 200000;
+    private static final int MEASURED_ITERATIONS = 1000000;
+
+    private interface Codec {
+        int run(byte[] bytes, String base64);
+    }
+
+    @Test
+    public void compareWithJavaUtilBase64() {
+        assumeTrue(Boolean.getBoolean("benchmark"));
+        final Base64.Encoder encoder = Base64.getEncoder();
+        final Base64.Decoder decoder = Base64.getDecoder();
+        for (int size : PAYLOAD_SIZES) {
+            byte[] bytes = new byte[size];
+            new Random(size).nextBytes(bytes);
+            String base64 = encoder.encodeToString(bytes);
+            measure("Base64Converter.encode", size, bytes, base64, new Codec() {
+                @Override
+                public int run(byte[] bytes, String base64) {
+                    return Base64Converter.encode(bytes).length();
+                }
+            });
+            measure("java.util.Base64 encode", size, bytes, base64, new Codec() {
+                @Override
+                public int run(byte[] bytes, String base64) {
+                    return encoder.encodeToString(bytes).length();
+                }
+            });
+            measure("Base64Converter.decode", size, bytes, base64, new Codec() {
+                @Override
+                public int run(byte[] bytes, String base64) {
+                    return Base64Converter.decode(base64).length;
+                }
+            });
+            measure("java.util.Base64 decode", size, bytes, base64, new Codec() {
+                @Override
+                public int run(byte[] bytes, String base64) {
+                    return decoder.decode(base64).length;
+                }
+            });
+        }
+    }
+
+    private static void measure(String name, int size, byte[] bytes, String base64, Codec codec) {
+        int iterations = Math.max(1000, MEASURED_ITERATIONS / Math.max(1, size / 64));
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS / Math.max(1, size / 64); i++) {
+            sink += codec.run(bytes, base64);
+        }
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += codec.run(bytes, base64);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        System.out.println(String.format("%-24s %5d B: %10.1f MB/s, %8.1f B allocated per call (%d)",
+                name, size, (double) size * iterations / elapsed * 1000, (double) allocated / iterations, sink));
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.polidea.reactnativeble.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class Base64ConverterTest {
+
+    @Test
+    public void encodesLikeJavaUtilBase64() {
+        Random random = new Random(42);
+        for (int length = 0; length <= 600; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            assertEquals("length " + length,
+                    Base64.getEncoder().encodeToString(bytes), Base64Converter.encode(bytes));
+        }
+    }
+
+    @Test
+    public void decodesLikeJavaUtilBase64() {
+        Random random = new Random(7);
+        for (int length = 0; length <= 600; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String encoded = Base64.getEncoder().encodeToString(bytes);
+            assertArrayEquals("length " + length, Base64.getDecoder().decode(encoded), Base64Converter.decode(encoded));
+        }
+    }
+
+    @Test
+    public void encodesRange() {
+        byte[] bytes = {0, 1, 2, 3, 4, 5, 6, 7};
+        assertEquals(Base64.getEncoder().encodeToString(Arrays.copyOfRange(bytes, 2, 7)),
+                Base64Converter.encode(bytes, 2, 5));
+    }
+
+    @Test
+    public void encodesLargerValuesThanInitialBuffer() {
+        byte[] bytes = new byte[4096];
+        new Random(1).nextBytes(bytes);
+        assertEquals(Base64.getEncoder().encodeToString(bytes), Base64Converter.encode(bytes));
+        // Short value after a long one must not pick up characters left in the reused buffer
+        assertEquals("AQI=", Base64Converter.encode(new byte[]{1, 2}));
+    }
+
+    @Test
+    public void decodesUnpaddedInputAndSkipsWhitespace() {
+        assertArrayEquals(new byte[]{1, 2}, Base64Converter.decode("AQI"));
+        assertArrayEquals(new byte[]{1}, Base64Converter.decode("AQ"));
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, Base64Converter.decode("AQID\r\nBA =="));
+    }
+
+    @Test
+    public void rejectsInvalidInput() {
+        String[] invalid = {"A", "AQ=I", "AQ===", "AQ-_", "AQ\u00e9="};
+        for (String value : invalid) {
+            try {
+                Base64Converter.decode(value);
+                fail("Decoded invalid value " + value);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+}
@@ -28,6 +28,10 @@ declare module '@consider-it/react-native-ble-plx' {
    * Transaction identifier. All transaction identifiers in numeric form are reserved for internal use.
    */
   export type TransactionId = string
+  /**
+   * Handle of a characteristic returned by {@link #blemanagerpreparecharacteristic|prepareCharacteristic()}.
+   */
+  export type CharacteristicHandle = number
 
   /**
    * Subscription
@@ -165,108 +169,1171 @@ declare module '@consider-it/react-native-ble-plx' {
      * Scan callback type for Bluetooth LE scan [Android only]
      */
     callbackType?: ScanCallbackType
+    /**
+     * When set, scanned devices are collected natively and delivered in a single event every `batchIntervalMs`
+     * milliseconds instead of one event per advertisement. Listener is still called once per device. [Android only]
+     */
+    batchIntervalMs?: number
+    /**
+     * Maximum number of devices in one batch. A batch is delivered earlier when this limit is reached. Used only
+     * together with `batchIntervalMs`. [Android only]
+     */
+    maxBatchSize?: number
+    /**
+     * When true, repeated advertisements of the same device are dropped natively unless RSSI changed by at least
+     * `rssiChangeThreshold`, manufacturer or service data changed, or `refreshIntervalMs` passed since the device was
+     * last reported. Useful with {@link ScanCallbackType.AllMatches}. [Android only]
+     */
+    deduplicate?: boolean
+    /**
+     * Minimal RSSI change (in dBm) which makes a repeated advertisement to be reported. Defaults to 5. [Android only]
+     */
+    rssiChangeThreshold?: number
+    /**
+     * Number of milliseconds after which a device is reported again even if nothing changed. Defaults to 1000.
+     * Value of 0 disables periodic reporting. [Android only]
+     */
+    refreshIntervalMs?: number
+
+    /**
+     * Delay of scan results reports in milliseconds. When greater than 0 and supported by the Bluetooth controller,
+     * results are queued in the controller and each controller batch is delivered to the listener at once, which
+     * reduces application wakeups. Whether the delay was applied is reported by
+     * {@link #blemanagerscanstatistics|scanStatistics()}. Scan is performed by platform scanner directly.
+     * [Android only]
+     */
+    reportDelayMs?: number
+
+    /**
+     * List of advertisement filters evaluated natively before scanned devices are passed to JS. Device is reported when
+     * it matches any of the filters. Invalid filter fails the scan with {@link BleErrorCode.ScanStartFailed}.
+     * [Android only]
+     */
+    advertisementFilters?: AdvertisementFilter[]
+
+    /**
+     * List of filters offloaded to the Bluetooth controller, so that non matching advertisements do not wake up the
+     * application. Device is reported when it matches any of the filters and, if service UUIDs are passed to
+     * {@link BleManager#startDeviceScan}, advertises one of them. Scan fails with
+     * {@link BleErrorCode.ScanStartFailed} when no filter can match the UUIDs. When specified, scan is performed by
+     * platform scanner directly.
+     * [Android only]
+     */
+    hardwareFilters?: HardwareScanFilter[]
+
+    /**
+     * When greater than 0, scanned devices are kept in native registry until they are not seen for `registryTtlMs`
+     * milliseconds. Registry can be queried with {@link BleManager#scannedDevices}. [Android only]
+     */
+    registryTtlMs?: number
+
+    /**
+     * Maximal number of devices kept in scan registry. Least recently seen device leaves the registry when it is full.
+     * Defaults to 256. [Android only]
+     */
+    registryMaxSize?: number
+
+    /**
+     * If true, devices entering and leaving scan registry are reported to
+     * {@link BleManager#onScannedDevicesChange} listeners. Defaults to false. [Android only]
+     */
+    registryEvents?: boolean
+
+    /**
+     * If false, scanned devices are not passed to scan listener and only feed scan registry. Defaults to true.
+     * [Android only]
+     */
+    emitScanResults?: boolean
+
+    /**
+     * Enables native per device RSSI filter: 'ema' for exponential moving average or 'kalman' for one dimensional
+     * Kalman filter. Scanned devices get `smoothedRssi` and estimated `distance`, which uses advertised TX power
+     * when available. [Android only]
+     */
+    rssiSmoothing?: 'ema' | 'kalman'
+
+    /**
+     * Weight of new sample in 'ema' RSSI smoothing, between 0 and 1. Defaults to 0.3. [Android only]
+     */
+    rssiSmoothingFactor?: number
+
+    /**
+     * Path loss exponent used for distance estimation. 2 is free space, 2.7 to 4 are typical indoors.
+     * Defaults to 2. [Android only]
+     */
+    pathLossExponent?: number
+
+    /**
+     * If true, scanned devices are passed from native module as packed binary strings, which are much cheaper to
+     * serialize than objects. Fields of scanned {@link Device} are decoded when they are accessed for the first time.
+     * `smoothedRssi` and `distance` are not available in this mode. [Android only]
+     */
+    packedScanResults?: boolean
   }
 
   /**
-   * Connection specific options to be passed before connection happen. [Not used]
+   * Scan filter evaluated by the Bluetooth controller. All specified conditions have to be met for advertisement to
+   * match. Masks have to be of the same length as data, bits set to 1 in a mask have to match. [Android only]
+   * @name HardwareScanFilter
    */
-  export interface ConnectionOptions {
+  export interface HardwareScanFilter {
     /**
-     * Whether to directly connect to the remote device (false) or to automatically connect as soon as the remote device
-     * becomes available (true). [Android only]
-     * @memberof ConnectionOptions
-     * @instance
+     * Device identifier (MAC address).
      */
-    autoConnect?: boolean
+    deviceId?: DeviceId
+    /**
+     * Service UUID which has to be advertised.
+     */
+    serviceUUID?: UUID
+    /**
+     * Bluetooth SIG company identifier of manufacturer data.
+     */
+    manufacturerId?: number
+    /**
+     * Base64 value of manufacturer data following company identifier. Requires `manufacturerId`.
+     */
+    manufacturerData?: Base64
+    /**
+     * Base64 mask of `manufacturerData`.
+     */
+    manufacturerDataMask?: Base64
+    /**
+     * Service UUID of service data.
+     */
+    serviceDataUUID?: UUID
+    /**
+     * Base64 value of service data. Requires `serviceDataUUID`.
+     */
+    serviceData?: Base64
+    /**
+     * Base64 mask of `serviceData`.
+     */
+    serviceDataMask?: Base64
+  }
 
+  /**
+   * Advertisement filter spec. All specified conditions have to be met for advertisement to match. [Android only]
+   * @name AdvertisementFilter
+   */
+  export interface AdvertisementFilter {
     /**
-     * Whether MTU size will be negotiated to this value. It is not guaranteed to get it after connection is successful.
-     *
-     * @memberof ConnectionOptions
-     * @instance
+     * Bluetooth SIG company identifier stored in first two bytes of manufacturer data.
      */
-    requestMTU?: number
+    manufacturerId?: number
+    /**
+     * Base64 value which manufacturer data has to start with, compared after company identifier.
+     */
+    manufacturerDataPrefix?: Base64
+    /**
+     * Service UUID which has to be advertised.
+     */
+    serviceUUID?: UUID
+    /**
+     * Service UUID for which service data has to be advertised.
+     */
+    serviceDataUUID?: UUID
+    /**
+     * Base64 value which service data of `serviceDataUUID` has to start with.
+     */
+    serviceDataPrefix?: Base64
+    /**
+     * Minimal RSSI of advertisement.
+     */
+    minRssi?: number
+    /**
+     * Prefix of advertised local name (or device name when local name is not advertised).
+     */
+    localNamePrefix?: string
+  }
 
+  /**
+   * Device held by scan registry. [Android only]
+   * @name ScannedDevice
+   */
+  export interface ScannedDevice {
     /**
-     * Whether action will be taken to reset services cache. This option may be useful when a peripheral's firmware was
-     * updated and it's services/characteristics were added/removed/altered. [Android only]
-     * {@link https://stackoverflow.com/questions/22596951/how-to-programmatically-force-bluetooth-low-energy-service-discovery-on-android}
-     * @memberof ConnectionOptions
-     * @instance
+     * Device with its latest advertisement.
      */
-    refreshGatt?: RefreshGattMoment
+    device: Device
+    /**
+     * Timestamp in milliseconds when the device was seen for the first time.
+     */
+    firstSeen: number
+    /**
+     * Timestamp in milliseconds when the device was seen for the last time.
+     */
+    lastSeen: number
+    /**
+     * Number of advertisements received from the device.
+     */
+    sightings: number
+  }
 
+  /**
+   * Device which entered or left scan registry. [Android only]
+   * @name ScanRegistryChange
+   */
+  export interface ScanRegistryChange extends ScannedDevice {
     /**
-     * Number of milliseconds after connection is automatically timed out. In case of race condition were connection is
-     * established right after timeout event, device will be disconnected immediately. Time out may happen earlier then
-     * specified due to OS specific behavior.
-     *
-     * @memberof ConnectionOptions
-     * @instance
+     * Either 'enter' or 'leave'.
      */
-    timeout?: number
+    type: 'enter' | 'leave'
   }
 
   /**
-   * Device Bluetooth Low Energy state. It's keys are used to check {@link #blemanagerstate} values
-   * received by {@link BleManager}
+   * Counters describing work done by native module during the current (or last) device scan. [Android only]
+   * @name ScanStatistics
    */
-  export enum State {
+  export interface ScanStatistics {
+    /**
+     * Number of advertisements received from the platform scanner.
+     */
+    receivedResults: number
+    /**
+     * Number of advertisements rejected by `advertisementFilters` option.
+     */
+    filteredResults: number
+    /**
+     * Number of advertisements dropped as duplicates when `deduplicate` option is used.
+     */
+    duplicateResults: number
+    /**
+     * Number of scanned devices sent to JS, one by one or in batches.
+     */
+    emittedResults: number
+    /**
+     * Number of scanned devices collected into batches.
+     */
+    batchedResults: number
+    /**
+     * Number of batches sent to JS.
+     */
+    emittedBatches: number
+    /**
+     * Report delay in milliseconds applied by the Bluetooth controller. It is 0 when `reportDelayMs` wasn't requested
+     * or when the controller doesn't support offloaded batching, in which case results are reported one by one.
+     */
+    reportDelayMs: number
+  }
+
+  /**
+   * Options of native processing of characteristic notifications. [Android only]
+   * @name MonitorOptions
+   */
+  export interface MonitorOptions {
+    /**
+     * Reassemble messages split into several notifications before they are passed to the listener. Listener receives
+     * only complete messages as characteristic value. Broken fragment sequences are reported to the listener as
+     * {@link BleErrorCode.CharacteristicInvalidDataFormat} errors without ending the monitoring.
+     */
+    framing?: FramingOptions
+    /**
+     * Keep only the latest notification and pass it to the listener once per given number of milliseconds. Use it when
+     * device notifies faster than application needs its values, conversion cost then depends on the sampling rate
+     * only. Monitoring without new notifications emits nothing.
+     */
+    sampleIntervalMs?: number
+    /**
+     * Aggregate numeric fields of notifications natively and pass only one summary per time window to the listener.
+     * Summary arrives as `aggregate` property of {@link Characteristic} whose `value` is `null`. Takes precedence over
+     * `batch` option. Invalid layout fails monitoring with {@link BleErrorCode.CharacteristicNotifyChangeFailed}.
+     */
+    aggregate?: AggregateOptions
+    /**
+     * Deliver notifications to JS in batches instead of one event per notification. Listener is still called for
+     * every value, each {@link Characteristic} carries `timestamp` of its arrival in native code.
+     */
+    batch?: NotificationBatchOptions
+    /**
+     * Keep notifications in bounded native queue and send them only when JS is ready to handle them. By default
+     * credits are granted back automatically after the listener returns.
+     */
+    flowControl?: FlowControlOptions
+  }
+
+  /**
+   * Header of fragments of a message. Every fragment carries a countdown byte with number of fragments still to come,
+   * so the last fragment has countdown 0. [Android only]
+   * @name FramingOptions
+   */
+  export interface FramingOptions {
+    /**
+     * Length of fragment header which is stripped from payload. Defaults to 2.
+     */
+    headerLength?: number
+    /**
+     * Offset of countdown byte in fragment header. Defaults to 0.
+     */
+    countdownOffset?: number
+    /**
+     * Maximal length of reassembled message in bytes. Longer messages are dropped and reported as errors.
+     * Unlimited by default.
+     */
+    maxMessageLength?: number
+  }
+
+  /**
+   * Windowed aggregation of numeric fields of characteristic value. [Android only]
+   * @name AggregateOptions
+   */
+  export interface AggregateOptions {
+    /**
+     * Length of aggregation window in milliseconds. Defaults to 1000.
+     */
+    windowMs?: number
+    /**
+     * Layout of aggregated fields in characteristic value. Notifications too short for the layout are skipped.
+     */
+    fields: ValueField[]
+  }
+
+  /**
+   * Numeric field of characteristic value. Field value is the raw integer multiplied by `scale`.
+   * @name ValueField
+   */
+  export interface ValueField {
+    /**
+     * Offset of the field in bytes. Defaults to 0.
+     */
+    offset?: number
+    /**
+     * Width of the field in bytes, from 1 to 8.
+     */
+    width: number
+    /**
+     * Whether the field is two's complement signed integer. Defaults to false.
+     */
+    signed?: boolean
+    /**
+     * Whether the field is little endian. Defaults to true, as in most of Bluetooth SIG characteristics.
+     */
+    littleEndian?: boolean
+    /**
+     * Multiplier applied to the raw integer. Defaults to 1.
+     */
+    scale?: number
+  }
+
+  /**
+   * Summary of aggregated notifications from a single time window.
+   * @name CharacteristicAggregate
+   */
+  export interface CharacteristicAggregate {
+    /**
+     * Start of the window in milliseconds since epoch.
+     */
+    windowStart: number
+    /**
+     * End of the window in milliseconds since epoch.
+     */
+    windowEnd: number
+    /**
+     * Number of aggregated notifications.
+     */
+    count: number
+    /**
+     * Number of notifications skipped because they were too short for the layout.
+     */
+    skipped: number
+    /**
+     * Summaries of fields in the order of {@link AggregateOptions} fields.
+     */
+    fields: AggregatedField[]
+  }
+
+  /**
+   * Summary of a single field. All values are `null` when no notification was aggregated in the window.
+   * @name AggregatedField
+   */
+  export interface AggregatedField {
+    /**
+     * Minimal value in the window.
+     */
+    min: number | null
+    /**
+     * Maximal value in the window.
+     */
+    max: number | null
+    /**
+     * Arithmetic mean of values in the window.
+     */
+    mean: number | null
+    /**
+     * Last value in the window.
+     */
+    last: number | null
+  }
+
+  /**
+   * Batching of characteristic notifications. Batch is sent when time window passes or when it reaches maximal size,
+   * whichever comes first. [Android only]
+   * @name NotificationBatchOptions
+   */
+  export interface NotificationBatchOptions {
+    /**
+     * Time window in milliseconds after which collected notifications are sent.
+     */
+    intervalMs?: number
+    /**
+     * Number of notifications after which batch is sent before its time window passes.
+     */
+    maxSize?: number
+  }
+
+  /**
+   * Flow control of monitored notifications. Native module emits one event per credit, events without credit wait in
+   * native queue of bounded size. [Android only]
+   * @name FlowControlOptions
+   */
+  export interface FlowControlOptions {
+    /**
+     * Maximal number of events waiting in native queue. Defaults to 64.
+     */
+    queueSize?: number
+    /**
+     * What happens when queue is full. Defaults to {@link OverflowPolicy.DropOldest}. With `batch` option, the first
+     * batch carries characteristic metadata for the following ones and is never dropped.
+     */
+    overflow?: OverflowPolicy
+    /**
+     * How long notification thread waits for free space with {@link OverflowPolicy.BlockWithTimeout} policy
+     * before notification is dropped. Defaults to 100 ms.
+     */
+    blockTimeoutMs?: number
+    /**
+     * Number of events native module can send before it waits for more credits. Defaults to 16.
+     */
+    credits?: number
+    /**
+     * When set, credits are not granted back automatically and application has to call
+     * {@link #blemanagergrantmonitorcredits|grantMonitorCredits()} itself.
+     */
+    manualCredits?: boolean
+  }
+
+  /**
+   * Counters of monitoring with flow control.
+   * @name MonitorStatistics
+   */
+  export interface MonitorStatistics {
+    /**
+     * Number of events waiting in native queue.
+     */
+    queued: number
+    /**
+     * Number of notifications dropped because queue was full or monitoring ended.
+     */
+    dropped: number
+    /**
+     * Number of events sent to JS.
+     */
+    emitted: number
+    /**
+     * Number of events native module can still send without new credits.
+     */
+    credits: number
+  }
+
+  /**
+   * Single operation executed by {@link #blemanagerexecuteoperations|executeOperations()}.
+   * @name GattOperation
+   */
+  export interface GattOperation {
+    /**
+     * Kind of the operation.
+     */
+    type: GattOperationType
+    /**
+     * {@link Service} UUID.
+     */
+    serviceUUID: UUID
+    /**
+     * {@link Characteristic} UUID.
+     */
+    characteristicUUID: UUID
+    /**
+     * {@link Descriptor} UUID, required by descriptor operations.
+     */
+    descriptorUUID?: UUID
+    /**
+     * Value to be written in Base64 format, required by write operations.
+     */
+    value?: Base64
+    /**
+     * Whether characteristic write waits for response. Defaults to true.
+     */
+    withResponse?: boolean
+  }
+
+  /**
+   * Options of {@link #blemanagerexecuteoperations|executeOperations()}.
+   * @name ExecuteOperationsOptions
+   */
+  export interface ExecuteOperationsOptions {
+    /**
+     * Stop at the first failed operation. Results of operations after it are not included. Defaults to false.
+     */
+    stopOnError?: boolean
+  }
+
+  /**
+   * Result of a single operation executed by {@link #blemanagerexecuteoperations|executeOperations()}.
+   * @name GattOperationResult
+   */
+  export interface GattOperationResult {
+    /**
+     * Reason of failure or `null` if operation succeeded.
+     */
+    error: BleError | null
+    /**
+     * Characteristic read or written by the operation.
+     */
+    characteristic: Characteristic | null
+    /**
+     * Descriptor read or written by the operation.
+     */
+    descriptor: Descriptor | null
+  }
+
+  /**
+   * Options of {@link #blemanagerwritecharacteristicstreamfordevice|writeCharacteristicStreamForDevice()}.
+   * @name StreamWriteOptions
+   */
+  export interface StreamWriteOptions {
+    /**
+     * Offset in bytes from which the value is written. Pass `acknowledgedOffset` of the last {@link WriteProgress} to
+     * resume interrupted transfer. Defaults to 0.
+     */
+    offset?: number
+    /**
+     * Size of a single chunk in bytes. Defaults to negotiated MTU minus 3 bytes of ATT header.
+     */
+    chunkSize?: number
+    /**
+     * Maximum number of chunks written without response which wait for completion at once. Defaults to 4.
+     */
+    window?: number
+    /**
+     * Every n-th chunk is written with response and marks acknowledged offset. The last chunk is always written with
+     * response. 0 disables checkpoints. Defaults to 16.
+     */
+    checkpointInterval?: number
+    /**
+     * Minimal interval in milliseconds between progress events. Defaults to 100.
+     */
+    progressIntervalMs?: number
+  }
+
+  /**
+   * Progress of {@link #blemanagerwritecharacteristicstreamfordevice|writeCharacteristicStreamForDevice()}.
+   * @name WriteProgress
+   */
+  export interface WriteProgress {
+    /**
+     * Number of bytes from the beginning of the value which were written.
+     */
+    offset: number
+    /**
+     * Number of bytes from the beginning of the value confirmed by the device. Transfer can be resumed from here.
+     */
+    acknowledgedOffset: number
+    /**
+     * Size of the whole value in bytes.
+     */
+    total: number
+  }
+
+  /**
+   * Scheduling of operations started with a transaction, see
+   * {@link #blemanagerscheduletransaction|scheduleTransaction()}.
+   * @name ScheduleOptions
+   */
+  export interface ScheduleOptions {
+    /**
+     * Lane of the native per device queue. Defaults to {@link OperationPriority.Interactive}.
+     */
+    priority?: OperationPriority
+    /**
+     * Time in milliseconds operation may wait in the queue before it fails with
+     * {@link #bleerrorcodeoperationtimedout|OperationTimedOut}. 0 or missing means no limit.
+     */
+    deadlineMs?: number
+  }
+
+  /**
+   * Counters of a single lane of native operation queue.
+   * @name OperationLaneStatistics
+   */
+  export interface OperationLaneStatistics {
+    /**
+     * Number of operations waiting in the lane.
+     */
+    queued: number
+    /**
+     * Number of operations passed to the adapter.
+     */
+    executed: number
+    /**
+     * Number of operations which waited longer than their `deadlineMs` and failed.
+     */
+    expired: number
+    /**
+     * Number of queued operations removed by transaction cancellation.
+     */
+    cancelled: number
+    /**
+     * Average time in milliseconds executed operations spent in the queue.
+     */
+    averageWaitMs: number
+    /**
+     * Longest time in milliseconds an executed operation spent in the queue.
+     */
+    maxWaitMs: number
+  }
+
+  /**
+   * Counters of native operation queue of a device, one entry per {@link OperationPriority}.
+   * @name OperationQueueStatistics
+   */
+  export type OperationQueueStatistics = { [P in OperationPriority]: OperationLaneStatistics }
+
+  /**
+   * Connection specific options to be passed before connection happen. [Not used]
+   */
+  export interface ConnectionOptions {
+    /**
+     * Whether to directly connect to the remote device (false) or to automatically connect as soon as the remote device
+     * becomes available (true). [Android only]
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    autoConnect?: boolean
+
+    /**
+     * Whether MTU size will be negotiated to this value. It is not guaranteed to get it after connection is successful.
+     *
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    requestMTU?: number
+
+    /**
+     * Whether action will be taken to reset services cache. This option may be useful when a peripheral's firmware was
+     * updated and it's services/characteristics were added/removed/altered. [Android only]
+     * {@link https://stackoverflow.com/questions/22596951/how-to-programmatically-force-bluetooth-low-energy-service-discovery-on-android}
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    refreshGatt?: RefreshGattMoment
+
+    /**
+     * Number of milliseconds after connection is automatically timed out. In case of race condition were connection is
+     * established right after timeout event, device will be disconnected immediately. Time out may happen earlier then
+     * specified due to OS specific behavior.
+     *
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    timeout?: number
+
+    /**
+     * Reconnects the device natively when it disconnects without
+     * {@link #blemanagercanceldeviceconnection|cancelDeviceConnection()}. Attempts use the options of this
+     * connection, so MTU and connection priority are requested again, and monitors keep running without
+     * resubscribing. Monitors started by service or characteristic identifier are resubscribed by device and UUIDs,
+     * as identifiers change after reconnection. Progress is reported by
+     * {@link #blemanagerondevicereconnection|onDeviceReconnection()}.
+     * [Android only]
+     *
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    autoReconnect?: ReconnectOptions
+  }
+
+  /**
+   * Backoff of native reconnection. Attempt `n` (counting from 0) waits `initialDelayMs * multiplier^n` milliseconds
+   * capped at `maxDelayMs`, of which the `jitter` fraction is randomized. [Android only]
+   */
+  export interface ReconnectOptions {
+    /**
+     * Number of attempts after which reconnection gives up, 0 for no limit. Defaults to 0.
+     * @memberof ReconnectOptions
+     * @instance
+     */
+    maxAttempts?: number
+
+    /**
+     * Delay before the first attempt in milliseconds. Defaults to 500.
+     * @memberof ReconnectOptions
+     * @instance
+     */
+    initialDelayMs?: number
+
+    /**
+     * Upper bound of the delay in milliseconds. Defaults to 30000.
+     * @memberof ReconnectOptions
+     * @instance
+     */
+    maxDelayMs?: number
+
+    /**
+     * Factor by which the delay grows with every attempt, at least 1. Defaults to 2.
+     * @memberof ReconnectOptions
+     * @instance
+     */
+    multiplier?: number
+
+    /**
+     * Randomized fraction of the delay between 0 and 1, which spreads attempts of several devices. Defaults to 0.5.
+     * @memberof ReconnectOptions
+     * @instance
+     */
+    jitter?: number
+  }
+
+  /**
+   * Progress of native reconnection of a device.
+   */
+  export interface ReconnectionEvent {
+    /**
+     * Reconnected {@link Device} identifier.
+     * @memberof ReconnectionEvent
+     * @instance
+     */
+    deviceID: DeviceId
+
+    /**
+     * Reconnection state.
+     * @memberof ReconnectionEvent
+     * @instance
+     */
+    state: ReconnectionState
+
+    /**
+     * Number of the scheduled, successful or last failed attempt, counting from 1.
+     * @memberof ReconnectionEvent
+     * @instance
+     */
+    attempt: number
+
+    /**
+     * Delay before the scheduled attempt in milliseconds. Set for {@link ReconnectionState.Reconnecting}.
+     * @memberof ReconnectionEvent
+     * @instance
+     */
+    delayMs?: number
+
+    /**
+     * Time since disconnection in milliseconds. Set for {@link ReconnectionState.Reconnected} and
+     * {@link ReconnectionState.Failed}.
+     * @memberof ReconnectionEvent
+     * @instance
+     */
+    downtimeMs?: number
+
+    /**
+     * Duration of the successful connection attempt in milliseconds. Set for {@link ReconnectionState.Reconnected}.
+     * @memberof ReconnectionEvent
+     * @instance
+     */
+    attemptDurationMs?: number
+
+    /**
+     * Number of monitor subscriptions which are restored. Set for {@link ReconnectionState.Reconnected}.
+     * @memberof ReconnectionEvent
+     * @instance
+     */
+    restoredSubscriptions?: number
+  }
+
+  /**
+   * Limits of the native connection pool. [Android only]
+   */
+  export interface ConnectionPoolOptions {
+    /**
+     * Number of devices connected at once, 0 for no limit. When the limit is reached, the least recently used device
+     * without active monitors is disconnected to make room for a new connection. Defaults to 0.
+     * @memberof ConnectionPoolOptions
+     * @instance
+     */
+    maxConnections?: number
+
+    /**
+     * How long a connection request waits for a free slot in milliseconds before it fails, 0 to wait indefinitely.
+     * Defaults to 0.
+     * @memberof ConnectionPoolOptions
+     * @instance
+     */
+    queueTimeoutMs?: number
+  }
+
+  /**
+   * Occupancy and counters of the native connection pool. [Android only]
+   */
+  export interface ConnectionPoolStatistics {
+    /**
+     * Configured limit of connected devices, 0 for no limit.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    maxConnections: number
+
+    /**
+     * Number of connected devices.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    connected: number
+
+    /**
+     * Number of connected devices which are kept connected by active monitors.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    pinned: number
+
+    /**
+     * Number of connection attempts in progress.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    connecting: number
+
+    /**
+     * Number of connection requests waiting for a slot or for the previous attempt to finish.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    queued: number
+
+    /**
+     * Number of started connection attempts.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    connectionAttempts: number
+
+    /**
+     * Number of devices disconnected to make room for other connections.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    evictions: number
+
+    /**
+     * Number of connection requests which failed after waiting `queueTimeoutMs`.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    queueTimeouts: number
+
+    /**
+     * Average time in milliseconds started attempts spent in the queue.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    averageWaitMs: number
+
+    /**
+     * Longest time in milliseconds a started attempt spent in the queue.
+     * @memberof ConnectionPoolStatistics
+     * @instance
+     */
+    maxWaitMs: number
+  }
+
+  /**
+   * Characteristic entry of {@link GattSnapshot}.
+   */
+  export interface CharacteristicSnapshot {
+    /**
+     * Characteristic object. Its value is always `null`, `isNotifying` is the state at the time the snapshot was
+     * taken.
+     * @memberof CharacteristicSnapshot
+     * @instance
+     */
+    characteristic: Characteristic
+
+    /**
+     * Descriptors of the characteristic with `null` values.
+     * @memberof CharacteristicSnapshot
+     * @instance
+     */
+    descriptors: Descriptor[]
+  }
+
+  /**
+   * Service entry of {@link GattSnapshot}.
+   */
+  export interface ServiceSnapshot {
+    /**
+     * Service object.
+     * @memberof ServiceSnapshot
+     * @instance
+     */
+    service: Service
+
+    /**
+     * Characteristics of the service.
+     * @memberof ServiceSnapshot
+     * @instance
+     */
+    characteristics: CharacteristicSnapshot[]
+  }
+
+  /**
+   * Whole discovered attribute tree of a connected device.
+   */
+  export interface GattSnapshot {
+    /**
+     * Discovered services.
+     * @memberof GattSnapshot
+     * @instance
+     */
+    services: ServiceSnapshot[]
+  }
+
+  /**
+   * Characteristic entry of {@link GattLayout}.
+   */
+  export interface GattLayoutCharacteristic {
+    /**
+     * {@link Characteristic} UUID.
+     * @memberof GattLayoutCharacteristic
+     * @instance
+     */
+    uuid: UUID
+
+    /**
+     * True if characteristic can be read.
+     * @memberof GattLayoutCharacteristic
+     * @instance
+     */
+    isReadable: boolean
+
+    /**
+     * True if characteristic can be written with response.
+     * @memberof GattLayoutCharacteristic
+     * @instance
+     */
+    isWritableWithResponse: boolean
+
+    /**
+     * True if characteristic can be written without response.
+     * @memberof GattLayoutCharacteristic
+     * @instance
+     */
+    isWritableWithoutResponse: boolean
+
+    /**
+     * True if characteristic can notify.
+     * @memberof GattLayoutCharacteristic
+     * @instance
+     */
+    isNotifiable: boolean
+
+    /**
+     * True if characteristic can indicate.
+     * @memberof GattLayoutCharacteristic
+     * @instance
+     */
+    isIndicatable: boolean
+
+    /**
+     * UUIDs of {@link Descriptor}s of the characteristic.
+     * @memberof GattLayoutCharacteristic
+     * @instance
+     */
+    descriptors: UUID[]
+  }
+
+  /**
+   * Service entry of {@link GattLayout}.
+   */
+  export interface GattLayoutService {
+    /**
+     * {@link Service} UUID.
+     * @memberof GattLayoutService
+     * @instance
+     */
+    uuid: UUID
+
+    /**
+     * True if service is primary.
+     * @memberof GattLayoutService
+     * @instance
+     */
+    isPrimary: boolean
+
+    /**
+     * Characteristics of the service.
+     * @memberof GattLayoutService
+     * @instance
+     */
+    characteristics: GattLayoutCharacteristic[]
+  }
+
+  /**
+   * Service, characteristic and descriptor layout of a device stored by the native module. It contains UUIDs only,
+   * identifiers of {@link Service} and {@link Characteristic} objects are assigned on every discovery.
+   */
+  export interface GattLayout {
+    /**
+     * Discovered services.
+     * @memberof GattLayout
+     * @instance
+     */
+    services: GattLayoutService[]
+  }
+
+  /**
+   * Device Bluetooth Low Energy state. It's keys are used to check {@link #blemanagerstate} values
+   * received by {@link BleManager}
+   */
+  export enum State {
+    /**
+     * The current state of the manager is unknown; an update is imminent.
+     */
+    Unknown = 'Unknown',
+    /**
+     * The connection with the system service was momentarily lost; an update is imminent.
+     */
+    Resetting = 'Resetting',
+    /**
+     * The platform does not support Bluetooth low energy.
+     */
+    Unsupported = 'Unsupported',
+    /**
+     * The app is not authorized to use Bluetooth low energy.
+     */
+    Unauthorized = 'Unauthorized',
+    /**
+     * Bluetooth is currently powered off.
+     */
+    PoweredOff = 'PoweredOff',
+    /**
+     * Bluetooth is currently powered on and available to use.
+     */
+    PoweredOn = 'PoweredOn'
+  }
+
+  /**
+   * Native module logging log level. By default it is set to None.
+   * @name LogLevel
+   */
+  export enum LogLevel {
+    /**
+     * Logging in native module is disabled
+     */
+    None = 'None',
+    /**
+     * All logs in native module are shown
+     */
+    Verbose = 'Verbose',
+    /**
+     * Only debug logs and of higher importance are shown in native module.
+     */
+    Debug = 'Debug',
+    /**
+     * Only info logs and of higher importance are shown in native module.
+     */
+    Info = 'Info',
+    /**
+     * Only warning logs and of higher importance are shown in native module.
+     */
+    Warning = 'Warning',
+    /**
+     * Only error logs and of higher importance are shown in native module.
+     */
+    Error = 'Error'
+  }
+
+  /**
+   * Handling of monitored notifications which arrive when native queue is full. [Android only]
+   * @name OverflowPolicy
+   */
+  export enum OverflowPolicy {
+    /**
+     * Oldest queued notification is dropped to make space for the new one.
+     */
+    DropOldest = 'DropOldest',
+    /**
+     * New notification is dropped.
+     */
+    DropNewest = 'DropNewest',
     /**
-     * The current state of the manager is unknown; an update is imminent.
+     * All queued notifications are dropped, only the new one is kept.
      */
-    Unknown = 'Unknown',
+    KeepLatest = 'KeepLatest',
     /**
-     * The connection with the system service was momentarily lost; an update is imminent.
+     * Notification thread waits up to `blockTimeoutMs` for free space, which slows down the BLE stack. New
+     * notification is dropped when time runs out.
      */
-    Resetting = 'Resetting',
+    BlockWithTimeout = 'BlockWithTimeout'
+  }
+
+  /**
+   * Kind of operation executed by {@link #blemanagerexecuteoperations|executeOperations()}.
+   * @name GattOperationType
+   */
+  export enum GattOperationType {
     /**
-     * The platform does not support Bluetooth low energy.
+     * Read characteristic value.
      */
-    Unsupported = 'Unsupported',
+    Read = 'Read',
     /**
-     * The app is not authorized to use Bluetooth low energy.
+     * Write characteristic value.
      */
-    Unauthorized = 'Unauthorized',
+    Write = 'Write',
     /**
-     * Bluetooth is currently powered off.
+     * Read descriptor value.
      */
-    PoweredOff = 'PoweredOff',
+    ReadDescriptor = 'ReadDescriptor',
     /**
-     * Bluetooth is currently powered on and available to use.
+     * Write descriptor value.
      */
-    PoweredOn = 'PoweredOn'
+    WriteDescriptor = 'WriteDescriptor'
   }
 
   /**
-   * Native module logging log level. By default it is set to None.
-   * @name LogLevel
+   * Lane of native per device operation queue. [Android only]
+   * @name OperationPriority
    */
-  export enum LogLevel {
+  export enum OperationPriority {
     /**
-     * Logging in native module is disabled
+     * Time critical operations, always executed before the other lanes. Should be used sparingly, because it can
+     * starve them.
      */
-    None = 'None',
+    Control = 'Control',
     /**
-     * All logs in native module are shown
+     * Default lane for operations started by the user interface.
      */
-    Verbose = 'Verbose',
+    Interactive = 'Interactive',
     /**
-     * Only debug logs and of higher importance are shown in native module.
+     * Background transfers. Executed once per every four interactive operations when both lanes are busy.
      */
-    Debug = 'Debug',
+    Bulk = 'Bulk'
+  }
+
+  /**
+   * State of native reconnection reported by {@link #blemanagerondevicereconnection|onDeviceReconnection()}.
+   * [Android only]
+   * @name ReconnectionState
+   */
+  export enum ReconnectionState {
     /**
-     * Only info logs and of higher importance are shown in native module.
+     * Device disconnected unexpectedly or the previous attempt failed, next attempt is scheduled.
      */
-    Info = 'Info',
+    Reconnecting = 'Reconnecting',
     /**
-     * Only warning logs and of higher importance are shown in native module.
+     * Device is connected again, monitor subscriptions are being restored.
      */
-    Warning = 'Warning',
+    Reconnected = 'Reconnected',
     /**
-     * Only error logs and of higher importance are shown in native module.
+     * All attempts failed, monitor subscriptions ended with the error of the last attempt.
      */
-    Error = 'Error'
+    Failed = 'Failed'
   }
 
   /**
@@ -769,6 +1836,16 @@ declare module '@consider-it/react-native-ble-plx' {
      * @private
      */
     rssi: number | null
+    /**
+     * RSSI smoothed natively when `rssiSmoothing` scan option is used. [Android only]
+     * @private
+     */
+    smoothedRssi?: number | null
+    /**
+     * Estimated distance in meters when `rssiSmoothing` scan option is used. [Android only]
+     * @private
+     */
+    distance?: number | null
     /**
      * Current Maximum Transmission Unit for this device. When device is not connected
      * default value of 23 is used.
@@ -1128,7 +2205,8 @@ declare module '@consider-it/react-native-ble-plx' {
      * @param {function(error?: BleError, scannedDevice: ?Device)} listener Function which will be called for every scanned
      * {@link Device} (devices may be scanned multiple times). It's first argument is potential {@link Error} which is set
      * to non `null` value when scanning failed. You have to start scanning process again if that happens. Second argument
-     * is a scanned {@link Device}.
+     * is a scanned {@link Device}. When `batchIntervalMs` option is used, devices from one native batch are passed to the
+     * listener one after another.
      */
     startDeviceScan(
       UUIDs: UUID[] | null,
@@ -1141,6 +2219,33 @@ declare module '@consider-it/react-native-ble-plx' {
      */
     stopDeviceScan(): void
 
+    /**
+     * Returns counters describing work done by native module during the current (or last) device scan. Counters are
+     * reset when new scan is started. [Android only]
+     *
+     * @returns {Promise<ScanStatistics>} Promise which emits scan counters.
+     */
+    scanStatistics(): Promise<ScanStatistics>
+
+    /**
+     * Returns devices held by scan registry enabled with `registryTtlMs` scan option. Registry is kept after scan is
+     * stopped, until new scan is started. [Android only]
+     *
+     * @param {AdvertisementFilter[]} [filters] Optional filters, device matching any of them is returned.
+     * @returns {Promise<ScannedDevice[]>} Promise which emits devices currently held by scan registry.
+     */
+    scannedDevices(filters?: AdvertisementFilter[]): Promise<ScannedDevice[]>
+
+    /**
+     * Listens for devices entering and leaving scan registry. Requires `registryTtlMs` and `registryEvents` scan
+     * options. [Android only]
+     *
+     * @param {function(error?: BleError, change: ScanRegistryChange)} listener Callback called when device entered or
+     * left scan registry.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onScannedDevicesChange(listener: (error: BleError | null, change: ScanRegistryChange | null) => void): Subscription
+
     /**
      * Request a connection parameter update. This functions may update connection parameters on Android API level 21 or
      * above.
@@ -1226,6 +2331,23 @@ declare module '@consider-it/react-native-ble-plx' {
       listener: (error: BleError | null, device: Device | null) => void
     ): Subscription
 
+    /**
+     * [Android only] Monitors native reconnection of a {@link Device} connected with
+     * {@link #connectionoptions|ConnectionOptions.autoReconnect}. Listener is called when an attempt is scheduled, when
+     * the device is connected again and when reconnection is given up, in which case the error is the reason of the
+     * last failed attempt. {@link #blemanagerondevicedisconnected|bleManager.onDeviceDisconnected()} is called only
+     * for the disconnection which started the reconnection.
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier to be monitored.
+     * @param {function(error: ?BleError, event: ReconnectionEvent)} listener - callback returning reconnection
+     * progress.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onDeviceReconnection(
+      deviceIdentifier: DeviceId,
+      listener: (error: BleError | null, event: ReconnectionEvent) => void
+    ): Subscription
+
     /**
      * Check connection state of a {@link Device}.
      *
@@ -1234,6 +2356,26 @@ declare module '@consider-it/react-native-ble-plx' {
      */
     isDeviceConnected(deviceIdentifier: DeviceId): Promise<boolean>
 
+    /**
+     * Limits the number of devices connected at once. While a limit is set, connection attempts started with
+     * {@link #blemanagerconnecttodevice|connectToDevice()} are queued and started one at a time, as parallel attempts
+     * tend to fail with GATT status 133 or time out. Without a limit, which is the default, attempts start right away.
+     * When `maxConnections` is reached, the least recently used device without active monitors is disconnected, which
+     * is reported by {@link #blemanagerondevicedisconnected|onDeviceDisconnected()}. Monitors started by characteristic
+     * or service identifier keep their device connected from their first notification. Attempts with `autoConnect` wait
+     * for a slot but not for other attempts. [Android only]
+     *
+     * @param {?ConnectionPoolOptions} options Pool limits, missing ones are reset to defaults.
+     */
+    configureConnectionPool(options?: ConnectionPoolOptions): void
+
+    /**
+     * Returns occupancy of the native connection pool together with queue wait and eviction counters. [Android only]
+     *
+     * @returns {Promise<ConnectionPoolStatistics>} Promise which emits pool counters.
+     */
+    connectionPoolStatistics(): Promise<ConnectionPoolStatistics>
+
     // Mark: Discovery -------------------------------------------------------------------------------------------------
 
     /**
@@ -1249,6 +2391,46 @@ declare module '@consider-it/react-native-ble-plx' {
       transactionId?: TransactionId
     ): Promise<Device>
 
+    /**
+     * Makes sure {@link Service}s with given UUIDs are discovered for {@link Device} and returns them. GATT discovery
+     * runs at most once per connection: when the device was discovered already the services are returned immediately
+     * and concurrent calls share a single discovery. It is the same full discovery as
+     * `discoverAllServicesAndCharacteristicsForDevice()`, as Android can't discover selected services only. UUIDs just
+     * pick which services are checked and returned, they don't make discovery faster or the attribute table smaller.
+     * Getters and reads by UUID discover services on first access too, so this call is only needed to learn about
+     * missing services early. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID[]} serviceUUIDs UUIDs of required {@link Service}s. Promise is rejected with
+     * {@link BleErrorCode.ServiceNotFound} when any of them is missing.
+     * @param {?TransactionId} transactionId Transaction handle used to cancel operation. Calls joining a discovery in
+     * progress are cancelled together with it.
+     * @returns {Promise<Service[]>} Promise which emits requested {@link Service}s.
+     */
+    discoverServicesForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUIDs: UUID[],
+      transactionId?: TransactionId
+    ): Promise<Service[]>
+
+    /**
+     * Returns service, characteristic and descriptor layout found by the last service discovery of {@link Device}.
+     * The layout survives application restarts and is available before connecting, so it can be inspected without
+     * connecting. It is a diagnostic only: services are still discovered on every connection and getters don't read
+     * the stored layout. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @returns {Promise<GattLayout | null>} Promise which emits stored layout or `null` when there is none.
+     */
+    cachedLayoutForDevice(deviceIdentifier: DeviceId): Promise<GattLayout | null>
+
+    /**
+     * Removes layout stored for {@link Device}. [Android only]
+     *
+     * @param {DeviceId | null} deviceIdentifier {@link Device} identifier or `null` to remove layouts of all devices.
+     */
+    clearLayoutCache(deviceIdentifier: DeviceId | null): void
+
     // Mark: Service and characteristic getters ------------------------------------------------------------------------
 
     /**
@@ -1260,6 +2442,16 @@ declare module '@consider-it/react-native-ble-plx' {
      */
     servicesForDevice(deviceIdentifier: DeviceId): Promise<Service[]>
 
+    /**
+     * All discovered {@link Service}s, {@link Characteristic}s and {@link Descriptor}s of {@link Device} in a single
+     * native call instead of one getter call per service and characteristic. The tree is memoized natively until the
+     * device is discovered again or disconnects. Values are not included. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @returns {Promise<GattSnapshot>} Promise which emits attribute tree of the {@link Device}.
+     */
+    gattSnapshotForDevice(deviceIdentifier: DeviceId): Promise<GattSnapshot>
+
     /**
      * List of discovered {@link Characteristic}s for given {@link Device} and {@link Service}.
      *
@@ -1288,7 +2480,9 @@ declare module '@consider-it/react-native-ble-plx' {
     // Mark: Characteristics operations --------------------------------------------------------------------------------
 
     /**
-     * Read {@link Characteristic} value.
+     * Read {@link Characteristic} value. On Android concurrent reads of the same characteristic share a single GATT
+     * read, and values can be served from cache configured by
+     * {@link #blemanagersetreadcachettlfordevice|setReadCacheTtlForDevice()}.
      *
      * @param {DeviceId} deviceIdentifier {@link Device} identifier.
      * @param {UUID} serviceUUID {@link Service} UUID.
@@ -1305,6 +2499,23 @@ declare module '@consider-it/react-native-ble-plx' {
       transactionId?: TransactionId
     ): Promise<Characteristic>
 
+    /**
+     * Serves values read from {@link Characteristic} from native cache for given time. Cached value is dropped when
+     * the characteristic is written or notifies, or when device disconnects or its services are discovered again.
+     * Values read before that are not cached. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {number} timeToLiveMs How long the value is valid in milliseconds. 0 disables the cache.
+     */
+    setReadCacheTtlForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      timeToLiveMs: number
+    ): void
+
     /**
      * Write {@link Characteristic} value with response.
      *
@@ -1356,6 +2567,7 @@ declare module '@consider-it/react-native-ble-plx' {
      * {@link Characteristic} objects with modified value for each notification.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @param {MonitorOptions} [options] optional native processing of notifications, see {@link MonitorOptions}.
      * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
      */
     monitorCharacteristicForDevice(
@@ -1363,7 +2575,189 @@ declare module '@consider-it/react-native-ble-plx' {
       serviceUUID: UUID,
       characteristicUUID: UUID,
       listener: (error: BleError | null, characteristic: Characteristic | null) => void,
+      transactionId?: TransactionId,
+      options?: MonitorOptions
+    ): Subscription
+
+    /**
+     * Allows native module to send given number of further notifications of monitoring started with `flowControl`
+     * option and `manualCredits` set. Every event passed to the listener consumes one credit (whole batch when
+     * `batch` option is used). Unknown transactions are ignored. [Android only]
+     *
+     * @param {TransactionId} transactionId `transactionId` of monitoring.
+     * @param {number} credits Number of events JS is ready to handle.
+     */
+    grantMonitorCredits(transactionId: TransactionId, credits: number): void
+
+    /**
+     * Returns queue counters of monitoring started with `flowControl` option. [Android only]
+     *
+     * @param {TransactionId} transactionId `transactionId` of monitoring.
+     * @returns {Promise<MonitorStatistics | null>} Promise which emits counters or `null` when monitoring is not active
+     * or was started without `flowControl` option.
+     */
+    monitorStatistics(transactionId: TransactionId): Promise<MonitorStatistics | null>
+
+    // Mark: Operation scheduling ------------------------------------------------------------------------------------
+
+    /**
+     * Sets lane and queueing deadline of operations started later with given transaction. Native module queues
+     * characteristic and descriptor operations of every device and passes them to the device one at a time:
+     * {@link OperationPriority.Control} lane goes first, {@link OperationPriority.Interactive} and
+     * {@link OperationPriority.Bulk} lanes are interleaved. The setting is used by the next operation started with
+     * the transaction, or by all operations of {@link #blemanagerexecuteoperations|executeOperations()} and
+     * {@link #blemanagerwritecharacteristicstreamfordevice|writeCharacteristicStreamForDevice()}. Cancelling the
+     * transaction removes its queued operations. Only operations addressed by device identifier or by
+     * {@link CharacteristicHandle} are queued. [Android only]
+     *
+     * @param {TransactionId} transactionId `transactionId` of the operations.
+     * @param {ScheduleOptions} [options] Lane and deadline. Missing options select
+     * {@link OperationPriority.Interactive} lane without deadline.
+     */
+    scheduleTransaction(transactionId: TransactionId, options?: ScheduleOptions | null): void
+
+    /**
+     * Returns counters of native operation queue of the device. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @returns {Promise<OperationQueueStatistics | null>} Promise which emits counters of every lane or `null` when
+     * device had no queued operations since it connected.
+     */
+    operationQueueStatisticsForDevice(deviceIdentifier: DeviceId): Promise<OperationQueueStatistics | null>
+
+    /**
+     * Executes list of characteristic and descriptor operations on a device one after another in native code and
+     * returns all results at once. Failed operation doesn't reject returned promise, its error is stored in the
+     * result. Cancelling the transaction stops the remaining operations and rejects the promise with
+     * {@link BleErrorCode.OperationCancelled} error, as other transactions do. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {GattOperation[]} operations Operations to be executed in order.
+     * @param {ExecuteOperationsOptions} [options] Execution options.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Promise<GattOperationResult[]>} Promise which emits results in order of operations.
+     */
+    executeOperations(
+      deviceIdentifier: DeviceId,
+      operations: GattOperation[],
+      options?: ExecuteOperationsOptions,
+      transactionId?: TransactionId
+    ): Promise<GattOperationResult[]>
+
+    // Mark: Streamed writes -----------------------------------------------------------------------------------------
+
+    /**
+     * Writes value of any size to {@link Characteristic}. Native module splits it into chunks fitting negotiated MTU
+     * and keeps up to `window` of them in flight as writes without response. Every `checkpointInterval`-th chunk and
+     * the last one are written with response. When the write fails, e.g. device disconnects, promise is rejected and
+     * the last reported `acknowledgedOffset` can be passed as `offset` option to resume the transfer. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {Base64} base64Value Whole value in Base64 format.
+     * @param {StreamWriteOptions} [options] Chunking and progress options.
+     * @param {function(progress: WriteProgress)} [progressListener] Called with progress at most every
+     * `progressIntervalMs` and once more when the write fails.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Promise<WriteProgress>} Promise which emits final progress when whole value was written.
+     */
+    writeCharacteristicStreamForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      base64Value: Base64,
+      options?: StreamWriteOptions | null,
+      progressListener?: ((progress: WriteProgress) => void) | null,
+      transactionId?: TransactionId
+    ): Promise<WriteProgress>
+
+    // Mark: Characteristic handles ----------------------------------------------------------------------------------
+
+    /**
+     * Resolves {@link Characteristic} once and returns its handle, which can be used for repeated operations
+     * without passing device identifier and UUIDs again. Handle becomes invalid when device disconnects or its
+     * services are discovered again. Operations on invalid handle fail with
+     * {@link BleErrorCode.CharacteristicNotFound}. Services and characteristics have to be discovered first.
+     * [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @returns {Promise<CharacteristicHandle>} Promise which emits handle of the characteristic.
+     */
+    prepareCharacteristic(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID
+    ): Promise<CharacteristicHandle>
+
+    /**
+     * Releases handle returned by {@link #blemanagerpreparecharacteristic|prepareCharacteristic()}. [Android only]
+     *
+     * @param {CharacteristicHandle} handle Characteristic handle.
+     */
+    releaseCharacteristicHandle(handle: CharacteristicHandle): void
+
+    /**
+     * Read {@link Characteristic} value using its handle. [Android only]
+     *
+     * @param {CharacteristicHandle} handle Characteristic handle.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
+     * handle with latest value.
+     */
+    readCharacteristicForHandle(handle: CharacteristicHandle, transactionId?: TransactionId): Promise<Characteristic>
+
+    /**
+     * Write {@link Characteristic} value with response using its handle. [Android only]
+     *
+     * @param {CharacteristicHandle} handle Characteristic handle.
+     * @param {Base64} base64Value Value in Base64 format.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Promise<Characteristic>} Promise which emits {@link Characteristic} object matching specified handle.
+     */
+    writeCharacteristicWithResponseForHandle(
+      handle: CharacteristicHandle,
+      base64Value: Base64,
+      transactionId?: TransactionId
+    ): Promise<Characteristic>
+
+    /**
+     * Write {@link Characteristic} value without response using its handle. [Android only]
+     *
+     * @param {CharacteristicHandle} handle Characteristic handle.
+     * @param {Base64} base64Value Value in Base64 format.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Promise<Characteristic>} Promise which emits {@link Characteristic} object matching specified handle.
+     */
+    writeCharacteristicWithoutResponseForHandle(
+      handle: CharacteristicHandle,
+      base64Value: Base64,
       transactionId?: TransactionId
+    ): Promise<Characteristic>
+
+    /**
+     * Monitor value changes of a {@link Characteristic} using its handle. [Android only]
+     *
+     * @param {CharacteristicHandle} handle Characteristic handle.
+     * @param {function(error?: BleError, characteristic?: Characteristic)} listener - callback which emits
+     * {@link Characteristic} objects with modified value for each notification.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @param {MonitorOptions} [options] optional native processing of notifications, see {@link MonitorOptions}.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    monitorCharacteristicForHandle(
+      handle: CharacteristicHandle,
+      listener: (error: BleError | null, characteristic: Characteristic | null) => void,
+      transactionId?: TransactionId,
+      options?: MonitorOptions
     ): Subscription
 
     // Mark: Descriptors operations ----------------------------------------------------------------------------------
@@ -1431,6 +2825,17 @@ declare module '@consider-it/react-native-ble-plx' {
      */
     rssi: number | null
 
+    /**
+     * RSSI smoothed natively when `rssiSmoothing` scan option is used. [Android only]
+     */
+    smoothedRssi: number | null
+
+    /**
+     * Estimated distance in meters computed from smoothed RSSI when `rssiSmoothing` scan option is used.
+     * [Android only]
+     */
+    distance: number | null
+
     /**
      * Current Maximum Transmission Unit for this device. When device is not connected
      * default value of 23 is used.
@@ -1545,6 +2950,14 @@ declare module '@consider-it/react-native-ble-plx' {
      */
     onDisconnected(listener: (error: BleError | null, device: Device) => void): Subscription
 
+    /**
+     * {@link #blemanagerondevicereconnection|bleManager.onDeviceReconnection()} with partially filled arguments.
+     *
+     * @param {function(error: ?BleError, event: ReconnectionEvent)} listener callback returning reconnection progress.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onReconnection(listener: (error: BleError | null, event: ReconnectionEvent) => void): Subscription
+
     /**
      * {@link #blemanagerdiscoverallservicesandcharacteristicsfordevice|bleManager.discoverAllServicesAndCharacteristicsForDevice()} with partially filled arguments.
      *
@@ -1554,6 +2967,24 @@ declare module '@consider-it/react-native-ble-plx' {
      */
     discoverAllServicesAndCharacteristics(transactionId?: TransactionId): Promise<Device>
 
+    /**
+     * {@link #blemanagerdiscoverservicesfordevice|bleManager.discoverServicesForDevice()} with partially filled
+     * arguments.
+     *
+     * @param {UUID[]} serviceUUIDs UUIDs of required {@link Service}s.
+     * @param {?TransactionId} transactionId Transaction handle used to cancel operation
+     * @returns {Promise<Service[]>} Promise which emits requested {@link Service}s.
+     */
+    discoverServices(serviceUUIDs: UUID[], transactionId?: TransactionId): Promise<Service[]>
+
+    /**
+     * {@link #blemanagercachedlayoutfordevice|bleManager.cachedLayoutForDevice()} with partially filled arguments.
+     *
+     * @returns {Promise<GattLayout | null>} Promise which emits layout stored for this device or `null` when there is
+     * none.
+     */
+    cachedLayout(): Promise<GattLayout | null>
+
     /**
      * {@link #blemanagerservicesfordevice|bleManager.servicesForDevice()} with partially filled arguments.
      *
@@ -1562,6 +2993,13 @@ declare module '@consider-it/react-native-ble-plx' {
      */
     services(): Promise<Service[]>
 
+    /**
+     * {@link #blemanagergattsnapshotfordevice|bleManager.gattSnapshotForDevice()} with partially filled arguments.
+     *
+     * @returns {Promise<GattSnapshot>} Promise which emits attribute tree of this device.
+     */
+    gattSnapshot(): Promise<GattSnapshot>
+
     /**
      * {@link #blemanagercharacteristicsfordevice|bleManager.characteristicsForDevice()} with partially filled arguments.
      *
@@ -1597,6 +3035,16 @@ declare module '@consider-it/react-native-ble-plx' {
       transactionId?: TransactionId
     ): Promise<Characteristic>
 
+    /**
+     * {@link #blemanagersetreadcachettlfordevice|bleManager.setReadCacheTtlForDevice()} with partially filled
+     * arguments.
+     *
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {number} timeToLiveMs How long the value is valid in milliseconds. 0 disables the cache.
+     */
+    setReadCacheTtlForService(serviceUUID: UUID, characteristicUUID: UUID, timeToLiveMs: number): void
+
     /**
      * {@link #blemanagerwritecharacteristicwithresponsefordevice|bleManager.writeCharacteristicWithResponseForDevice()} with partially filled arguments.
      *
@@ -1642,15 +3090,63 @@ declare module '@consider-it/react-native-ble-plx' {
      * {@link Characteristic} objects with modified value for each notification.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @param {MonitorOptions} [options] optional native processing of notifications, see {@link MonitorOptions}.
      * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
      */
     monitorCharacteristicForService(
       serviceUUID: UUID,
       characteristicUUID: UUID,
       listener: (error: BleError | null, characteristic: Characteristic | null) => void,
-      transactionId?: TransactionId
+      transactionId?: TransactionId,
+      options?: MonitorOptions
     ): Subscription
 
+    /**
+     * {@link #blemanageroperationqueuestatisticsfordevice|bleManager.operationQueueStatisticsForDevice()} with
+     * partially filled arguments.
+     *
+     * @returns {Promise<OperationQueueStatistics | null>} Promise which emits counters of every lane of native
+     * operation queue or `null` when device had no queued operations since it connected.
+     */
+    operationQueueStatistics(): Promise<OperationQueueStatistics | null>
+
+    /**
+     * {@link #blemanagerwritecharacteristicstreamfordevice|bleManager.writeCharacteristicStreamForDevice()} with
+     * partially filled arguments.
+     *
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {Base64} valueBase64 Whole value in Base64 format.
+     * @param {StreamWriteOptions} [options] Chunking and progress options.
+     * @param {function(progress: WriteProgress)} [progressListener] Called with progress of the write.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @returns {Promise<WriteProgress>} Promise which emits final progress when whole value was written.
+     */
+    writeCharacteristicStreamForService(
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      valueBase64: Base64,
+      options?: StreamWriteOptions | null,
+      progressListener?: ((progress: WriteProgress) => void) | null,
+      transactionId?: TransactionId
+    ): Promise<WriteProgress>
+
+    /**
+     * {@link #blemanagerexecuteoperations|bleManager.executeOperations()} with partially filled arguments.
+     *
+     * @param {GattOperation[]} operations Operations to be executed in order.
+     * @param {ExecuteOperationsOptions} [options] Execution options.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @returns {Promise<GattOperationResult[]>} Promise which emits results in order of operations.
+     */
+    executeOperations(
+      operations: GattOperation[],
+      options?: ExecuteOperationsOptions,
+      transactionId?: TransactionId
+    ): Promise<GattOperationResult[]>
+
     /**
      * {@link #blemanagerreaddescriptorfordevice|bleManager.readDescriptorForDevice()} with partially filled arguments.
      *
@@ -1789,12 +3285,14 @@ declare module '@consider-it/react-native-ble-plx' {
      * {@link Characteristic} objects with modified value for each notification.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @param {MonitorOptions} [options] optional native processing of notifications, see {@link MonitorOptions}.
      * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
      */
     monitorCharacteristic(
       characteristicUUID: UUID,
       listener: (error: BleError | null, characteristic: Characteristic | null) => void,
-      transactionId?: string
+      transactionId?: string,
+      options?: MonitorOptions
     ): Subscription
 
     /**
@@ -1884,6 +3382,14 @@ declare module '@consider-it/react-native-ble-plx' {
      * Characteristic value if present
      */
     value: Base64 | null
+    /**
+     * Time in milliseconds since epoch when value arrived. Set only for notifications delivered in batches.
+     */
+    timestamp?: number
+    /**
+     * Summary of notifications when monitoring with `aggregate` option, `value` is `null` then.
+     */
+    aggregate?: CharacteristicAggregate
 
     /**
      * Private constructor used to create instance of {@link Characteristic}.
@@ -1940,11 +3446,13 @@ declare module '@consider-it/react-native-ble-plx' {
      * this {@link Characteristic} with modified value for each notification.
      * @param {?TransactionId} transactionId optional `transactionId` which can be used in
      * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+     * @param {MonitorOptions} [options] optional native processing of notifications, see {@link MonitorOptions}.
      * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
      */
     monitor(
       listener: (error: BleError | null, characteristic: Characteristic | null) => void,
-      transactionId?: string
+      transactionId?: string,
+      options?: MonitorOptions
     ): Subscription
 
     /**
@@ -7,7 +7,17 @@ export { Service } from './src/Service'
 export { Characteristic } from './src/Characteristic'
 export { Descriptor } from './src/Descriptor'
 export { fullUUID } from './src/Utils'
-export { State, LogLevel, ConnectionPriority, ScanCallbackType, ScanMode } from './src/TypeDefinition'
+export {
+  State,
+  LogLevel,
+  ConnectionPriority,
+  ScanCallbackType,
+  ScanMode,
+  OverflowPolicy,
+  GattOperationType,
+  OperationPriority,
+  ReconnectionState
+} from './src/TypeDefinition'
 export { BlePlxV2xRxMsgSrc } from './src/BlePlxV2xRxMsgSrc'
 
 export type {
@@ -15,10 +25,43 @@ export type {
   DeviceId,
   UUID,
   TransactionId,
+  CharacteristicHandle,
   Base64,
   BlePlxV2xRxMsgSrc,
   ScanOptions,
+  ScanStatistics,
+  AdvertisementFilter,
+  HardwareScanFilter,
+  ScannedDevice,
+  ScanRegistryChange,
+  MonitorOptions,
+  FramingOptions,
+  NotificationBatchOptions,
+  AggregateOptions,
+  ValueField,
+  CharacteristicAggregate,
+  AggregatedField,
+  FlowControlOptions,
+  MonitorStatistics,
+  GattOperation,
+  ExecuteOperationsOptions,
+  GattOperationResult,
+  StreamWriteOptions,
+  WriteProgress,
+  ScheduleOptions,
+  OperationLaneStatistics,
+  OperationQueueStatistics,
   ConnectionOptions,
+  ReconnectOptions,
+  ReconnectionEvent,
+  ConnectionPoolOptions,
+  ConnectionPoolStatistics,
+  CharacteristicSnapshot,
+  ServiceSnapshot,
+  GattSnapshot,
+  GattLayoutCharacteristic,
+  GattLayoutService,
+  GattLayout,
   BleManagerOptions,
   BleRestoredState
 } from './src/TypeDefinition'
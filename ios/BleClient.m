@@ -342,6 +342,7 @@ RCT_EXPORT_METHOD(monitorCharacteristicForDevice:(NSString*)deviceIdentifier
                                      serviceUUID:(NSString*)serviceUUID
                               characteristicUUID:(NSString*)characteristicUUID
                                    transactionID:(NSString*)transactionId
+                                         options:(NSDictionary*)options
                                         resolver:(RCTPromiseResolveBlock)resolve
                                         rejecter:(RCTPromiseRejectBlock)reject) {
     [_manager monitorCharacteristicForDevice:deviceIdentifier
@@ -355,6 +356,7 @@ RCT_EXPORT_METHOD(monitorCharacteristicForDevice:(NSString*)deviceIdentifier
 RCT_EXPORT_METHOD(monitorCharacteristicForService:(nonnull NSNumber*)serviceIdentifier
                                characteristicUUID:(NSString*)characteristicUUID
                                     transactionID:(NSString*)transactionId
+                                          options:(NSDictionary*)options
                                          resolver:(RCTPromiseResolveBlock)resolve
                                          rejecter:(RCTPromiseRejectBlock)reject) {
     [_manager monitorCharacteristicForService:serviceIdentifier.doubleValue
@@ -366,6 +368,7 @@ RCT_EXPORT_METHOD(monitorCharacteristicForService:(nonnull NSNumber*)serviceIden
 
 RCT_EXPORT_METHOD(monitorCharacteristic:(nonnull NSNumber*)characteristicIdentifier
                           transactionID:(NSString*)transactionId
+                                options:(NSDictionary*)options
                                resolver:(RCTPromiseResolveBlock)resolve
                                rejecter:(RCTPromiseRejectBlock)reject) {
     [_manager monitorCharacteristic:characteristicIdentifier.doubleValue
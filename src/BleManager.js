@@ -2,6 +2,7 @@
 'use strict'
 
 import { Device } from './Device'
+import { unpackDevice } from './PackedScanResult'
 import { Service } from './Service'
 import { Characteristic } from './Characteristic'
 import { Descriptor } from './Descriptor'
@@ -16,16 +17,45 @@ import {
   BleAndroidErrorCode,
   BleIOSErrorCode
 } from './BleError'
-import type { NativeDevice, NativeCharacteristic, NativeDescriptor, NativeBleRestoredState } from './BleModule'
+import type {
+  NativeDevice,
+  NativeCharacteristic,
+  NativeCharacteristicBatch,
+  NativeGattSnapshot,
+  NativeGattOperationResult,
+  NativeDescriptor,
+  NativeBleRestoredState,
+  NativeScannedDevice,
+  NativeScanRegistryChange
+} from './BleModule'
 import type {
   Subscription,
   DeviceId,
   Identifier,
   UUID,
   TransactionId,
+  CharacteristicHandle,
   Base64,
   ScanOptions,
+  ScanStatistics,
+  AdvertisementFilter,
+  ScannedDevice,
+  ScanRegistryChange,
+  MonitorOptions,
+  MonitorStatistics,
+  GattOperation,
+  ExecuteOperationsOptions,
+  GattOperationResult,
+  StreamWriteOptions,
+  WriteProgress,
+  ScheduleOptions,
+  OperationQueueStatistics,
   ConnectionOptions,
+  GattSnapshot,
+  GattLayout,
+  ReconnectionEvent,
+  ConnectionPoolOptions,
+  ConnectionPoolStatistics,
   BleManagerOptions
 } from './TypeDefinition'
 
@@ -46,6 +76,7 @@ import type {
 export class BleManager {
   // Scan subscriptions
   _scanEventSubscription: ?EventEmitter
+  _scanBatchEventSubscription: ?EventEmitter
   // Listening to BleModule events
   _eventEmitter: EventEmitter
   // Unique identifier used to create internal transactionIds
@@ -137,10 +168,7 @@ export class BleManager {
     BleModule.destroyClient()
 
     // Unsubscribe from any subscriptions
-    if (this._scanEventSubscription != null) {
-      this._scanEventSubscription.remove()
-      this._scanEventSubscription = null
-    }
+    this._removeScanSubscriptions()
     this._destroySubscriptions()
 
     // Destroy all promises
@@ -331,7 +359,8 @@ export class BleManager {
    * @param {function(error: ?BleError, scannedDevice: ?Device)} listener Function which will be called for every scanned
    * {@link Device} (devices may be scanned multiple times). It's first argument is potential {@link Error} which is set
    * to non `null` value when scanning failed. You have to start scanning process again if that happens. Second argument
-   * is a scanned {@link Device}.
+   * is a scanned {@link Device}. When `batchIntervalMs` option is used, devices from one native batch are passed to the
+   * listener one after another.
    */
   startDeviceScan(
     UUIDs: ?Array<UUID>,
@@ -339,14 +368,28 @@ export class BleManager {
     listener: (error: ?BleError, scannedDevice: ?Device) => void
   ) {
     this.stopDeviceScan()
-    const scanListener = ([error, nativeDevice]: [?string, ?NativeDevice]) => {
+    const scannedDevice = (nativeDevice: NativeDevice | Base64): Device => {
+      return typeof nativeDevice === 'string' ? unpackDevice(nativeDevice, this) : new Device(nativeDevice, this)
+    }
+    const scanListener = ([error, nativeDevice]: [?string, ?(NativeDevice | Base64)]) => {
       listener(
         error ? parseBleError(error, this._errorCodesToMessagesMapping) : null,
-        nativeDevice ? new Device(nativeDevice, this) : null
+        nativeDevice ? scannedDevice(nativeDevice) : null
       )
     }
+    const scanBatchListener = ([error, nativeDevices]: [?string, ?Array<NativeDevice | Base64>]) => {
+      if (error) {
+        listener(parseBleError(error, this._errorCodesToMessagesMapping), null)
+        return
+      }
+      if (nativeDevices) {
+        nativeDevices.forEach(nativeDevice => listener(null, scannedDevice(nativeDevice)))
+      }
+    }
     // $FlowFixMe: Flow cannot deduce EmitterSubscription type.
     this._scanEventSubscription = this._eventEmitter.addListener(BleModule.ScanEvent, scanListener)
+    // $FlowFixMe: Flow cannot deduce EmitterSubscription type.
+    this._scanBatchEventSubscription = this._eventEmitter.addListener(BleModule.ScanBatchEvent, scanBatchListener)
     BleModule.startDeviceScan(UUIDs, options)
   }
 
@@ -354,11 +397,78 @@ export class BleManager {
    * Stops {@link Device} scan if in progress.
    */
   stopDeviceScan() {
+    this._removeScanSubscriptions()
+    BleModule.stopDeviceScan()
+  }
+
+  /**
+   * Returns counters describing work done by native module during the current (or last) device scan. Counters are
+   * reset when new scan is started. [Android only]
+   *
+   * @returns {Promise<ScanStatistics>} Promise which emits scan counters.
+   */
+  scanStatistics(): Promise<ScanStatistics> {
+    return this._callPromise(BleModule.scanStatistics())
+  }
+
+  /**
+   * Returns devices held by scan registry enabled with `registryTtlMs` scan option. Registry is kept after scan is
+   * stopped, until new scan is started. [Android only]
+   *
+   * @param {?Array<AdvertisementFilter>} filters Optional filters, device matching any of them is returned.
+   * @returns {Promise<Array<ScannedDevice>>} Promise which emits devices currently held by scan registry.
+   */
+  async scannedDevices(filters: ?Array<AdvertisementFilter>): Promise<Array<ScannedDevice>> {
+    const nativeScannedDevices = await this._callPromise(BleModule.scannedDevices(filters))
+    return nativeScannedDevices.map((nativeScannedDevice: NativeScannedDevice) => {
+      return { ...nativeScannedDevice, device: new Device(nativeScannedDevice.device, this) }
+    })
+  }
+
+  /**
+   * Listens for devices entering and leaving scan registry. Requires `registryTtlMs` and `registryEvents` scan
+   * options. [Android only]
+   *
+   * @param {function(error: ?BleError, change: ?ScanRegistryChange)} listener Callback called when device entered or
+   * left scan registry.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onScannedDevicesChange(listener: (error: ?BleError, change: ?ScanRegistryChange) => void): Subscription {
+    const registryListener = ([error, nativeChange]: [?string, ?NativeScanRegistryChange]) => {
+      listener(
+        error ? parseBleError(error, this._errorCodesToMessagesMapping) : null,
+        nativeChange ? { ...nativeChange, device: new Device(nativeChange.device, this) } : null
+      )
+    }
+
+    const subscription: Subscription = this._eventEmitter.addListener(BleModule.ScanRegistryEvent, registryListener)
+
+    const id = this._nextUniqueID()
+    const wrappedSubscription = {
+      remove: () => {
+        if (this._activeSubscriptions[id] != null) {
+          delete this._activeSubscriptions[id]
+          subscription.remove()
+        }
+      }
+    }
+    this._activeSubscriptions[id] = wrappedSubscription
+    return wrappedSubscription
+  }
+
+  /**
+   * Removes listeners registered for scan events.
+   * @private
+   */
+  _removeScanSubscriptions() {
     if (this._scanEventSubscription != null) {
       this._scanEventSubscription.remove()
       this._scanEventSubscription = null
     }
-    BleModule.stopDeviceScan()
+    if (this._scanBatchEventSubscription != null) {
+      this._scanBatchEventSubscription.remove()
+      this._scanBatchEventSubscription = null
+    }
   }
 
   /**
@@ -501,6 +611,44 @@ export class BleManager {
     return wrappedSubscription
   }
 
+  /**
+   * [Android only] Monitors native reconnection of a {@link Device} connected with
+   * {@link #connectionoptions|ConnectionOptions.autoReconnect}. Listener is called when an attempt is scheduled, when
+   * the device is connected again and when reconnection is given up, in which case the error is the reason of the
+   * last failed attempt. {@link #blemanagerondevicedisconnected|bleManager.onDeviceDisconnected()} is called only for
+   * the disconnection which started the reconnection.
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier to be monitored.
+   * @param {function(error: ?BleError, event: ReconnectionEvent)} listener - callback returning reconnection progress.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onDeviceReconnection(
+    deviceIdentifier: DeviceId,
+    listener: (error: ?BleError, event: ReconnectionEvent) => void
+  ): Subscription {
+    const reconnectionListener = ([error, event]: [?string, ReconnectionEvent]) => {
+      if (deviceIdentifier !== event.deviceID) return
+      listener(error ? parseBleError(error, this._errorCodesToMessagesMapping) : null, event)
+    }
+
+    const subscription: Subscription = this._eventEmitter.addListener(
+      BleModule.ReconnectionEvent,
+      reconnectionListener
+    )
+
+    const id = this._nextUniqueID()
+    const wrappedSubscription = {
+      remove: () => {
+        if (this._activeSubscriptions[id] != null) {
+          delete this._activeSubscriptions[id]
+          subscription.remove()
+        }
+      }
+    }
+    this._activeSubscriptions[id] = wrappedSubscription
+    return wrappedSubscription
+  }
+
   /**
    * Check connection state of a {@link Device}.
    *
@@ -511,6 +659,30 @@ export class BleManager {
     return this._callPromise(BleModule.isDeviceConnected(deviceIdentifier))
   }
 
+  /**
+   * Limits the number of devices connected at once. While a limit is set, connection attempts started with
+   * {@link #blemanagerconnecttodevice|connectToDevice()} are queued and started one at a time, as parallel attempts
+   * tend to fail with GATT status 133 or time out. Without a limit, which is the default, attempts start right away.
+   * When `maxConnections` is reached, the least recently used device without active monitors is disconnected, which is
+   * reported by {@link #blemanagerondevicedisconnected|onDeviceDisconnected()}. Monitors started by characteristic or
+   * service identifier keep their device connected from their first notification. Attempts with `autoConnect` wait for
+   * a slot but not for other attempts. [Android only]
+   *
+   * @param {?ConnectionPoolOptions} options Pool limits, missing ones are reset to defaults.
+   */
+  configureConnectionPool(options: ?ConnectionPoolOptions): void {
+    BleModule.configureConnectionPool(options)
+  }
+
+  /**
+   * Returns occupancy of the native connection pool together with queue wait and eviction counters. [Android only]
+   *
+   * @returns {Promise<ConnectionPoolStatistics>} Promise which emits pool counters.
+   */
+  connectionPoolStatistics(): Promise<ConnectionPoolStatistics> {
+    return this._callPromise(BleModule.connectionPoolStatistics())
+  }
+
   // Mark: Discovery ---------------------------------------------------------------------------------------------------
 
   /**
@@ -534,6 +706,60 @@ export class BleManager {
     return new Device(nativeDevice, this)
   }
 
+  /**
+   * Makes sure {@link Service}s with given UUIDs are discovered for {@link Device} and returns them. GATT discovery
+   * runs at most once per connection: when the device was discovered already the services are returned immediately
+   * and concurrent calls share a single discovery. It is the same full discovery as
+   * `discoverAllServicesAndCharacteristicsForDevice()`, as Android can't discover selected services only. UUIDs just
+   * pick which services are checked and returned, they don't make discovery faster or the attribute table smaller.
+   * Getters and reads by UUID discover services on first access too, so this call is only needed to learn about
+   * missing services early. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {Array<UUID>} serviceUUIDs UUIDs of required {@link Service}s. Promise is rejected with
+   * {@link BleErrorCode.ServiceNotFound} when any of them is missing.
+   * @param {?TransactionId} transactionId Transaction handle used to cancel operation. Calls joining a discovery in
+   * progress are cancelled together with it.
+   * @returns {Promise<Array<Service>>} Promise which emits requested {@link Service}s.
+   */
+  async discoverServicesForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUIDs: Array<UUID>,
+    transactionId: ?TransactionId
+  ): Promise<Array<Service>> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    const services = await this._callPromise(
+      BleModule.discoverServicesForDevice(deviceIdentifier, serviceUUIDs, transactionId)
+    )
+    return services.map(nativeService => {
+      return new Service(nativeService, this)
+    })
+  }
+
+  /**
+   * Returns service, characteristic and descriptor layout found by the last service discovery of {@link Device}.
+   * The layout survives application restarts and is available before connecting, so it can be inspected without
+   * connecting. It is a diagnostic only: services are still discovered on every connection and getters don't read
+   * the stored layout. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @returns {Promise<?GattLayout>} Promise which emits stored layout or `null` when there is none.
+   */
+  cachedLayoutForDevice(deviceIdentifier: DeviceId): Promise<?GattLayout> {
+    return this._callPromise(BleModule.cachedLayoutForDevice(deviceIdentifier))
+  }
+
+  /**
+   * Removes layout stored for {@link Device}. [Android only]
+   *
+   * @param {?DeviceId} deviceIdentifier {@link Device} identifier or `null` to remove layouts of all devices.
+   */
+  clearLayoutCache(deviceIdentifier: ?DeviceId): void {
+    BleModule.clearLayoutCache(deviceIdentifier)
+  }
+
   // Mark: Service and characteristic getters --------------------------------------------------------------------------
 
   /**
@@ -550,6 +776,27 @@ export class BleManager {
     })
   }
 
+  /**
+   * All discovered {@link Service}s, {@link Characteristic}s and {@link Descriptor}s of {@link Device} in a single
+   * native call instead of one getter call per service and characteristic. The tree is memoized natively until the
+   * device is discovered again or disconnects. Values are not included. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @returns {Promise<GattSnapshot>} Promise which emits attribute tree of the {@link Device}.
+   */
+  async gattSnapshotForDevice(deviceIdentifier: DeviceId): Promise<GattSnapshot> {
+    const snapshot: NativeGattSnapshot = await this._callPromise(BleModule.gattSnapshotForDevice(deviceIdentifier))
+    return {
+      services: snapshot.services.map(serviceEntry => ({
+        service: new Service(serviceEntry.service, this),
+        characteristics: serviceEntry.characteristics.map(characteristicEntry => ({
+          characteristic: new Characteristic(characteristicEntry.characteristic, this),
+          descriptors: characteristicEntry.descriptors.map(nativeDescriptor => new Descriptor(nativeDescriptor, this))
+        }))
+      }))
+    }
+  }
+
   /**
    * List of discovered {@link Characteristic}s for given {@link Device} and {@link Service}.
    *
@@ -650,7 +897,9 @@ export class BleManager {
   // Mark: Characteristics operations ----------------------------------------------------------------------------------
 
   /**
-   * Read {@link Characteristic} value.
+   * Read {@link Characteristic} value. On Android concurrent reads of the same characteristic share a single GATT
+   * read, and values can be served from cache configured by
+   * {@link #blemanagersetreadcachettlfordevice|setReadCacheTtlForDevice()}.
    *
    * @param {DeviceId} deviceIdentifier {@link Device} identifier.
    * @param {UUID} serviceUUID {@link Service} UUID.
@@ -675,6 +924,25 @@ export class BleManager {
     return new Characteristic(nativeCharacteristic, this)
   }
 
+  /**
+   * Serves values read from {@link Characteristic} from native cache for given time. Cached value is dropped when
+   * the characteristic is written or notifies, or when device disconnects or its services are discovered again.
+   * Values read before that are not cached. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {number} timeToLiveMs How long the value is valid in milliseconds. 0 disables the cache.
+   */
+  setReadCacheTtlForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    timeToLiveMs: number
+  ): void {
+    BleModule.setReadCacheTtlForDevice(deviceIdentifier, serviceUUID, characteristicUUID, timeToLiveMs)
+  }
+
   /**
    * Read {@link Characteristic} value.
    *
@@ -908,6 +1176,7 @@ export class BleManager {
    * {@link Characteristic} objects with modified value for each notification.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?MonitorOptions} options optional native processing of notifications, see {@link MonitorOptions}.
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    */
   monitorCharacteristicForDevice(
@@ -915,13 +1184,21 @@ export class BleManager {
     serviceUUID: UUID,
     characteristicUUID: UUID,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?MonitorOptions
   ): Subscription {
     const filledTransactionId = transactionId || this._nextUniqueID()
     return this._handleMonitorCharacteristic(
-      BleModule.monitorCharacteristicForDevice(deviceIdentifier, serviceUUID, characteristicUUID, filledTransactionId),
+      BleModule.monitorCharacteristicForDevice(
+        deviceIdentifier,
+        serviceUUID,
+        characteristicUUID,
+        filledTransactionId,
+        options
+      ),
       filledTransactionId,
-      listener
+      listener,
+      options
     )
   }
 
@@ -935,6 +1212,7 @@ export class BleManager {
    * {@link Characteristic} objects with modified value for each notification.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?MonitorOptions} options optional native processing of notifications, see {@link MonitorOptions}.
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    * @private
    */
@@ -942,13 +1220,15 @@ export class BleManager {
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?MonitorOptions
   ): Subscription {
     const filledTransactionId = transactionId || this._nextUniqueID()
     return this._handleMonitorCharacteristic(
-      BleModule.monitorCharacteristicForService(serviceIdentifier, characteristicUUID, filledTransactionId),
+      BleModule.monitorCharacteristicForService(serviceIdentifier, characteristicUUID, filledTransactionId, options),
       filledTransactionId,
-      listener
+      listener,
+      options
     )
   }
 
@@ -961,19 +1241,22 @@ export class BleManager {
    * {@link Characteristic} objects with modified value for each notification.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?MonitorOptions} options optional native processing of notifications, see {@link MonitorOptions}.
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    * @private
    */
   _monitorCharacteristic(
     characteristicIdentifier: Identifier,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?MonitorOptions
   ): Subscription {
     const filledTransactionId = transactionId || this._nextUniqueID()
     return this._handleMonitorCharacteristic(
-      BleModule.monitorCharacteristic(characteristicIdentifier, filledTransactionId),
+      BleModule.monitorCharacteristic(characteristicIdentifier, filledTransactionId, options),
       filledTransactionId,
-      listener
+      listener,
+      options
     )
   }
 
@@ -990,8 +1273,23 @@ export class BleManager {
   _handleMonitorCharacteristic(
     monitorPromise: Promise<void>,
     transactionId: TransactionId,
-    listener: (error: ?BleError, characteristic: ?Characteristic) => void
+    listener: (error: ?BleError, characteristic: ?Characteristic) => void,
+    options: ?MonitorOptions
   ): Subscription {
+    const flowControl = options && options.flowControl
+    // Flow control is not implemented on iOS, so there is no native method to grant credits to
+    const autoCredits = flowControl != null && !flowControl.manualCredits && BleModule.grantMonitorCredits != null
+    const creditThreshold = flowControl ? Math.max(1, Math.floor((flowControl.credits || 16) / 2)) : 1
+    let handledEvents = 0
+    const onEventHandled = () => {
+      if (!autoCredits) return
+      handledEvents++
+      if (handledEvents >= creditThreshold) {
+        BleModule.grantMonitorCredits(transactionId, handledEvents)
+        handledEvents = 0
+      }
+    }
+
     const monitorListener = ([error, characteristic, msgTransactionId]: [
       ?string,
       NativeCharacteristic,
@@ -1000,12 +1298,36 @@ export class BleManager {
       if (transactionId !== msgTransactionId) return
       if (error) {
         listener(parseBleError(error, this._errorCodesToMessagesMapping), null)
+      } else {
+        listener(null, new Characteristic(characteristic, this))
+      }
+      onEventHandled()
+    }
+
+    let batchCharacteristic: ?NativeCharacteristic = null
+    const batchListener = ([error, batch, msgTransactionId]: [?string, NativeCharacteristicBatch, TransactionId]) => {
+      if (transactionId !== msgTransactionId) return
+      if (error) {
+        listener(parseBleError(error, this._errorCodesToMessagesMapping), null)
+        onEventHandled()
         return
       }
-      listener(null, new Characteristic(characteristic, this))
+      if (batch.characteristic) {
+        batchCharacteristic = batch.characteristic
+      }
+      if (batchCharacteristic) {
+        for (let i = 0; i < batch.values.length; i++) {
+          listener(
+            null,
+            new Characteristic({ ...batchCharacteristic, value: batch.values[i], timestamp: batch.timestamps[i] }, this)
+          )
+        }
+      }
+      onEventHandled()
     }
 
     const subscription: Subscription = this._eventEmitter.addListener(BleModule.ReadEvent, monitorListener)
+    const batchSubscription: Subscription = this._eventEmitter.addListener(BleModule.ReadBatchEvent, batchListener)
 
     const id = this._nextUniqueID()
     const wrappedSubscription: Subscription = {
@@ -1013,6 +1335,7 @@ export class BleManager {
         if (this._activeSubscriptions[id] != null) {
           delete this._activeSubscriptions[id]
           subscription.remove()
+          batchSubscription.remove()
         }
       }
     }
@@ -1035,6 +1358,307 @@ export class BleManager {
     }
   }
 
+  /**
+   * Allows native module to send given number of further notifications of monitoring started with `flowControl`
+   * option and `manualCredits` set. Every event passed to the listener consumes one credit (whole batch when
+   * `batch` option is used). Unknown transactions are ignored. [Android only]
+   *
+   * @param {TransactionId} transactionId `transactionId` of monitoring.
+   * @param {number} credits Number of events JS is ready to handle.
+   */
+  grantMonitorCredits(transactionId: TransactionId, credits: number) {
+    BleModule.grantMonitorCredits(transactionId, credits)
+  }
+
+  /**
+   * Returns queue counters of monitoring started with `flowControl` option. [Android only]
+   *
+   * @param {TransactionId} transactionId `transactionId` of monitoring.
+   * @returns {Promise<?MonitorStatistics>} Promise which emits counters or `null` when monitoring is not active
+   * or was started without `flowControl` option.
+   */
+  monitorStatistics(transactionId: TransactionId): Promise<?MonitorStatistics> {
+    return this._callPromise(BleModule.monitorStatistics(transactionId))
+  }
+
+  // Mark: Operation scheduling ------------------------------------------------------------------------------------
+
+  /**
+   * Sets lane and queueing deadline of operations started later with given transaction. Native module queues
+   * characteristic and descriptor operations of every device and passes them to the device one at a time:
+   * {@link OperationPriority.Control} lane goes first, {@link OperationPriority.Interactive} and
+   * {@link OperationPriority.Bulk} lanes are interleaved. The setting is used by the next operation started with the
+   * transaction, or by all operations of {@link #blemanagerexecuteoperations|executeOperations()} and
+   * {@link #blemanagerwritecharacteristicstreamfordevice|writeCharacteristicStreamForDevice()}. Cancelling the
+   * transaction removes its queued operations. Only operations addressed by device identifier or by
+   * {@link CharacteristicHandle} are queued. [Android only]
+   *
+   * @example
+   * manager.scheduleTransaction('unlock', { priority: OperationPriority.Control, deadlineMs: 200 })
+   * await manager.writeCharacteristicWithResponseForDevice(deviceId, serviceUUID, lockUUID, command, 'unlock')
+   *
+   * @param {TransactionId} transactionId `transactionId` of the operations.
+   * @param {?ScheduleOptions} options Lane and deadline. Missing options select
+   * {@link OperationPriority.Interactive} lane without deadline.
+   */
+  scheduleTransaction(transactionId: TransactionId, options: ?ScheduleOptions): void {
+    BleModule.scheduleTransaction(transactionId, options)
+  }
+
+  /**
+   * Returns counters of native operation queue of the device. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @returns {Promise<?OperationQueueStatistics>} Promise which emits counters of every lane or `null` when device
+   * had no queued operations since it connected.
+   */
+  operationQueueStatisticsForDevice(deviceIdentifier: DeviceId): Promise<?OperationQueueStatistics> {
+    return this._callPromise(BleModule.operationQueueStatisticsForDevice(deviceIdentifier))
+  }
+
+  // Mark: Operation batches ---------------------------------------------------------------------------------------
+
+  /**
+   * Executes list of characteristic and descriptor operations on a device one after another in native code and
+   * returns all results at once. Failed operation doesn't reject returned promise, its error is stored in the
+   * result. Cancelling the transaction stops the remaining operations and rejects the promise with
+   * {@link BleErrorCode.OperationCancelled} error, as other transactions do. [Android only]
+   *
+   * @example
+   * const results = await manager.executeOperations(deviceId, [
+   *   { type: GattOperationType.Write, serviceUUID, characteristicUUID: configUUID, value: config },
+   *   { type: GattOperationType.Read, serviceUUID, characteristicUUID: statusUUID }
+   * ], { stopOnError: true })
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {Array<GattOperation>} operations Operations to be executed in order.
+   * @param {?ExecuteOperationsOptions} options Execution options.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Promise<Array<GattOperationResult>>} Promise which emits results in order of operations.
+   */
+  async executeOperations(
+    deviceIdentifier: DeviceId,
+    operations: Array<GattOperation>,
+    options: ?ExecuteOperationsOptions,
+    transactionId: ?TransactionId
+  ): Promise<Array<GattOperationResult>> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    const nativeResults: Array<NativeGattOperationResult> = await this._callPromise(
+      BleModule.executeOperations(deviceIdentifier, operations, options, transactionId)
+    )
+    return nativeResults.map(result => ({
+      error: result.error ? parseBleError(result.error, this._errorCodesToMessagesMapping) : null,
+      characteristic: result.characteristic ? new Characteristic(result.characteristic, this) : null,
+      descriptor: result.descriptor ? new Descriptor(result.descriptor, this) : null
+    }))
+  }
+
+  // Mark: Streamed writes -----------------------------------------------------------------------------------------
+
+  /**
+   * Writes value of any size to {@link Characteristic}. Native module splits it into chunks fitting negotiated MTU
+   * and keeps up to `window` of them in flight as writes without response. Every `checkpointInterval`-th chunk and the
+   * last one are written with response. When the write fails, e.g. device disconnects, promise is rejected and the
+   * last reported `acknowledgedOffset` can be passed as `offset` option to resume the transfer. [Android only]
+   *
+   * @example
+   * let resumeFrom = 0
+   * const onProgress = progress => {
+   *   resumeFrom = progress.acknowledgedOffset
+   * }
+   * await manager.writeCharacteristicStreamForDevice(deviceId, serviceUUID, firmwareUUID, image, null, onProgress)
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {Base64} base64Value Whole value in Base64 format.
+   * @param {?StreamWriteOptions} options Chunking and progress options.
+   * @param {?function(progress: WriteProgress)} progressListener Called with progress at most every
+   * `progressIntervalMs` and once more when the write fails.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Promise<WriteProgress>} Promise which emits final progress when whole value was written.
+   */
+  async writeCharacteristicStreamForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    base64Value: Base64,
+    options: ?StreamWriteOptions,
+    progressListener: ?(progress: WriteProgress) => void,
+    transactionId: ?TransactionId
+  ): Promise<WriteProgress> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    const writePromise = this._callPromise(
+      BleModule.writeCharacteristicStreamForDevice(
+        deviceIdentifier,
+        serviceUUID,
+        characteristicUUID,
+        base64Value,
+        options,
+        transactionId
+      )
+    )
+    if (!progressListener) {
+      return writePromise
+    }
+
+    const listener = progressListener
+    const subscription: Subscription = this._eventEmitter.addListener(
+      BleModule.WriteProgressEvent,
+      ([error, progress, msgTransactionId]: [?string, WriteProgress, TransactionId]) => {
+        if (transactionId !== msgTransactionId || error) return
+        listener(progress)
+      }
+    )
+    const id = this._nextUniqueID()
+    this._activeSubscriptions[id] = subscription
+    const removeSubscription = () => {
+      if (this._activeSubscriptions[id] != null) {
+        delete this._activeSubscriptions[id]
+        subscription.remove()
+      }
+    }
+    return writePromise.then(
+      progress => {
+        removeSubscription()
+        return progress
+      },
+      error => {
+        removeSubscription()
+        throw error
+      }
+    )
+  }
+
+  // Mark: Characteristic handles ----------------------------------------------------------------------------------
+
+  /**
+   * Resolves {@link Characteristic} once and returns its handle, which can be used for repeated operations
+   * without passing device identifier and UUIDs again. Handle becomes invalid when device disconnects or its
+   * services are discovered again. Operations on invalid handle fail with
+   * {@link BleErrorCode.CharacteristicNotFound}. Services and characteristics have to be discovered first.
+   * [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @returns {Promise<CharacteristicHandle>} Promise which emits handle of the characteristic.
+   */
+  prepareCharacteristic(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID
+  ): Promise<CharacteristicHandle> {
+    return this._callPromise(BleModule.prepareCharacteristic(deviceIdentifier, serviceUUID, characteristicUUID))
+  }
+
+  /**
+   * Releases handle returned by {@link #blemanagerpreparecharacteristic|prepareCharacteristic()}. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle.
+   */
+  releaseCharacteristicHandle(handle: CharacteristicHandle) {
+    BleModule.releaseCharacteristicHandle(handle)
+  }
+
+  /**
+   * Read {@link Characteristic} value using its handle. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Promise<Characteristic>} Promise which emits first {@link Characteristic} object matching specified
+   * handle with latest value.
+   */
+  async readCharacteristicForHandle(
+    handle: CharacteristicHandle,
+    transactionId: ?TransactionId
+  ): Promise<Characteristic> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    const nativeCharacteristic = await this._callPromise(BleModule.readCharacteristicForHandle(handle, transactionId))
+    return new Characteristic(nativeCharacteristic, this)
+  }
+
+  /**
+   * Write {@link Characteristic} value with response using its handle. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle.
+   * @param {Base64} base64Value Value in Base64 format.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Promise<Characteristic>} Promise which emits {@link Characteristic} object matching specified handle.
+   */
+  async writeCharacteristicWithResponseForHandle(
+    handle: CharacteristicHandle,
+    base64Value: Base64,
+    transactionId: ?TransactionId
+  ): Promise<Characteristic> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    const nativeCharacteristic = await this._callPromise(
+      BleModule.writeCharacteristicForHandle(handle, base64Value, true, transactionId)
+    )
+    return new Characteristic(nativeCharacteristic, this)
+  }
+
+  /**
+   * Write {@link Characteristic} value without response using its handle. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle.
+   * @param {Base64} base64Value Value in Base64 format.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Promise<Characteristic>} Promise which emits {@link Characteristic} object matching specified handle.
+   */
+  async writeCharacteristicWithoutResponseForHandle(
+    handle: CharacteristicHandle,
+    base64Value: Base64,
+    transactionId: ?TransactionId
+  ): Promise<Characteristic> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    const nativeCharacteristic = await this._callPromise(
+      BleModule.writeCharacteristicForHandle(handle, base64Value, false, transactionId)
+    )
+    return new Characteristic(nativeCharacteristic, this)
+  }
+
+  /**
+   * Monitor value changes of a {@link Characteristic} using its handle. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle.
+   * @param {function(error: ?BleError, characteristic: ?Characteristic)} listener - callback which emits
+   * {@link Characteristic} objects with modified value for each notification.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @param {?MonitorOptions} options optional native processing of notifications, see {@link MonitorOptions}.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  monitorCharacteristicForHandle(
+    handle: CharacteristicHandle,
+    listener: (error: ?BleError, characteristic: ?Characteristic) => void,
+    transactionId: ?TransactionId,
+    options: ?MonitorOptions
+  ): Subscription {
+    const filledTransactionId = transactionId || this._nextUniqueID()
+    return this._handleMonitorCharacteristic(
+      BleModule.monitorCharacteristicForHandle(handle, filledTransactionId, options),
+      filledTransactionId,
+      listener,
+      options
+    )
+  }
+
   // Mark: Descriptors operations ----------------------------------------------------------------------------------
 
   /**
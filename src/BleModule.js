@@ -8,8 +8,24 @@ import type {
   Identifier,
   UUID,
   TransactionId,
+  CharacteristicHandle,
   Base64,
   ScanOptions,
+  ScanStatistics,
+  AdvertisementFilter,
+  MonitorOptions,
+  MonitorStatistics,
+  CharacteristicAggregate,
+  GattOperation,
+  ExecuteOperationsOptions,
+  StreamWriteOptions,
+  WriteProgress,
+  ScheduleOptions,
+  OperationQueueStatistics,
+  GattLayout,
+  ReconnectionEvent,
+  ConnectionPoolOptions,
+  ConnectionPoolStatistics,
   ConnectionOptions
 } from './TypeDefinition'
 
@@ -33,6 +49,16 @@ export interface NativeDevice {
    * @private
    */
   rssi: ?number;
+  /**
+   * RSSI smoothed natively when `rssiSmoothing` scan option is used. [Android only]
+   * @private
+   */
+  smoothedRssi?: ?number;
+  /**
+   * Estimated distance in meters when `rssiSmoothing` scan option is used. [Android only]
+   * @private
+   */
+  distance?: ?number;
   /**
    * Current Maximum Transmission Unit for this device. When device is not connected
    * default value of 23 is used.
@@ -183,6 +209,70 @@ export interface NativeCharacteristic {
    * @private
    */
   value: ?Base64;
+  /**
+   * Summary of notifications when monitoring with `aggregate` option
+   * @private
+   */
+  aggregate?: ?CharacteristicAggregate;
+}
+
+/**
+ * Result of a single operation executed by BleModule.
+ * @private
+ */
+export interface NativeGattOperationResult {
+  /**
+   * Serialized error or `null` if operation succeeded.
+   * @private
+   */
+  error: ?string;
+  /**
+   * Characteristic read or written by the operation.
+   * @private
+   */
+  characteristic: ?NativeCharacteristic;
+  /**
+   * Descriptor read or written by the operation.
+   * @private
+   */
+  descriptor: ?NativeDescriptor;
+}
+
+/**
+ * Whole attribute tree of a device passed from BleModule.
+ * @private
+ */
+export interface NativeGattSnapshot {
+  /**
+   * Services with their characteristics and descriptors.
+   * @private
+   */
+  services: Array<{
+    service: NativeService,
+    characteristics: Array<{ characteristic: NativeCharacteristic, descriptors: Array<NativeDescriptor> }>
+  }>;
+}
+
+/**
+ * Batch of notifications of monitored characteristic passed from BleModule.
+ * @private
+ */
+export interface NativeCharacteristicBatch {
+  /**
+   * Characteristic metadata with `null` value, sent only with the first batch of a transaction.
+   * @private
+   */
+  characteristic: ?NativeCharacteristic;
+  /**
+   * Characteristic values in order of arrival.
+   * @private
+   */
+  values: Array<?Base64>;
+  /**
+   * Arrival time of each value in milliseconds since epoch.
+   * @private
+   */
+  timestamps: Array<number>;
 }
 
 /**
@@ -232,6 +322,45 @@ export interface NativeDescriptor {
   value: ?Base64;
 }
 
+/**
+ * Native scan registry entry passed from BleModule.
+ * @private
+ */
+export interface NativeScannedDevice {
+  /**
+   * Latest advertisement of the device.
+   * @private
+   */
+  device: NativeDevice;
+  /**
+   * Timestamp in milliseconds when the device was seen for the first time.
+   * @private
+   */
+  firstSeen: number;
+  /**
+   * Timestamp in milliseconds when the device was seen for the last time.
+   * @private
+   */
+  lastSeen: number;
+  /**
+   * Number of advertisements received from the device.
+   * @private
+   */
+  sightings: number;
+}
+
+/**
+ * Native scan registry change passed from BleModule.
+ * @private
+ */
+export interface NativeScanRegistryChange extends NativeScannedDevice {
+  /**
+   * Either 'enter' or 'leave'.
+   * @private
+   */
+  type: 'enter' | 'leave';
+}
+
 /**
  * Object representing information about restored BLE state after application relaunch.
  * @private
@@ -320,6 +449,23 @@ export interface BleModuleInterface {
    */
   stopDeviceScan(): void;
 
+  /**
+   * Returns counters describing current (or last) device scan. [Android only]
+   *
+   * @returns {Promise<ScanStatistics>} Scan counters.
+   * @private
+   */
+  scanStatistics(): Promise<ScanStatistics>;
+
+  /**
+   * Returns devices held by scan registry, optionally filtered by advertisement filters. [Android only]
+   *
+   * @param {?Array<AdvertisementFilter>} filters Optional filters, device matching any of them is returned.
+   * @returns {Promise<Array<NativeScannedDevice>>} Devices currently in scan registry.
+   * @private
+   */
+  scannedDevices(filters: ?Array<AdvertisementFilter>): Promise<Array<NativeScannedDevice>>;
+
   // Device operations
 
   /**
@@ -408,6 +554,22 @@ export interface BleModuleInterface {
    */
   isDeviceConnected(deviceIdentifier: DeviceId): Promise<boolean>;
 
+  /**
+   * Sets limits of the connection pool. [Android only]
+   *
+   * @param {?ConnectionPoolOptions} options Pool limits, missing ones are reset to defaults.
+   * @private
+   */
+  configureConnectionPool(options: ?ConnectionPoolOptions): void;
+
+  /**
+   * Returns occupancy and counters of the connection pool. [Android only]
+   *
+   * @returns {Promise<ConnectionPoolStatistics>} Pool counters.
+   * @private
+   */
+  connectionPoolStatistics(): Promise<ConnectionPoolStatistics>;
+
   // Discovery
 
   /**
@@ -423,6 +585,38 @@ export interface BleModuleInterface {
     transactionId: TransactionId
   ): Promise<NativeDevice>;
 
+  /**
+   * Makes sure services of the device are discovered and returns the requested ones. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier.
+   * @param {Array<UUID>} serviceUUIDs UUIDs of required services.
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<Array<NativeService>>} Requested services.
+   * @private
+   */
+  discoverServicesForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUIDs: Array<UUID>,
+    transactionId: TransactionId
+  ): Promise<Array<NativeService>>;
+
+  /**
+   * Returns layout stored on disk for the device. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier.
+   * @returns {Promise<?GattLayout>} Stored layout or `null` when there is none.
+   * @private
+   */
+  cachedLayoutForDevice(deviceIdentifier: DeviceId): Promise<?GattLayout>;
+
+  /**
+   * Removes stored layout of the device or of all devices. [Android only]
+   *
+   * @param {?DeviceId} deviceIdentifier Device identifier or `null` for all devices.
+   * @private
+   */
+  clearLayoutCache(deviceIdentifier: ?DeviceId): void;
+
   // Service and characteristic getters
 
   /**
@@ -434,6 +628,15 @@ export interface BleModuleInterface {
    */
   servicesForDevice(deviceIdentifier: DeviceId): Promise<Array<NativeService>>;
 
+  /**
+   * Discovered services, characteristics and descriptors of specified device in a single call. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier.
+   * @returns {Promise<NativeGattSnapshot>} Attribute tree of the device.
+   * @private
+   */
+  gattSnapshotForDevice(deviceIdentifier: DeviceId): Promise<NativeGattSnapshot>;
+
   /**
    * List of discovered characteristics for specified service.
    *
@@ -506,6 +709,22 @@ export interface BleModuleInterface {
     transactionId: TransactionId
   ): Promise<NativeCharacteristic>;
 
+  /**
+   * Sets how long read values of the characteristic are served from native cache. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier
+   * @param {UUID} serviceUUID Service UUID
+   * @param {UUID} characteristicUUID Characteristic UUID
+   * @param {number} timeToLiveMs Time in milliseconds, 0 disables the cache
+   * @private
+   */
+  setReadCacheTtlForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    timeToLiveMs: number
+  ): void;
+
   /**
    * Read characteristic's value.
    *
@@ -595,6 +814,7 @@ export interface BleModuleInterface {
    * @param {UUID} serviceUUID Service UUID
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @param {?MonitorOptions} options Optional native processing of notifications
    * @returns {Promise<void>} Value which is returned when monitoring was cancelled or resulted in error
    * @private
    */
@@ -602,7 +822,8 @@ export interface BleModuleInterface {
     deviceIdentifier: DeviceId,
     serviceUUID: UUID,
     characteristicUUID: UUID,
-    transactionId: TransactionId
+    transactionId: TransactionId,
+    options: ?MonitorOptions
   ): Promise<void>;
 
   /**
@@ -611,13 +832,15 @@ export interface BleModuleInterface {
    * @param {Identifier} serviceIdentifier Service ID
    * @param {UUID} characteristicUUID Characteristic UUID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @param {?MonitorOptions} options Optional native processing of notifications
    * @returns {Promise<void>} Value which is returned when monitoring was cancelled or resulted in error
    * @private
    */
   monitorCharacteristicForService(
     serviceIdentifier: Identifier,
     characteristicUUID: UUID,
-    transactionId: TransactionId
+    transactionId: TransactionId,
+    options: ?MonitorOptions
   ): Promise<void>;
 
   /**
@@ -625,10 +848,164 @@ export interface BleModuleInterface {
    *
    * @param {Identifier} characteristicIdentifier Characteristic ID
    * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @param {?MonitorOptions} options Optional native processing of notifications
+   * @returns {Promise<void>} Value which is returned when monitoring was cancelled or resulted in error
+   * @private
+   */
+  monitorCharacteristic(
+    characteristicIdentifier: Identifier,
+    transactionId: TransactionId,
+    options: ?MonitorOptions
+  ): Promise<void>;
+
+  /**
+   * Allows native module to emit given number of further events of monitoring transaction started with
+   * `flowControl` option. [Android only]
+   *
+   * @param {TransactionId} transactionId Transaction handle of monitoring
+   * @param {number} credits Number of events JS is ready to receive
+   * @private
+   */
+  grantMonitorCredits(transactionId: TransactionId, credits: number): void;
+
+  /**
+   * Returns queue counters of monitoring transaction started with `flowControl` option. [Android only]
+   *
+   * @param {TransactionId} transactionId Transaction handle of monitoring
+   * @returns {Promise<?MonitorStatistics>} Counters or `null` if there is no such active monitoring.
+   * @private
+   */
+  monitorStatistics(transactionId: TransactionId): Promise<?MonitorStatistics>;
+
+  // Operation batches
+
+  // Operation scheduling
+
+  /**
+   * Sets queue lane and deadline of operations started later with given transaction. [Android only]
+   *
+   * @param {TransactionId} transactionId Transaction of the operations
+   * @param {?ScheduleOptions} options Lane and deadline
+   * @private
+   */
+  scheduleTransaction(transactionId: TransactionId, options: ?ScheduleOptions): void;
+
+  /**
+   * Returns counters of native operation queue of the device. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Device identifier
+   * @returns {Promise<?OperationQueueStatistics>} Counters or `null` when device had no queued operations yet
+   * @private
+   */
+  operationQueueStatisticsForDevice(deviceIdentifier: DeviceId): Promise<?OperationQueueStatistics>;
+
+  /**
+   * Executes characteristic and descriptor operations one after another. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {Array<GattOperation>} operations Operations to be executed in order
+   * @param {?ExecuteOperationsOptions} options Execution options
+   * @param {TransactionId} transactionId Transaction handle used to cancel operations
+   * @returns {Promise<Array<NativeGattOperationResult>>} Results in order of operations
+   * @private
+   */
+  executeOperations(
+    deviceIdentifier: DeviceId,
+    operations: Array<GattOperation>,
+    options: ?ExecuteOperationsOptions,
+    transactionId: TransactionId
+  ): Promise<Array<NativeGattOperationResult>>;
+
+  /**
+   * Writes large value to characteristic in MTU sized chunks. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {UUID} serviceUUID Service UUID
+   * @param {UUID} characteristicUUID Characteristic UUID
+   * @param {Base64} valueBase64 Whole value to be written coded in Base64
+   * @param {?StreamWriteOptions} options Chunking and progress options
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<WriteProgress>} Final progress of completed write
+   * @private
+   */
+  writeCharacteristicStreamForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    valueBase64: Base64,
+    options: ?StreamWriteOptions,
+    transactionId: TransactionId
+  ): Promise<WriteProgress>;
+
+  // Characteristic handles
+
+  /**
+   * Resolves characteristic and returns its handle. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {UUID} serviceUUID Service UUID
+   * @param {UUID} characteristicUUID Characteristic UUID
+   * @returns {Promise<CharacteristicHandle>} Handle valid until device disconnects or is discovered again
+   * @private
+   */
+  prepareCharacteristic(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID
+  ): Promise<CharacteristicHandle>;
+
+  /**
+   * Releases characteristic handle. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle
+   * @private
+   */
+  releaseCharacteristicHandle(handle: CharacteristicHandle): void;
+
+  /**
+   * Read characteristic's value using its handle. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<NativeCharacteristic>} Characteristic for which value was read
+   * @private
+   */
+  readCharacteristicForHandle(
+    handle: CharacteristicHandle,
+    transactionId: TransactionId
+  ): Promise<NativeCharacteristic>;
+
+  /**
+   * Write value to characteristic using its handle. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle
+   * @param {Base64} valueBase64 Value to be set coded in Base64
+   * @param {boolean} withResponse True if write should be with response
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<NativeCharacteristic>} Characteristic which saved passed value
+   * @private
+   */
+  writeCharacteristicForHandle(
+    handle: CharacteristicHandle,
+    valueBase64: Base64,
+    withResponse: boolean,
+    transactionId: TransactionId
+  ): Promise<NativeCharacteristic>;
+
+  /**
+   * Setup monitoring of characteristic value using its handle. [Android only]
+   *
+   * @param {CharacteristicHandle} handle Characteristic handle
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @param {?MonitorOptions} options Optional native processing of notifications
    * @returns {Promise<void>} Value which is returned when monitoring was cancelled or resulted in error
    * @private
    */
-  monitorCharacteristic(characteristicIdentifier: Identifier, transactionId: TransactionId): Promise<void>;
+  monitorCharacteristicForHandle(
+    handle: CharacteristicHandle,
+    transactionId: TransactionId,
+    options: ?MonitorOptions
+  ): Promise<void>;
 
   // Descriptor operations
 
@@ -792,11 +1169,25 @@ export interface BleModuleInterface {
   // Events
 
   /**
-   * New scanned event arrived as [?Error, ?NativeDevice] object.
+   * New scanned event arrived as [?Error, ?NativeDevice] object. With `packedScanResults` scan option device is
+   * passed as packed Base64 string.
    * @private
    */
   ScanEvent: string;
 
+  /**
+   * Batch of scanned devices arrived as [?Error, ?Array<NativeDevice>] object. With `packedScanResults` scan option
+   * devices are passed as packed Base64 strings.
+   * @private
+   */
+  ScanBatchEvent: string;
+
+  /**
+   * Device entered or left scan registry, arrives as [?Error, NativeScanRegistryChange] object.
+   * @private
+   */
+  ScanRegistryEvent: string;
+
   /**
    * Characteristic value update broadcasted due to registered notification as
    * [?Error, ?NativeCharacteristic, ?TransactionId].
@@ -804,6 +1195,19 @@ export interface BleModuleInterface {
    */
   ReadEvent: string;
 
+  /**
+   * Batch of characteristic value updates when `batch` monitor option is used, arrives as
+   * [?Error, ?NativeCharacteristicBatch, ?TransactionId].
+   * @private
+   */
+  ReadBatchEvent: string;
+
+  /**
+   * Progress of chunked characteristic write as [null, WriteProgress, TransactionId].
+   * @private
+   */
+  WriteProgressEvent: string;
+
   /**
    * BLE Manager changed its state as $Keys<typeof State>
    * @private
@@ -821,6 +1225,12 @@ export interface BleModuleInterface {
    * @private
    */
   DisconnectionEvent: string;
+
+  /**
+   * Native reconnection progressed as [Error?, ReconnectionEvent]
+   * @private
+   */
+  ReconnectionEvent: string;
 }
 
 export const BleModule: BleModuleInterface = NativeModules.BleClientManager
@@ -1,13 +1,21 @@
+import { Platform } from 'react-native'
+import { Buffer } from 'buffer'
 import { BleManager } from './BleManager'
 import { BleMessageBuilder } from './BleMessageBuilder'
 import { Subject } from 'rxjs'
 
+// Fragments are reassembled natively where supported
+const NATIVE_FRAMING = Platform.OS === 'android'
+// Connection is kept alive natively, monitors survive reconnection
+const NATIVE_RECONNECT = Platform.OS === 'android'
+
 export class BlePlxV2xRxMsgSrc {
   type = 2
   _manager = new BleManager()
   _subscriptions = []
   _state
   _connection
+  _reconnection
   _onConnect
   _bleMessageBuilder = new BleMessageBuilder(buffer => ({
     messageSource: 2,
@@ -51,13 +59,38 @@ export class BlePlxV2xRxMsgSrc {
   _subscribeToCharas = device => {
     this._manager.stopDeviceScan()
     device
-      .connect()
+      .connect(NATIVE_RECONNECT ? { autoReconnect: {} } : undefined)
       .then(connectedDevice => {
-        this._connection = this._manager.onDeviceDisconnected(connectedDevice.id, (_1, _2) => {
+        this._connection = this._manager.onDeviceDisconnected(connectedDevice.id, (error, _2) => {
+          if (NATIVE_RECONNECT) {
+            this._logs.next({
+              connectionState: 2,
+              error
+            })
+            return
+          }
           this._connection.remove()
           this._subscriptions.forEach(sub => sub.remove())
           setTimeout(() => this.connect(this._onConnect), 3000)
         })
+        if (NATIVE_RECONNECT) {
+          this._reconnection = this._manager.onDeviceReconnection(connectedDevice.id, (error, event) => {
+            if (event.state === 'Reconnected') {
+              this._logs.next({
+                connectionState: 1
+              })
+            } else if (event.state === 'Failed') {
+              this._connection.remove()
+              this._reconnection.remove()
+              this._subscriptions.forEach(sub => sub.remove())
+              this._logs.next({
+                connectionState: 2,
+                error
+              })
+              this.connect(this._onConnect)
+            }
+          })
+        }
         if (this._connection) {
           this._subscriptions.push(this._connection)
         }
@@ -76,14 +109,21 @@ export class BlePlxV2xRxMsgSrc {
                 })
               }
               try {
-                bleMessageBuilder.enqueuePacket(Buffer.from(c.value, 'base64'))
+                const value = Buffer.from(c.value, 'base64')
+                if (NATIVE_FRAMING) {
+                  this._bleMessageBuilder.onMessageBuilt(value)
+                } else {
+                  this._bleMessageBuilder.enqueuePacket(value)
+                }
               } catch (error) {
                 this._logs.next({
                   connectionState: 1,
                   error: error
                 })
               }
-            }
+            },
+            null,
+            NATIVE_FRAMING ? { framing: { headerLength: 2, countdownOffset: 0 } } : null
           )
         )
         this._onConnect()
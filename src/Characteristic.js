@@ -5,7 +5,16 @@ import type { BleManager } from './BleManager'
 import type { BleError } from './BleError'
 import { Descriptor } from './Descriptor'
 import type { NativeCharacteristic } from './BleModule'
-import type { DeviceId, Identifier, UUID, TransactionId, Base64, Subscription } from './TypeDefinition'
+import type {
+  DeviceId,
+  Identifier,
+  UUID,
+  TransactionId,
+  Base64,
+  Subscription,
+  MonitorOptions,
+  CharacteristicAggregate
+} from './TypeDefinition'
 
 /**
  * Characteristic object.
@@ -64,6 +73,14 @@ export class Characteristic implements NativeCharacteristic {
    * Characteristic value if present
    */
   value: ?Base64
+  /**
+   * Time in milliseconds since epoch when value arrived. Set only for notifications delivered in batches.
+   */
+  timestamp: ?number
+  /**
+   * Summary of notifications when monitoring with `aggregate` option, `value` is `null` then.
+   */
+  aggregate: ?CharacteristicAggregate
 
   /**
    * Private constructor used to create instance of {@link Characteristic}.
@@ -130,13 +147,15 @@ export class Characteristic implements NativeCharacteristic {
    * this {@link Characteristic} with modified value for each notification.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?MonitorOptions} options optional native processing of notifications, see {@link MonitorOptions}.
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    */
   monitor(
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?MonitorOptions
   ): Subscription {
-    return this._manager._monitorCharacteristic(this.id, listener, transactionId)
+    return this._manager._monitorCharacteristic(this.id, listener, transactionId, options)
   }
 
   /**
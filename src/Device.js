@@ -8,7 +8,24 @@ import type { Service } from './Service'
 import type { Descriptor } from './Descriptor'
 import { ConnectionPriority } from './TypeDefinition'
 import type { NativeDevice } from './BleModule'
-import type { DeviceId, Base64, UUID, Subscription, TransactionId, ConnectionOptions } from './TypeDefinition'
+import type {
+  DeviceId,
+  Base64,
+  UUID,
+  Subscription,
+  TransactionId,
+  ConnectionOptions,
+  MonitorOptions,
+  GattOperation,
+  ExecuteOperationsOptions,
+  GattOperationResult,
+  StreamWriteOptions,
+  WriteProgress,
+  OperationQueueStatistics,
+  GattSnapshot,
+  GattLayout,
+  ReconnectionEvent
+} from './TypeDefinition'
 
 /**
  * Device instance which can be retrieved only by calling
@@ -36,6 +53,17 @@ export class Device implements NativeDevice {
    */
   rssi: ?number
 
+  /**
+   * RSSI smoothed natively when `rssiSmoothing` scan option is used. [Android only]
+   */
+  smoothedRssi: ?number
+
+  /**
+   * Estimated distance in meters computed from smoothed RSSI when `rssiSmoothing` scan option is used.
+   * [Android only]
+   */
+  distance: ?number
+
   /**
    * Current Maximum Transmission Unit for this device. When device is not connected
    * default value of 23 is used.
@@ -169,6 +197,16 @@ export class Device implements NativeDevice {
     return this._manager.onDeviceDisconnected(this.id, listener)
   }
 
+  /**
+   * {@link #blemanagerondevicereconnection|bleManager.onDeviceReconnection()} with partially filled arguments.
+   *
+   * @param {function(error: ?BleError, event: ReconnectionEvent)} listener callback returning reconnection progress.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onReconnection(listener: (error: ?BleError, event: ReconnectionEvent) => void): Subscription {
+    return this._manager.onDeviceReconnection(this.id, listener)
+  }
+
   /**
    * {@link #blemanagerdiscoverallservicesandcharacteristicsfordevice|bleManager.discoverAllServicesAndCharacteristicsForDevice()} with partially filled arguments.
    *
@@ -180,6 +218,27 @@ export class Device implements NativeDevice {
     return this._manager.discoverAllServicesAndCharacteristicsForDevice(this.id, transactionId)
   }
 
+  /**
+   * {@link #blemanagerdiscoverservicesfordevice|bleManager.discoverServicesForDevice()} with partially filled
+   * arguments.
+   *
+   * @param {Array<UUID>} serviceUUIDs UUIDs of required {@link Service}s.
+   * @param {?TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<Array<Service>>} Promise which emits requested {@link Service}s.
+   */
+  discoverServices(serviceUUIDs: Array<UUID>, transactionId: ?TransactionId): Promise<Array<Service>> {
+    return this._manager.discoverServicesForDevice(this.id, serviceUUIDs, transactionId)
+  }
+
+  /**
+   * {@link #blemanagercachedlayoutfordevice|bleManager.cachedLayoutForDevice()} with partially filled arguments.
+   *
+   * @returns {Promise<?GattLayout>} Promise which emits layout stored for this device or `null` when there is none.
+   */
+  cachedLayout(): Promise<?GattLayout> {
+    return this._manager.cachedLayoutForDevice(this.id)
+  }
+
   /**
    * {@link #blemanagerservicesfordevice|bleManager.servicesForDevice()} with partially filled arguments.
    *
@@ -190,6 +249,15 @@ export class Device implements NativeDevice {
     return this._manager.servicesForDevice(this.id)
   }
 
+  /**
+   * {@link #blemanagergattsnapshotfordevice|bleManager.gattSnapshotForDevice()} with partially filled arguments.
+   *
+   * @returns {Promise<GattSnapshot>} Promise which emits attribute tree of this device.
+   */
+  gattSnapshot(): Promise<GattSnapshot> {
+    return this._manager.gattSnapshotForDevice(this.id)
+  }
+
   /**
    * {@link #blemanagercharacteristicsfordevice|bleManager.characteristicsForDevice()} with partially filled arguments.
    *
@@ -230,6 +298,18 @@ export class Device implements NativeDevice {
   ): Promise<Characteristic> {
     return this._manager.readCharacteristicForDevice(this.id, serviceUUID, characteristicUUID, transactionId)
   }
+  /**
+   * {@link #blemanagersetreadcachettlfordevice|bleManager.setReadCacheTtlForDevice()} with partially filled
+   * arguments.
+   *
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {number} timeToLiveMs How long the value is valid in milliseconds. 0 disables the cache.
+   */
+  setReadCacheTtlForService(serviceUUID: UUID, characteristicUUID: UUID, timeToLiveMs: number): void {
+    this._manager.setReadCacheTtlForDevice(this.id, serviceUUID, characteristicUUID, timeToLiveMs)
+  }
+
 
   /**
    * {@link #blemanagerwritecharacteristicwithresponsefordevice|bleManager.writeCharacteristicWithResponseForDevice()} with partially filled arguments.
@@ -292,23 +372,86 @@ export class Device implements NativeDevice {
    * {@link Characteristic} objects with modified value for each notification.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?MonitorOptions} options optional native processing of notifications, see {@link MonitorOptions}.
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    */
   monitorCharacteristicForService(
     serviceUUID: UUID,
     characteristicUUID: UUID,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?MonitorOptions
   ): Subscription {
     return this._manager.monitorCharacteristicForDevice(
       this.id,
       serviceUUID,
       characteristicUUID,
       listener,
+      transactionId,
+      options
+    )
+  }
+
+  /**
+   * {@link #blemanageroperationqueuestatisticsfordevice|bleManager.operationQueueStatisticsForDevice()} with
+   * partially filled arguments.
+   *
+   * @returns {Promise<?OperationQueueStatistics>} Promise which emits counters of every lane of native operation
+   * queue or `null` when device had no queued operations since it connected.
+   */
+  operationQueueStatistics(): Promise<?OperationQueueStatistics> {
+    return this._manager.operationQueueStatisticsForDevice(this.id)
+  }
+
+  /**
+   * {@link #blemanagerwritecharacteristicstreamfordevice|bleManager.writeCharacteristicStreamForDevice()} with
+   * partially filled arguments.
+   *
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {Base64} valueBase64 Whole value in Base64 format.
+   * @param {?StreamWriteOptions} options Chunking and progress options.
+   * @param {?function(progress: WriteProgress)} progressListener Called with progress of the write.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @returns {Promise<WriteProgress>} Promise which emits final progress when whole value was written.
+   */
+  writeCharacteristicStreamForService(
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    valueBase64: Base64,
+    options: ?StreamWriteOptions,
+    progressListener: ?(progress: WriteProgress) => void,
+    transactionId: ?TransactionId
+  ): Promise<WriteProgress> {
+    return this._manager.writeCharacteristicStreamForDevice(
+      this.id,
+      serviceUUID,
+      characteristicUUID,
+      valueBase64,
+      options,
+      progressListener,
       transactionId
     )
   }
 
+  /**
+   * {@link #blemanagerexecuteoperations|bleManager.executeOperations()} with partially filled arguments.
+   *
+   * @param {Array<GattOperation>} operations Operations to be executed in order.
+   * @param {?ExecuteOperationsOptions} options Execution options.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @returns {Promise<Array<GattOperationResult>>} Promise which emits results in order of operations.
+   */
+  executeOperations(
+    operations: Array<GattOperation>,
+    options: ?ExecuteOperationsOptions,
+    transactionId: ?TransactionId
+  ): Promise<Array<GattOperationResult>> {
+    return this._manager.executeOperations(this.id, operations, options, transactionId)
+  }
+
   /**
    * {@link #blemanagerreaddescriptorfordevice|bleManager.readDescriptorForDevice()} with partially filled arguments.
    *
@@ -0,0 +1,204 @@
+// @flow
+'use strict'
+
+import { Buffer } from 'buffer'
+import { Device } from './Device'
+import { fullUUID } from './Utils'
+import type { BleManager } from './BleManager'
+import type { Base64, UUID } from './TypeDefinition'
+
+/**
+ * Offsets of packed scan result layout (version 1) produced by native module when `packedScanResults` scan option is
+ * used. See `PackedScanResultEncoder` on Android for description of the layout.
+ * @private
+ */
+const Layout = {
+  VERSION: 0,
+  ADDRESS: 1,
+  RSSI: 7,
+  TX_POWER_LEVEL: 8,
+  FLAGS: 9,
+  MTU: 10,
+  NAME_LENGTH: 12,
+  NAME: 13
+}
+
+const Flags = {
+  CONNECTABLE_KNOWN: 1,
+  CONNECTABLE: 1 << 1,
+  TX_POWER_LEVEL: 1 << 2
+}
+
+const AdType = {
+  INCOMPLETE_16_BIT_UUIDS: 0x02,
+  COMPLETE_16_BIT_UUIDS: 0x03,
+  INCOMPLETE_32_BIT_UUIDS: 0x04,
+  COMPLETE_32_BIT_UUIDS: 0x05,
+  INCOMPLETE_128_BIT_UUIDS: 0x06,
+  COMPLETE_128_BIT_UUIDS: 0x07,
+  SHORTENED_LOCAL_NAME: 0x08,
+  COMPLETE_LOCAL_NAME: 0x09,
+  SOLICITED_16_BIT_UUIDS: 0x14,
+  SOLICITED_128_BIT_UUIDS: 0x15,
+  SERVICE_DATA_16_BIT_UUID: 0x16,
+  SOLICITED_32_BIT_UUIDS: 0x1f,
+  SERVICE_DATA_32_BIT_UUID: 0x20,
+  SERVICE_DATA_128_BIT_UUID: 0x21,
+  MANUFACTURER_DATA: 0xff
+}
+
+type Advertisement = {
+  manufacturerData: ?Base64,
+  serviceData: ?{ [uuid: UUID]: Base64 },
+  serviceUUIDs: ?Array<UUID>,
+  localName: ?string,
+  solicitedServiceUUIDs: ?Array<UUID>
+}
+
+/**
+ * Creates {@link Device} from packed scan result. Fields are decoded when they are accessed for the first time.
+ *
+ * @param {Base64} packed Packed scan result.
+ * @param {BleManager} manager {@link BleManager} handle.
+ * @returns {Device} Scanned device.
+ * @private
+ */
+export function unpackDevice(packed: Base64, manager: BleManager): Device {
+  const data = Buffer.from(packed, 'base64')
+  const device = new Device(({ id: readAddress(data) }: any), manager)
+  const flags = data[Layout.FLAGS]
+  const advertisementOffset = Layout.NAME + data[Layout.NAME_LENGTH]
+  var advertisement: ?Advertisement = null
+  const getAdvertisement = (): Advertisement => {
+    if (advertisement == null) {
+      advertisement = readAdvertisement(data, advertisementOffset)
+    }
+    return advertisement
+  }
+
+  defineLazy(device, 'name', () =>
+    data[Layout.NAME_LENGTH] > 0 ? data.toString('utf8', Layout.NAME, advertisementOffset) : null
+  )
+  defineLazy(device, 'rssi', () => data.readInt8(Layout.RSSI))
+  defineLazy(device, 'mtu', () => data.readUInt16LE(Layout.MTU))
+  defineLazy(device, 'txPowerLevel', () =>
+    flags & Flags.TX_POWER_LEVEL ? data.readInt8(Layout.TX_POWER_LEVEL) : null
+  )
+  defineLazy(device, 'isConnectable', () =>
+    flags & Flags.CONNECTABLE_KNOWN ? (flags & Flags.CONNECTABLE) !== 0 : null
+  )
+  defineLazy(device, 'overflowServiceUUIDs', () => null)
+  defineLazy(device, 'manufacturerData', () => getAdvertisement().manufacturerData)
+  defineLazy(device, 'serviceData', () => getAdvertisement().serviceData)
+  defineLazy(device, 'serviceUUIDs', () => getAdvertisement().serviceUUIDs)
+  defineLazy(device, 'localName', () => getAdvertisement().localName)
+  defineLazy(device, 'solicitedServiceUUIDs', () => getAdvertisement().solicitedServiceUUIDs)
+  return device
+}
+
+function defineLazy(object: Object, key: string, decode: () => mixed) {
+  Object.defineProperty(object, key, {
+    configurable: true,
+    enumerable: true,
+    get: () => {
+      const value = decode()
+      Object.defineProperty(object, key, { value, configurable: true, enumerable: true, writable: true })
+      return value
+    },
+    set: value => {
+      Object.defineProperty(object, key, { value, configurable: true, enumerable: true, writable: true })
+    }
+  })
+}
+
+function readAddress(data: Buffer): string {
+  const bytes = []
+  for (let i = Layout.ADDRESS; i < Layout.ADDRESS + 6; i++) {
+    bytes.push(toHex(data[i]))
+  }
+  return bytes.join(':').toUpperCase()
+}
+
+function readAdvertisement(data: Buffer, offset: number): Advertisement {
+  const advertisement: Advertisement = {
+    manufacturerData: null,
+    serviceData: null,
+    serviceUUIDs: null,
+    localName: null,
+    solicitedServiceUUIDs: null
+  }
+  const addUUIDs = (uuids: ?Array<UUID>, start: number, end: number, size: number): Array<UUID> => {
+    const result = uuids || []
+    for (let i = start; i + size <= end; i += size) {
+      result.push(readUUID(data, i, size))
+    }
+    return result
+  }
+
+  let position = offset
+  while (position + 1 < data.length) {
+    const length = data[position]
+    if (length === 0) break
+    const type = data[position + 1]
+    const start = position + 2
+    const end = Math.min(position + 1 + length, data.length)
+    switch (type) {
+      case AdType.INCOMPLETE_16_BIT_UUIDS:
+      case AdType.COMPLETE_16_BIT_UUIDS:
+        advertisement.serviceUUIDs = addUUIDs(advertisement.serviceUUIDs, start, end, 2)
+        break
+      case AdType.INCOMPLETE_32_BIT_UUIDS:
+      case AdType.COMPLETE_32_BIT_UUIDS:
+        advertisement.serviceUUIDs = addUUIDs(advertisement.serviceUUIDs, start, end, 4)
+        break
+      case AdType.INCOMPLETE_128_BIT_UUIDS:
+      case AdType.COMPLETE_128_BIT_UUIDS:
+        advertisement.serviceUUIDs = addUUIDs(advertisement.serviceUUIDs, start, end, 16)
+        break
+      case AdType.SOLICITED_16_BIT_UUIDS:
+        advertisement.solicitedServiceUUIDs = addUUIDs(advertisement.solicitedServiceUUIDs, start, end, 2)
+        break
+      case AdType.SOLICITED_32_BIT_UUIDS:
+        advertisement.solicitedServiceUUIDs = addUUIDs(advertisement.solicitedServiceUUIDs, start, end, 4)
+        break
+      case AdType.SOLICITED_128_BIT_UUIDS:
+        advertisement.solicitedServiceUUIDs = addUUIDs(advertisement.solicitedServiceUUIDs, start, end, 16)
+        break
+      case AdType.SHORTENED_LOCAL_NAME:
+      case AdType.COMPLETE_LOCAL_NAME:
+        advertisement.localName = data.toString('utf8', start, end)
+        break
+      case AdType.SERVICE_DATA_16_BIT_UUID:
+      case AdType.SERVICE_DATA_32_BIT_UUID:
+      case AdType.SERVICE_DATA_128_BIT_UUID: {
+        const size = type === AdType.SERVICE_DATA_16_BIT_UUID ? 2 : type === AdType.SERVICE_DATA_32_BIT_UUID ? 4 : 16
+        if (start + size > end) break
+        const serviceData = advertisement.serviceData || {}
+        serviceData[readUUID(data, start, size)] = data.slice(start + size, end).toString('base64')
+        advertisement.serviceData = serviceData
+        break
+      }
+      case AdType.MANUFACTURER_DATA:
+        advertisement.manufacturerData = data.slice(start, end).toString('base64')
+        break
+    }
+    position += length + 1
+  }
+  return advertisement
+}
+
+function readUUID(data: Buffer, offset: number, size: number): UUID {
+  // AD structures store UUIDs little endian
+  let hex = ''
+  for (let i = offset + size - 1; i >= offset; i--) {
+    hex += toHex(data[i])
+  }
+  if (size < 16) {
+    return fullUUID(hex)
+  }
+  return [hex.substr(0, 8), hex.substr(8, 4), hex.substr(12, 4), hex.substr(16, 4), hex.substr(20, 12)].join('-')
+}
+
+function toHex(byte: number): string {
+  return (byte < 16 ? '0' : '') + byte.toString(16)
+}
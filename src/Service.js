@@ -6,7 +6,15 @@ import type { BleError } from './BleError'
 import type { Characteristic } from './Characteristic'
 import type { Descriptor } from './Descriptor'
 import type { NativeService } from './BleModule'
-import type { DeviceId, Identifier, Base64, UUID, Subscription, TransactionId } from './TypeDefinition'
+import type {
+  DeviceId,
+  Identifier,
+  Base64,
+  UUID,
+  Subscription,
+  TransactionId,
+  MonitorOptions
+} from './TypeDefinition'
 
 /**
  * Service object.
@@ -134,14 +142,16 @@ export class Service implements NativeService {
    * {@link Characteristic} objects with modified value for each notification.
    * @param {?TransactionId} transactionId optional `transactionId` which can be used in
    * {@link #blemanagercanceltransaction|bleManager.cancelTransaction()} function.
+   * @param {?MonitorOptions} options optional native processing of notifications, see {@link MonitorOptions}.
    * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
    */
   monitorCharacteristic(
     characteristicUUID: UUID,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void,
-    transactionId: ?TransactionId
+    transactionId: ?TransactionId,
+    options: ?MonitorOptions
   ): Subscription {
-    return this._manager._monitorCharacteristicForService(this.id, characteristicUUID, listener, transactionId)
+    return this._manager._monitorCharacteristicForService(this.id, characteristicUUID, listener, transactionId, options)
   }
 
   /**
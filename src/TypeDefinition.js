@@ -2,6 +2,10 @@
 'use strict'
 
 import type { Device } from './Device'
+import type { Service } from './Service'
+import type { Characteristic } from './Characteristic'
+import type { Descriptor } from './Descriptor'
+import type { BleError } from './BleError'
 import { BleErrorCode } from './BleError'
 
 /**
@@ -29,6 +33,11 @@ export type Base64 = string
  */
 export type TransactionId = string
 
+/**
+ * Handle of a characteristic returned by {@link #blemanagerpreparecharacteristic|prepareCharacteristic()}.
+ */
+export type CharacteristicHandle = number
+
 /**
  * [Android only] ConnectionOptions parameter to describe when to call BluetoothGatt.refresh()
  */
@@ -178,108 +187,1449 @@ export interface ScanOptions {
    * @instance
    */
   callbackType?: $Values<typeof ScanCallbackType>;
+
+  /**
+   * When set, scanned devices are collected natively and delivered in a single event every `batchIntervalMs`
+   * milliseconds instead of one event per advertisement. Listener is still called once per device. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  batchIntervalMs?: number;
+
+  /**
+   * Maximum number of devices in one batch. A batch is delivered earlier when this limit is reached. Used only
+   * together with `batchIntervalMs`. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  maxBatchSize?: number;
+
+  /**
+   * When true, repeated advertisements of the same device are dropped natively unless RSSI changed by at least
+   * `rssiChangeThreshold`, manufacturer or service data changed, or `refreshIntervalMs` passed since the device was
+   * last reported. Useful with {@link ScanCallbackType.AllMatches}. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  deduplicate?: boolean;
+
+  /**
+   * Minimal RSSI change (in dBm) which makes a repeated advertisement to be reported. Defaults to 5. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  rssiChangeThreshold?: number;
+
+  /**
+   * Number of milliseconds after which a device is reported again even if nothing changed. Defaults to 1000.
+   * Value of 0 disables periodic reporting. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  refreshIntervalMs?: number;
+
+  /**
+   * Delay of scan results reports in milliseconds. When greater than 0 and supported by the Bluetooth controller,
+   * results are queued in the controller and each controller batch is delivered to the listener at once, which
+   * reduces application wakeups. Whether the delay was applied is reported by
+   * {@link #blemanagerscanstatistics|scanStatistics()}. Scan is performed by platform scanner directly.
+   * [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  reportDelayMs?: number;
+
+  /**
+   * List of advertisement filters evaluated natively before scanned devices are passed to JS. Device is reported when
+   * it matches any of the filters. Invalid filter fails the scan with {@link BleErrorCode.ScanStartFailed}.
+   * [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  advertisementFilters?: Array<AdvertisementFilter>;
+
+  /**
+   * List of filters offloaded to the Bluetooth controller, so that non matching advertisements do not wake up the
+   * application. Device is reported when it matches any of the filters and, if service UUIDs are passed to
+   * {@link BleManager#startDeviceScan}, advertises one of them. Scan fails with
+   * {@link BleErrorCode.ScanStartFailed} when no filter can match the UUIDs. When specified, scan is performed by
+   * platform scanner directly.
+   * [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  hardwareFilters?: Array<HardwareScanFilter>;
+
+  /**
+   * When greater than 0, scanned devices are kept in native registry until they are not seen for `registryTtlMs`
+   * milliseconds. Registry can be queried with {@link BleManager#scannedDevices}. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  registryTtlMs?: number;
+
+  /**
+   * Maximal number of devices kept in scan registry. Least recently seen device leaves the registry when it is full.
+   * Defaults to 256. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  registryMaxSize?: number;
+
+  /**
+   * If true, devices entering and leaving scan registry are reported to
+   * {@link BleManager#onScannedDevicesChange} listeners. Defaults to false. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  registryEvents?: boolean;
+
+  /**
+   * If false, scanned devices are not passed to scan listener and only feed scan registry. Defaults to true.
+   * [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  emitScanResults?: boolean;
+
+  /**
+   * Enables native per device RSSI filter: 'ema' for exponential moving average or 'kalman' for one dimensional
+   * Kalman filter. Scanned devices get `smoothedRssi` and estimated `distance`, which uses advertised TX power
+   * when available. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  rssiSmoothing?: 'ema' | 'kalman';
+
+  /**
+   * Weight of new sample in 'ema' RSSI smoothing, between 0 and 1. Defaults to 0.3. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  rssiSmoothingFactor?: number;
+
+  /**
+   * Path loss exponent used for distance estimation. 2 is free space, 2.7 to 4 are typical indoors.
+   * Defaults to 2. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  pathLossExponent?: number;
+
+  /**
+   * If true, scanned devices are passed from native module as packed binary strings, which are much cheaper to
+   * serialize than objects. Fields of scanned {@link Device} are decoded when they are accessed for the first time.
+   * `smoothedRssi` and `distance` are not available in this mode. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  packedScanResults?: boolean;
 }
 
 /**
- * Connection specific options to be passed before connection happen. [Not used]
+ * Scan filter evaluated by the Bluetooth controller. All specified conditions have to be met for advertisement to
+ * match. Masks have to be of the same length as data, bits set to 1 in a mask have to match. [Android only]
+ * @name HardwareScanFilter
  */
-export interface ConnectionOptions {
+export interface HardwareScanFilter {
   /**
-   * Whether to directly connect to the remote device (false) or to automatically connect as soon as the remote device
-   * becomes available (true). [Android only]
-   * @memberof ConnectionOptions
+   * Device identifier (MAC address).
+   * @memberof HardwareScanFilter
    * @instance
    */
-  autoConnect?: boolean;
+  deviceId?: DeviceId;
 
   /**
-   * Whether MTU size will be negotiated to this value. It is not guaranteed to get it after connection is successful.
-   *
-   * @memberof ConnectionOptions
+   * Service UUID which has to be advertised.
+   * @memberof HardwareScanFilter
    * @instance
    */
-  requestMTU?: number;
+  serviceUUID?: UUID;
 
   /**
-   * Whether action will be taken to reset services cache. This option may be useful when a peripheral's firmware was
-   * updated and it's services/characteristics were added/removed/altered. [Android only]
-   * {@link https://stackoverflow.com/questions/22596951/how-to-programmatically-force-bluetooth-low-energy-service-discovery-on-android}
-   * @memberof ConnectionOptions
+   * Bluetooth SIG company identifier of manufacturer data.
+   * @memberof HardwareScanFilter
    * @instance
    */
-  refreshGatt?: RefreshGattMoment;
+  manufacturerId?: number;
 
   /**
-   * Number of milliseconds after connection is automatically timed out. In case of race condition were connection is
-   * established right after timeout event, device will be disconnected immediately. Time out may happen earlier then
-   * specified due to OS specific behavior.
-   *
-   * @memberof ConnectionOptions
+   * Base64 value of manufacturer data following company identifier. Requires `manufacturerId`.
+   * @memberof HardwareScanFilter
    * @instance
    */
-  timeout?: number;
+  manufacturerData?: Base64;
+
+  /**
+   * Base64 mask of `manufacturerData`.
+   * @memberof HardwareScanFilter
+   * @instance
+   */
+  manufacturerDataMask?: Base64;
+
+  /**
+   * Service UUID of service data.
+   * @memberof HardwareScanFilter
+   * @instance
+   */
+  serviceDataUUID?: UUID;
+
+  /**
+   * Base64 value of service data. Requires `serviceDataUUID`.
+   * @memberof HardwareScanFilter
+   * @instance
+   */
+  serviceData?: Base64;
+
+  /**
+   * Base64 mask of `serviceData`.
+   * @memberof HardwareScanFilter
+   * @instance
+   */
+  serviceDataMask?: Base64;
 }
 
 /**
- * Device Bluetooth Low Energy state. It's keys are used to check {@link #blemanagerstate} values
- * received by {@link BleManager}
+ * Advertisement filter spec. All specified conditions have to be met for advertisement to match. [Android only]
+ * @name AdvertisementFilter
  */
-export const State = {
+export interface AdvertisementFilter {
   /**
-   * The current state of the manager is unknown; an update is imminent.
+   * Bluetooth SIG company identifier stored in first two bytes of manufacturer data.
+   * @memberof AdvertisementFilter
+   * @instance
    */
-  Unknown: 'Unknown',
+  manufacturerId?: number;
+
   /**
-   * The connection with the system service was momentarily lost; an update is imminent.
+   * Base64 value which manufacturer data has to start with, compared after company identifier.
+   * @memberof AdvertisementFilter
+   * @instance
    */
-  Resetting: 'Resetting',
+  manufacturerDataPrefix?: Base64;
+
   /**
-   * The platform does not support Bluetooth low energy.
+   * Service UUID which has to be advertised.
+   * @memberof AdvertisementFilter
+   * @instance
    */
-  Unsupported: 'Unsupported',
+  serviceUUID?: UUID;
+
   /**
-   * The app is not authorized to use Bluetooth low energy.
+   * Service UUID for which service data has to be advertised.
+   * @memberof AdvertisementFilter
+   * @instance
    */
-  Unauthorized: 'Unauthorized',
+  serviceDataUUID?: UUID;
+
   /**
-   * Bluetooth is currently powered off.
+   * Base64 value which service data of `serviceDataUUID` has to start with.
+   * @memberof AdvertisementFilter
+   * @instance
    */
-  PoweredOff: 'PoweredOff',
+  serviceDataPrefix?: Base64;
+
   /**
-   * Bluetooth is currently powered on and available to use.
+   * Minimal RSSI of advertisement.
+   * @memberof AdvertisementFilter
+   * @instance
    */
-  PoweredOn: 'PoweredOn'
+  minRssi?: number;
+
+  /**
+   * Prefix of advertised local name (or device name when local name is not advertised).
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  localNamePrefix?: string;
 }
 
 /**
- * Native module logging log level. By default it is set to None.
- * @name LogLevel
+ * Device held by scan registry. [Android only]
+ * @name ScannedDevice
  */
-export const LogLevel = {
+export interface ScannedDevice {
   /**
-   * Logging in native module is disabled
+   * Device with its latest advertisement.
+   * @memberof ScannedDevice
+   * @instance
    */
-  None: 'None',
+  device: Device;
+
   /**
-   * All logs in native module are shown
+   * Timestamp in milliseconds when the device was seen for the first time.
+   * @memberof ScannedDevice
+   * @instance
    */
-  Verbose: 'Verbose',
+  firstSeen: number;
+
   /**
-   * Only debug logs and of higher importance are shown in native module.
+   * Timestamp in milliseconds when the device was seen for the last time.
+   * @memberof ScannedDevice
+   * @instance
    */
-  Debug: 'Debug',
+  lastSeen: number;
+
   /**
-   * Only info logs and of higher importance are shown in native module.
+   * Number of advertisements received from the device.
+   * @memberof ScannedDevice
+   * @instance
    */
-  Info: 'Info',
+  sightings: number;
+}
+
+/**
+ * Device which entered or left scan registry. [Android only]
+ * @name ScanRegistryChange
+ */
+export interface ScanRegistryChange extends ScannedDevice {
   /**
-   * Only warning logs and of higher importance are shown in native module.
+   * Either 'enter' or 'leave'.
+   * @memberof ScanRegistryChange
+   * @instance
    */
-  Warning: 'Warning',
+  type: 'enter' | 'leave';
+}
+
+/**
+ * Counters describing work done by native module during the current (or last) device scan. [Android only]
+ * @name ScanStatistics
+ */
+export interface ScanStatistics {
   /**
-   * Only error logs and of higher importance are shown in native module.
+   * Number of advertisements received from the platform scanner.
+   * @memberof ScanStatistics
+   * @instance
    */
-  Error: 'Error'
+  receivedResults: number;
+
+  /**
+   * Number of advertisements rejected by `advertisementFilters` option.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  filteredResults: number;
+
+  /**
+   * Number of advertisements dropped as duplicates when `deduplicate` option is used.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  duplicateResults: number;
+
+  /**
+   * Number of scanned devices sent to JS, one by one or in batches.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  emittedResults: number;
+
+  /**
+   * Number of scanned devices collected into batches.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  batchedResults: number;
+
+  /**
+   * Number of batches sent to JS.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  emittedBatches: number;
+
+  /**
+   * Report delay in milliseconds applied by the Bluetooth controller. It is 0 when `reportDelayMs` wasn't requested
+   * or when the controller doesn't support offloaded batching, in which case results are reported one by one.
+   * @memberof ScanStatistics
+   * @instance
+   */
+  reportDelayMs: number;
+}
+
+/**
+ * Options of native processing of characteristic notifications. [Android only]
+ * @name MonitorOptions
+ */
+export interface MonitorOptions {
+  /**
+   * Reassemble messages split into several notifications before they are passed to the listener. Listener receives
+   * only complete messages as characteristic value. Broken fragment sequences are reported to the listener as
+   * {@link BleErrorCode.CharacteristicInvalidDataFormat} errors without ending the monitoring.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  framing?: FramingOptions;
+
+  /**
+   * Keep only the latest notification and pass it to the listener once per given number of milliseconds. Use it when
+   * device notifies faster than application needs its values, conversion cost then depends on the sampling rate
+   * only. Monitoring without new notifications emits nothing.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  sampleIntervalMs?: number;
+
+  /**
+   * Aggregate numeric fields of notifications natively and pass only one summary per time window to the listener.
+   * Summary arrives as `aggregate` property of {@link Characteristic} whose `value` is `null`. Takes precedence over
+   * `batch` option. Invalid layout fails monitoring with {@link BleErrorCode.CharacteristicNotifyChangeFailed}.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  aggregate?: AggregateOptions;
+
+  /**
+   * Deliver notifications to JS in batches instead of one event per notification. Listener is still called for
+   * every value, each {@link Characteristic} carries `timestamp` of its arrival in native code.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  batch?: NotificationBatchOptions;
+
+  /**
+   * Keep notifications in bounded native queue and send them only when JS is ready to handle them. By default
+   * credits are granted back automatically after the listener returns.
+   * @memberof MonitorOptions
+   * @instance
+   */
+  flowControl?: FlowControlOptions;
+}
+
+/**
+ * Header of fragments of a message. Every fragment carries a countdown byte with number of fragments still to come,
+ * so the last fragment has countdown 0. [Android only]
+ * @name FramingOptions
+ */
+export interface FramingOptions {
+  /**
+   * Length of fragment header which is stripped from payload. Defaults to 2.
+   * @memberof FramingOptions
+   * @instance
+   */
+  headerLength?: number;
+
+  /**
+   * Offset of countdown byte in fragment header. Defaults to 0.
+   * @memberof FramingOptions
+   * @instance
+   */
+  countdownOffset?: number;
+
+  /**
+   * Maximal length of reassembled message in bytes. Longer messages are dropped and reported as errors.
+   * Unlimited by default.
+   * @memberof FramingOptions
+   * @instance
+   */
+  maxMessageLength?: number;
+}
+
+/**
+ * Windowed aggregation of numeric fields of characteristic value. [Android only]
+ * @name AggregateOptions
+ */
+export interface AggregateOptions {
+  /**
+   * Length of aggregation window in milliseconds. Defaults to 1000.
+   * @memberof AggregateOptions
+   * @instance
+   */
+  windowMs?: number;
+
+  /**
+   * Layout of aggregated fields in characteristic value. Notifications too short for the layout are skipped.
+   * @memberof AggregateOptions
+   * @instance
+   */
+  fields: Array<ValueField>;
+}
+
+/**
+ * Numeric field of characteristic value. Field value is the raw integer multiplied by `scale`.
+ * @name ValueField
+ */
+export interface ValueField {
+  /**
+   * Offset of the field in bytes. Defaults to 0.
+   * @memberof ValueField
+   * @instance
+   */
+  offset?: number;
+
+  /**
+   * Width of the field in bytes, from 1 to 8.
+   * @memberof ValueField
+   * @instance
+   */
+  width: number;
+
+  /**
+   * Whether the field is two's complement signed integer. Defaults to false.
+   * @memberof ValueField
+   * @instance
+   */
+  signed?: boolean;
+
+  /**
+   * Whether the field is little endian. Defaults to true, as in most of Bluetooth SIG characteristics.
+   * @memberof ValueField
+   * @instance
+   */
+  littleEndian?: boolean;
+
+  /**
+   * Multiplier applied to the raw integer. Defaults to 1.
+   * @memberof ValueField
+   * @instance
+   */
+  scale?: number;
+}
+
+/**
+ * Summary of aggregated notifications from a single time window.
+ * @name CharacteristicAggregate
+ */
+export interface CharacteristicAggregate {
+  /**
+   * Start of the window in milliseconds since epoch.
+   * @memberof CharacteristicAggregate
+   * @instance
+   */
+  windowStart: number;
+
+  /**
+   * End of the window in milliseconds since epoch.
+   * @memberof CharacteristicAggregate
+   * @instance
+   */
+  windowEnd: number;
+
+  /**
+   * Number of aggregated notifications.
+   * @memberof CharacteristicAggregate
+   * @instance
+   */
+  count: number;
+
+  /**
+   * Number of notifications skipped because they were too short for the layout.
+   * @memberof CharacteristicAggregate
+   * @instance
+   */
+  skipped: number;
+
+  /**
+   * Summaries of fields in the order of {@link AggregateOptions} fields.
+   * @memberof CharacteristicAggregate
+   * @instance
+   */
+  fields: Array<AggregatedField>;
+}
+
+/**
+ * Summary of a single field. All values are `null` when no notification was aggregated in the window.
+ * @name AggregatedField
+ */
+export interface AggregatedField {
+  /**
+   * Minimal value in the window.
+   * @memberof AggregatedField
+   * @instance
+   */
+  min: ?number;
+
+  /**
+   * Maximal value in the window.
+   * @memberof AggregatedField
+   * @instance
+   */
+  max: ?number;
+
+  /**
+   * Arithmetic mean of values in the window.
+   * @memberof AggregatedField
+   * @instance
+   */
+  mean: ?number;
+
+  /**
+   * Last value in the window.
+   * @memberof AggregatedField
+   * @instance
+   */
+  last: ?number;
+}
+
+/**
+ * Batching of characteristic notifications. Batch is sent when time window passes or when it reaches maximal size,
+ * whichever comes first. [Android only]
+ * @name NotificationBatchOptions
+ */
+export interface NotificationBatchOptions {
+  /**
+   * Time window in milliseconds after which collected notifications are sent.
+   * @memberof NotificationBatchOptions
+   * @instance
+   */
+  intervalMs?: number;
+
+  /**
+   * Number of notifications after which batch is sent before its time window passes.
+   * @memberof NotificationBatchOptions
+   * @instance
+   */
+  maxSize?: number;
+}
+
+/**
+ * Flow control of monitored notifications. Native module emits one event per credit, events without credit wait in
+ * native queue of bounded size. [Android only]
+ * @name FlowControlOptions
+ */
+export interface FlowControlOptions {
+  /**
+   * Maximal number of events waiting in native queue. Defaults to 64.
+   * @memberof FlowControlOptions
+   * @instance
+   */
+  queueSize?: number;
+
+  /**
+   * What happens when queue is full. Defaults to {@link OverflowPolicy.DropOldest}. With `batch` option, the first
+   * batch carries characteristic metadata for the following ones and is never dropped.
+   * @memberof FlowControlOptions
+   * @instance
+   */
+  overflow?: $Keys<typeof OverflowPolicy>;
+
+  /**
+   * How long notification thread waits for free space with {@link OverflowPolicy.BlockWithTimeout} policy
+   * before notification is dropped. Defaults to 100 ms.
+   * @memberof FlowControlOptions
+   * @instance
+   */
+  blockTimeoutMs?: number;
+
+  /**
+   * Number of events native module can send before it waits for more credits. Defaults to 16.
+   * @memberof FlowControlOptions
+   * @instance
+   */
+  credits?: number;
+
+  /**
+   * When set, credits are not granted back automatically and application has to call
+   * {@link #blemanagergrantmonitorcredits|grantMonitorCredits()} itself.
+   * @memberof FlowControlOptions
+   * @instance
+   */
+  manualCredits?: boolean;
+}
+
+/**
+ * Counters of monitoring with flow control.
+ * @name MonitorStatistics
+ */
+export interface MonitorStatistics {
+  /**
+   * Number of events waiting in native queue.
+   * @memberof MonitorStatistics
+   * @instance
+   */
+  queued: number;
+
+  /**
+   * Number of notifications dropped because queue was full or monitoring ended.
+   * @memberof MonitorStatistics
+   * @instance
+   */
+  dropped: number;
+
+  /**
+   * Number of events sent to JS.
+   * @memberof MonitorStatistics
+   * @instance
+   */
+  emitted: number;
+
+  /**
+   * Number of events native module can still send without new credits.
+   * @memberof MonitorStatistics
+   * @instance
+   */
+  credits: number;
+}
+
+/**
+ * Single operation executed by {@link #blemanagerexecuteoperations|executeOperations()}.
+ * @name GattOperation
+ */
+export interface GattOperation {
+  /**
+   * Kind of the operation.
+   * @memberof GattOperation
+   * @instance
+   */
+  type: $Keys<typeof GattOperationType>;
+
+  /**
+   * {@link Service} UUID.
+   * @memberof GattOperation
+   * @instance
+   */
+  serviceUUID: UUID;
+
+  /**
+   * {@link Characteristic} UUID.
+   * @memberof GattOperation
+   * @instance
+   */
+  characteristicUUID: UUID;
+
+  /**
+   * {@link Descriptor} UUID, required by descriptor operations.
+   * @memberof GattOperation
+   * @instance
+   */
+  descriptorUUID?: UUID;
+
+  /**
+   * Value to be written in Base64 format, required by write operations.
+   * @memberof GattOperation
+   * @instance
+   */
+  value?: Base64;
+
+  /**
+   * Whether characteristic write waits for response. Defaults to true.
+   * @memberof GattOperation
+   * @instance
+   */
+  withResponse?: boolean;
+}
+
+/**
+ * Options of {@link #blemanagerexecuteoperations|executeOperations()}.
+ * @name ExecuteOperationsOptions
+ */
+export interface ExecuteOperationsOptions {
+  /**
+   * Stop at the first failed operation. Results of operations after it are not included. Defaults to false.
+   * @memberof ExecuteOperationsOptions
+   * @instance
+   */
+  stopOnError?: boolean;
+}
+
+/**
+ * Result of a single operation executed by {@link #blemanagerexecuteoperations|executeOperations()}.
+ * @name GattOperationResult
+ */
+export interface GattOperationResult {
+  /**
+   * Reason of failure or `null` if operation succeeded.
+   * @memberof GattOperationResult
+   * @instance
+   */
+  error: ?BleError;
+
+  /**
+   * Characteristic read or written by the operation.
+   * @memberof GattOperationResult
+   * @instance
+   */
+  characteristic: ?Characteristic;
+
+  /**
+   * Descriptor read or written by the operation.
+   * @memberof GattOperationResult
+   * @instance
+   */
+  descriptor: ?Descriptor;
+}
+
+/**
+ * Options of {@link #blemanagerwritecharacteristicstreamfordevice|writeCharacteristicStreamForDevice()}.
+ * @name StreamWriteOptions
+ */
+export interface StreamWriteOptions {
+  /**
+   * Offset in bytes from which the value is written. Pass `acknowledgedOffset` of the last {@link WriteProgress} to
+   * resume interrupted transfer. Defaults to 0.
+   * @memberof StreamWriteOptions
+   * @instance
+   */
+  offset?: number;
+
+  /**
+   * Size of a single chunk in bytes. Defaults to negotiated MTU minus 3 bytes of ATT header.
+   * @memberof StreamWriteOptions
+   * @instance
+   */
+  chunkSize?: number;
+
+  /**
+   * Maximum number of chunks written without response which wait for completion at once. Defaults to 4.
+   * @memberof StreamWriteOptions
+   * @instance
+   */
+  window?: number;
+
+  /**
+   * Every n-th chunk is written with response and marks acknowledged offset. The last chunk is always written with
+   * response. 0 disables checkpoints. Defaults to 16.
+   * @memberof StreamWriteOptions
+   * @instance
+   */
+  checkpointInterval?: number;
+
+  /**
+   * Minimal interval in milliseconds between progress events. Defaults to 100.
+   * @memberof StreamWriteOptions
+   * @instance
+   */
+  progressIntervalMs?: number;
+}
+
+/**
+ * Progress of {@link #blemanagerwritecharacteristicstreamfordevice|writeCharacteristicStreamForDevice()}.
+ * @name WriteProgress
+ */
+export interface WriteProgress {
+  /**
+   * Number of bytes from the beginning of the value which were written.
+   * @memberof WriteProgress
+   * @instance
+   */
+  offset: number;
+
+  /**
+   * Number of bytes from the beginning of the value confirmed by the device. Transfer can be resumed from here.
+   * @memberof WriteProgress
+   * @instance
+   */
+  acknowledgedOffset: number;
+
+  /**
+   * Size of the whole value in bytes.
+   * @memberof WriteProgress
+   * @instance
+   */
+  total: number;
+}
+
+/**
+ * Scheduling of operations started with a transaction, see
+ * {@link #blemanagerscheduletransaction|scheduleTransaction()}.
+ * @name ScheduleOptions
+ */
+export interface ScheduleOptions {
+  /**
+   * Lane of the native per device queue. Defaults to {@link OperationPriority.Interactive}.
+   * @memberof ScheduleOptions
+   * @instance
+   */
+  priority?: $Keys<typeof OperationPriority>;
+
+  /**
+   * Time in milliseconds operation may wait in the queue before it fails with
+   * {@link #bleerrorcodeoperationtimedout|OperationTimedOut}. 0 or missing means no limit.
+   * @memberof ScheduleOptions
+   * @instance
+   */
+  deadlineMs?: number;
+}
+
+/**
+ * Counters of a single lane of native operation queue.
+ * @name OperationLaneStatistics
+ */
+export interface OperationLaneStatistics {
+  /**
+   * Number of operations waiting in the lane.
+   * @memberof OperationLaneStatistics
+   * @instance
+   */
+  queued: number;
+
+  /**
+   * Number of operations passed to the adapter.
+   * @memberof OperationLaneStatistics
+   * @instance
+   */
+  executed: number;
+
+  /**
+   * Number of operations which waited longer than their `deadlineMs` and failed.
+   * @memberof OperationLaneStatistics
+   * @instance
+   */
+  expired: number;
+
+  /**
+   * Number of queued operations removed by transaction cancellation.
+   * @memberof OperationLaneStatistics
+   * @instance
+   */
+  cancelled: number;
+
+  /**
+   * Average time in milliseconds executed operations spent in the queue.
+   * @memberof OperationLaneStatistics
+   * @instance
+   */
+  averageWaitMs: number;
+
+  /**
+   * Longest time in milliseconds an executed operation spent in the queue.
+   * @memberof OperationLaneStatistics
+   * @instance
+   */
+  maxWaitMs: number;
+}
+
+/**
+ * Counters of native operation queue of a device, one entry per {@link OperationPriority}.
+ * @name OperationQueueStatistics
+ */
+export type OperationQueueStatistics = { [priority: $Keys<typeof OperationPriority>]: OperationLaneStatistics }
+
+/**
+ * Connection specific options to be passed before connection happen. [Not used]
+ */
+export interface ConnectionOptions {
+  /**
+   * Whether to directly connect to the remote device (false) or to automatically connect as soon as the remote device
+   * becomes available (true). [Android only]
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  autoConnect?: boolean;
+
+  /**
+   * Whether MTU size will be negotiated to this value. It is not guaranteed to get it after connection is successful.
+   *
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  requestMTU?: number;
+
+  /**
+   * Whether action will be taken to reset services cache. This option may be useful when a peripheral's firmware was
+   * updated and it's services/characteristics were added/removed/altered. [Android only]
+   * {@link https://stackoverflow.com/questions/22596951/how-to-programmatically-force-bluetooth-low-energy-service-discovery-on-android}
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  refreshGatt?: RefreshGattMoment;
+
+  /**
+   * Number of milliseconds after connection is automatically timed out. In case of race condition were connection is
+   * established right after timeout event, device will be disconnected immediately. Time out may happen earlier then
+   * specified due to OS specific behavior.
+   *
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  timeout?: number;
+
+  /**
+   * Reconnects the device natively when it disconnects without
+   * {@link #blemanagercanceldeviceconnection|cancelDeviceConnection()}. Attempts use the options of this connection,
+   * so MTU and connection priority are requested again, and monitors keep running without resubscribing. Monitors
+   * started by service or characteristic identifier are resubscribed by device and UUIDs, as identifiers change after
+   * reconnection. Progress is reported by {@link #blemanagerondevicereconnection|onDeviceReconnection()}.
+   * [Android only]
+   *
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  autoReconnect?: ReconnectOptions;
+}
+
+/**
+ * Backoff of native reconnection. Attempt `n` (counting from 0) waits `initialDelayMs * multiplier^n` milliseconds
+ * capped at `maxDelayMs`, of which the `jitter` fraction is randomized. [Android only]
+ */
+export interface ReconnectOptions {
+  /**
+   * Number of attempts after which reconnection gives up, 0 for no limit. Defaults to 0.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  maxAttempts?: number;
+
+  /**
+   * Delay before the first attempt in milliseconds. Defaults to 500.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  initialDelayMs?: number;
+
+  /**
+   * Upper bound of the delay in milliseconds. Defaults to 30000.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  maxDelayMs?: number;
+
+  /**
+   * Factor by which the delay grows with every attempt, at least 1. Defaults to 2.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  multiplier?: number;
+
+  /**
+   * Randomized fraction of the delay between 0 and 1, which spreads attempts of several devices. Defaults to 0.5.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  jitter?: number;
+}
+
+/**
+ * Progress of native reconnection of a device.
+ */
+export interface ReconnectionEvent {
+  /**
+   * Reconnected {@link Device} identifier.
+   * @memberof ReconnectionEvent
+   * @instance
+   */
+  deviceID: DeviceId;
+
+  /**
+   * Reconnection state.
+   * @memberof ReconnectionEvent
+   * @instance
+   */
+  state: $Keys<typeof ReconnectionState>;
+
+  /**
+   * Number of the scheduled, successful or last failed attempt, counting from 1.
+   * @memberof ReconnectionEvent
+   * @instance
+   */
+  attempt: number;
+
+  /**
+   * Delay before the scheduled attempt in milliseconds. Set for {@link ReconnectionState.Reconnecting}.
+   * @memberof ReconnectionEvent
+   * @instance
+   */
+  delayMs?: number;
+
+  /**
+   * Time since disconnection in milliseconds. Set for {@link ReconnectionState.Reconnected} and
+   * {@link ReconnectionState.Failed}.
+   * @memberof ReconnectionEvent
+   * @instance
+   */
+  downtimeMs?: number;
+
+  /**
+   * Duration of the successful connection attempt in milliseconds. Set for {@link ReconnectionState.Reconnected}.
+   * @memberof ReconnectionEvent
+   * @instance
+   */
+  attemptDurationMs?: number;
+
+  /**
+   * Number of monitor subscriptions which are restored. Set for {@link ReconnectionState.Reconnected}.
+   * @memberof ReconnectionEvent
+   * @instance
+   */
+  restoredSubscriptions?: number;
+}
+
+/**
+ * Limits of the native connection pool. [Android only]
+ */
+export interface ConnectionPoolOptions {
+  /**
+   * Number of devices connected at once, 0 for no limit. When the limit is reached, the least recently used device
+   * without active monitors is disconnected to make room for a new connection. Defaults to 0.
+   * @memberof ConnectionPoolOptions
+   * @instance
+   */
+  maxConnections?: number;
+
+  /**
+   * How long a connection request waits for a free slot in milliseconds before it fails, 0 to wait indefinitely.
+   * Defaults to 0.
+   * @memberof ConnectionPoolOptions
+   * @instance
+   */
+  queueTimeoutMs?: number;
+}
+
+/**
+ * Occupancy and counters of the native connection pool. [Android only]
+ */
+export interface ConnectionPoolStatistics {
+  /**
+   * Configured limit of connected devices, 0 for no limit.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  maxConnections: number;
+
+  /**
+   * Number of connected devices.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  connected: number;
+
+  /**
+   * Number of connected devices which are kept connected by active monitors.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  pinned: number;
+
+  /**
+   * Number of connection attempts in progress.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  connecting: number;
+
+  /**
+   * Number of connection requests waiting for a slot or for the previous attempt to finish.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  queued: number;
+
+  /**
+   * Number of started connection attempts.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  connectionAttempts: number;
+
+  /**
+   * Number of devices disconnected to make room for other connections.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  evictions: number;
+
+  /**
+   * Number of connection requests which failed after waiting `queueTimeoutMs`.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  queueTimeouts: number;
+
+  /**
+   * Average time in milliseconds started attempts spent in the queue.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  averageWaitMs: number;
+
+  /**
+   * Longest time in milliseconds a started attempt spent in the queue.
+   * @memberof ConnectionPoolStatistics
+   * @instance
+   */
+  maxWaitMs: number;
+}
+
+/**
+ * Characteristic entry of {@link GattSnapshot}.
+ */
+export interface CharacteristicSnapshot {
+  /**
+   * Characteristic object. Its value is always `null`, `isNotifying` is the state at the time the snapshot was taken.
+   * @memberof CharacteristicSnapshot
+   * @instance
+   */
+  characteristic: Characteristic;
+
+  /**
+   * Descriptors of the characteristic with `null` values.
+   * @memberof CharacteristicSnapshot
+   * @instance
+   */
+  descriptors: Array<Descriptor>;
+}
+
+/**
+ * Service entry of {@link GattSnapshot}.
+ */
+export interface ServiceSnapshot {
+  /**
+   * Service object.
+   * @memberof ServiceSnapshot
+   * @instance
+   */
+  service: Service;
+
+  /**
+   * Characteristics of the service.
+   * @memberof ServiceSnapshot
+   * @instance
+   */
+  characteristics: Array<CharacteristicSnapshot>;
+}
+
+/**
+ * Whole discovered attribute tree of a connected device.
+ */
+export interface GattSnapshot {
+  /**
+   * Discovered services.
+   * @memberof GattSnapshot
+   * @instance
+   */
+  services: Array<ServiceSnapshot>;
+}
+
+/**
+ * Characteristic entry of {@link GattLayout}.
+ */
+export interface GattLayoutCharacteristic {
+  /**
+   * {@link Characteristic} UUID.
+   * @memberof GattLayoutCharacteristic
+   * @instance
+   */
+  uuid: UUID;
+
+  /**
+   * True if characteristic can be read.
+   * @memberof GattLayoutCharacteristic
+   * @instance
+   */
+  isReadable: boolean;
+
+  /**
+   * True if characteristic can be written with response.
+   * @memberof GattLayoutCharacteristic
+   * @instance
+   */
+  isWritableWithResponse: boolean;
+
+  /**
+   * True if characteristic can be written without response.
+   * @memberof GattLayoutCharacteristic
+   * @instance
+   */
+  isWritableWithoutResponse: boolean;
+
+  /**
+   * True if characteristic can notify.
+   * @memberof GattLayoutCharacteristic
+   * @instance
+   */
+  isNotifiable: boolean;
+
+  /**
+   * True if characteristic can indicate.
+   * @memberof GattLayoutCharacteristic
+   * @instance
+   */
+  isIndicatable: boolean;
+
+  /**
+   * UUIDs of {@link Descriptor}s of the characteristic.
+   * @memberof GattLayoutCharacteristic
+   * @instance
+   */
+  descriptors: Array<UUID>;
+}
+
+/**
+ * Service entry of {@link GattLayout}.
+ */
+export interface GattLayoutService {
+  /**
+   * {@link Service} UUID.
+   * @memberof GattLayoutService
+   * @instance
+   */
+  uuid: UUID;
+
+  /**
+   * True if service is primary.
+   * @memberof GattLayoutService
+   * @instance
+   */
+  isPrimary: boolean;
+
+  /**
+   * Characteristics of the service.
+   * @memberof GattLayoutService
+   * @instance
+   */
+  characteristics: Array<GattLayoutCharacteristic>;
+}
+
+/**
+ * Service, characteristic and descriptor layout of a device stored by the native module. It contains UUIDs only,
+ * identifiers of {@link Service} and {@link Characteristic} objects are assigned on every discovery.
+ */
+export interface GattLayout {
+  /**
+   * Discovered services.
+   * @memberof GattLayout
+   * @instance
+   */
+  services: Array<GattLayoutService>;
+}
+
+/**
+ * Device Bluetooth Low Energy state. It's keys are used to check {@link #blemanagerstate} values
+ * received by {@link BleManager}
+ */
+export const State = {
+  /**
+   * The current state of the manager is unknown; an update is imminent.
+   */
+  Unknown: 'Unknown',
+  /**
+   * The connection with the system service was momentarily lost; an update is imminent.
+   */
+  Resetting: 'Resetting',
+  /**
+   * The platform does not support Bluetooth low energy.
+   */
+  Unsupported: 'Unsupported',
+  /**
+   * The app is not authorized to use Bluetooth low energy.
+   */
+  Unauthorized: 'Unauthorized',
+  /**
+   * Bluetooth is currently powered off.
+   */
+  PoweredOff: 'PoweredOff',
+  /**
+   * Bluetooth is currently powered on and available to use.
+   */
+  PoweredOn: 'PoweredOn'
+}
+
+/**
+ * Native module logging log level. By default it is set to None.
+ * @name LogLevel
+ */
+export const LogLevel = {
+  /**
+   * Logging in native module is disabled
+   */
+  None: 'None',
+  /**
+   * All logs in native module are shown
+   */
+  Verbose: 'Verbose',
+  /**
+   * Only debug logs and of higher importance are shown in native module.
+   */
+  Debug: 'Debug',
+  /**
+   * Only info logs and of higher importance are shown in native module.
+   */
+  Info: 'Info',
+  /**
+   * Only warning logs and of higher importance are shown in native module.
+   */
+  Warning: 'Warning',
+  /**
+   * Only error logs and of higher importance are shown in native module.
+   */
+  Error: 'Error'
+}
+
+/**
+ * Handling of monitored notifications which arrive when native queue is full. [Android only]
+ * @name OverflowPolicy
+ */
+export const OverflowPolicy = {
+  /**
+   * Oldest queued notification is dropped to make space for the new one.
+   */
+  DropOldest: 'DropOldest',
+  /**
+   * New notification is dropped.
+   */
+  DropNewest: 'DropNewest',
+  /**
+   * All queued notifications are dropped, only the new one is kept.
+   */
+  KeepLatest: 'KeepLatest',
+  /**
+   * Notification thread waits up to `blockTimeoutMs` for free space, which slows down the BLE stack. New
+   * notification is dropped when time runs out.
+   */
+  BlockWithTimeout: 'BlockWithTimeout'
+}
+
+/**
+ * Kind of operation executed by {@link #blemanagerexecuteoperations|executeOperations()}.
+ * @name GattOperationType
+ */
+export const GattOperationType = {
+  /**
+   * Read characteristic value.
+   */
+  Read: 'Read',
+  /**
+   * Write characteristic value.
+   */
+  Write: 'Write',
+  /**
+   * Read descriptor value.
+   */
+  ReadDescriptor: 'ReadDescriptor',
+  /**
+   * Write descriptor value.
+   */
+  WriteDescriptor: 'WriteDescriptor'
+}
+
+/**
+ * Lane of native per device operation queue. [Android only]
+ * @name OperationPriority
+ */
+export const OperationPriority = {
+  /**
+   * Time critical operations, always executed before the other lanes. Should be used sparingly, because it can
+   * starve them.
+   */
+  Control: 'Control',
+  /**
+   * Default lane for operations started by the user interface.
+   */
+  Interactive: 'Interactive',
+  /**
+   * Background transfers. Executed once per every four interactive operations when both lanes are busy.
+   */
+  Bulk: 'Bulk'
+}
+
+/**
+ * State of native reconnection reported by {@link #blemanagerondevicereconnection|onDeviceReconnection()}.
+ * [Android only]
+ * @name ReconnectionState
+ */
+export const ReconnectionState = {
+  /**
+   * Device disconnected unexpectedly or the previous attempt failed, next attempt is scheduled.
+   */
+  Reconnecting: 'Reconnecting',
+  /**
+   * Device is connected again, monitor subscriptions are being restored.
+   */
+  Reconnected: 'Reconnected',
+  /**
+   * All attempts failed, monitor subscriptions ended with the error of the last attempt.
+   */
+  Failed: 'Failed'
 }
 
 /**